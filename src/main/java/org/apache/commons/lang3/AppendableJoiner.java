@@ -70,6 +70,9 @@
  * }
  * }</pre>
  * <p>
+ * Arrays of {@code int} and {@code long} values are joined without intermediate Strings, into a target that grows at most once.
+ * </p>
+ * <p>
  * This class is immutable and thread-safe.
  * </p>
  *
@@ -83,6 +86,18 @@
  */
 public final class AppendableJoiner<T> {
 
+    /**
+     * The powers of ten that fit in a {@code long}, 10<sup>0</sup> through 10<sup>18</sup>.
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     /**
      * Builds instances of {@link AppendableJoiner}.
      *
@@ -240,6 +255,52 @@ private static CharSequence nonNull(final CharSequence value) {
         return value != null ? value : StringUtils.EMPTY;
     }
 
+    /**
+     * Gets the number of chars of {@link String#valueOf(int)} without creating the String.
+     *
+     * @param value the value.
+     * @return the length of the decimal representation of {@code value}.
+     */
+    static int stringLength(final int value) {
+        if (value == Integer.MIN_VALUE) {
+            return 11;
+        }
+        // or-ing in the low bit counts 0 as one digit and never crosses a power of ten
+        final int magnitude = Math.abs(value) | 1;
+        // the bit length times log10(2) is the number of digits or one less
+        final int digits = (Integer.SIZE - Integer.numberOfLeadingZeros(magnitude)) * 1233 >>> 12;
+        return digits + (magnitude >= (int) POWERS_OF_TEN[digits] ? 1 : 0) + (value < 0 ? 1 : 0);
+    }
+
+    /**
+     * Gets the number of chars of {@link String#valueOf(long)} without creating the String.
+     *
+     * @param value the value.
+     * @return the length of the decimal representation of {@code value}.
+     */
+    static int stringLength(final long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        final long magnitude = Math.abs(value) | 1;
+        final int digits = (Long.SIZE - Long.numberOfLeadingZeros(magnitude)) * 1233 >>> 12;
+        return digits + (magnitude >= POWERS_OF_TEN[digits] ? 1 : 0) + (value < 0 ? 1 : 0);
+    }
+
+    /**
+     * Narrows a computed output length to a {@link StringBuilder} capacity.
+     *
+     * @param length the number of chars to hold.
+     * @return {@code length}.
+     * @throws OutOfMemoryError if {@code length} is greater than {@link Integer#MAX_VALUE}.
+     */
+    static int toCapacity(final long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required length exceeds implementation limit: " + length);
+        }
+        return (int) length;
+    }
+
     /** The sequence of characters to be used at the beginning. */
     private final CharSequence prefix;
 
@@ -262,6 +323,62 @@ private AppendableJoiner(final CharSequence prefix, final CharSequence suffix, f
         this.appender = appender != null ? appender : (a, e) -> a.append(String.valueOf(e));
     }
 
+    /**
+     * Joins {@code int} values into a StringBuilder, growing it at most once and appending the numbers without intermediate Strings.
+     * <p>
+     * The element appender does not apply to primitive values.
+     * </p>
+     *
+     * @param stringBuilder The target.
+     * @param elements      The source, may be null.
+     * @return the given target StringBuilder.
+     * @since 3.18.0
+     */
+    public StringBuilder join(final StringBuilder stringBuilder, final int[] elements) {
+        final int count = elements != null ? elements.length : 0;
+        long length = joinLength(count);
+        for (int i = 0; i < count; i++) {
+            length += stringLength(elements[i]);
+        }
+        stringBuilder.ensureCapacity(toCapacity(stringBuilder.length() + length));
+        stringBuilder.append(prefix);
+        if (count > 0) {
+            stringBuilder.append(elements[0]);
+            for (int i = 1; i < count; i++) {
+                stringBuilder.append(delimiter).append(elements[i]);
+            }
+        }
+        return stringBuilder.append(suffix);
+    }
+
+    /**
+     * Joins {@code long} values into a StringBuilder, growing it at most once and appending the numbers without intermediate Strings.
+     * <p>
+     * The element appender does not apply to primitive values.
+     * </p>
+     *
+     * @param stringBuilder The target.
+     * @param elements      The source, may be null.
+     * @return the given target StringBuilder.
+     * @since 3.18.0
+     */
+    public StringBuilder join(final StringBuilder stringBuilder, final long[] elements) {
+        final int count = elements != null ? elements.length : 0;
+        long length = joinLength(count);
+        for (int i = 0; i < count; i++) {
+            length += stringLength(elements[i]);
+        }
+        stringBuilder.ensureCapacity(toCapacity(stringBuilder.length() + length));
+        stringBuilder.append(prefix);
+        if (count > 0) {
+            stringBuilder.append(elements[0]);
+            for (int i = 1; i < count; i++) {
+                stringBuilder.append(delimiter).append(elements[i]);
+            }
+        }
+        return stringBuilder.append(suffix);
+    }
+
     /**
      * Joins stringified objects from the given Iterable into a StringBuilder.
      *
@@ -284,6 +401,52 @@ public StringBuilder join(final StringBuilder stringBuilder, @SuppressWarnings("
         return joinSB(stringBuilder, prefix, suffix, delimiter, appender, elements);
     }
 
+    /**
+     * Joins {@code int} values into an Appendable.
+     * <p>
+     * A {@link StringBuilder} target is joined into directly, see {@link #join(StringBuilder, int[])}; any other target receives the whole output in one
+     * call to {@link Appendable#append(CharSequence)}.
+     * </p>
+     *
+     * @param <A>        the Appendable type.
+     * @param appendable The target.
+     * @param elements   The source, may be null.
+     * @return The given Appendable.
+     * @throws IOException If an I/O error occurs
+     * @since 3.18.0
+     */
+    public <A extends Appendable> A joinA(final A appendable, final int[] elements) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            join((StringBuilder) appendable, elements);
+        } else {
+            appendable.append(join(new StringBuilder(), elements));
+        }
+        return appendable;
+    }
+
+    /**
+     * Joins {@code long} values into an Appendable.
+     * <p>
+     * A {@link StringBuilder} target is joined into directly, see {@link #join(StringBuilder, long[])}; any other target receives the whole output in one
+     * call to {@link Appendable#append(CharSequence)}.
+     * </p>
+     *
+     * @param <A>        the Appendable type.
+     * @param appendable The target.
+     * @param elements   The source, may be null.
+     * @return The given Appendable.
+     * @throws IOException If an I/O error occurs
+     * @since 3.18.0
+     */
+    public <A extends Appendable> A joinA(final A appendable, final long[] elements) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            join((StringBuilder) appendable, elements);
+        } else {
+            appendable.append(join(new StringBuilder(), elements));
+        }
+        return appendable;
+    }
+
     /**
      * Joins stringified objects from the given Iterable into an Appendable.
      *
@@ -310,4 +473,14 @@ public <A extends Appendable> A joinA(final A appendable, @SuppressWarnings("unc
         return joinA(appendable, prefix, suffix, delimiter, appender, elements);
     }
 
+    /**
+     * Gets the number of chars of the prefix, suffix, and delimiters when joining a number of elements.
+     *
+     * @param count the number of elements.
+     * @return the length of the output without the elements.
+     */
+    private long joinLength(final int count) {
+        return prefix.length() + suffix.length() + (long) Math.max(0, count - 1) * delimiter.length();
+    }
+
 }
@@ -0,0 +1,999 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.builder.Builder;
+
+/**
+ * Builds an array incrementally, growing its storage geometrically so that appending {@code n} elements costs {@code O(n)} overall.
+ * <p>
+ * {@link ArrayUtils#add(int[], int)} and its siblings copy the whole input array on every call, so a loop that appends with them is quadratic. A builder
+ * keeps spare capacity instead and trims it once, in {@link #toArray()}. The primitive builders store primitives and never box.
+ * </p>
+ * <p>
+ * For example:
+ * </p>
+ * <pre>{@code
+ * ArrayBuilder.OfInt builder = ArrayBuilder.ofInt();
+ * for (String s : strings) {
+ *     builder.add(s.length());
+ * }
+ * int[] lengths = builder.toArray();
+ * }</pre>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @param <A> the array type built, for example {@code int[]} or {@code String[]}.
+ * @since 3.18.0
+ */
+public abstract class ArrayBuilder<A> implements Builder<A> {
+
+    /**
+     * The capacity of the first storage array.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The largest array length that most VMs can allocate, some reserve header words in an array.
+     */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Builds {@code boolean} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfBoolean extends ArrayBuilder<boolean[]> {
+
+        private boolean[] elements = ArrayUtils.EMPTY_BOOLEAN_ARRAY;
+
+        private OfBoolean() {
+            // use ArrayBuilder.ofBoolean()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfBoolean add(final boolean element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfBoolean addAll(final boolean... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfBoolean addAll(final Iterable<Boolean> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public boolean[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_BOOLEAN_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code byte} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfByte extends ArrayBuilder<byte[]> {
+
+        private byte[] elements = ArrayUtils.EMPTY_BYTE_ARRAY;
+
+        private OfByte() {
+            // use ArrayBuilder.ofByte()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfByte add(final byte element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfByte addAll(final byte... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfByte addAll(final Iterable<Byte> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public byte[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_BYTE_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code char} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfChar extends ArrayBuilder<char[]> {
+
+        private char[] elements = ArrayUtils.EMPTY_CHAR_ARRAY;
+
+        private OfChar() {
+            // use ArrayBuilder.ofChar()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfChar add(final char element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfChar addAll(final char... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfChar addAll(final Iterable<Character> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public char[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_CHAR_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code double} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfDouble extends ArrayBuilder<double[]> {
+
+        private double[] elements = ArrayUtils.EMPTY_DOUBLE_ARRAY;
+
+        private OfDouble() {
+            // use ArrayBuilder.ofDouble()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfDouble add(final double element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfDouble addAll(final double... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfDouble addAll(final Iterable<Double> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Appends all elements of a stream, sizing the storage once when the stream knows its size.
+         *
+         * @param stream the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code stream} is {@code null}.
+         */
+        public OfDouble addAll(final DoubleStream stream) {
+            final Spliterator.OfDouble spliterator = Objects.requireNonNull(stream, "stream").spliterator();
+            ensureCapacity(size + exactSize(spliterator));
+            spliterator.forEachRemaining((DoubleConsumer) this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public double[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_DOUBLE_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code float} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfFloat extends ArrayBuilder<float[]> {
+
+        private float[] elements = ArrayUtils.EMPTY_FLOAT_ARRAY;
+
+        private OfFloat() {
+            // use ArrayBuilder.ofFloat()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfFloat add(final float element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfFloat addAll(final float... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfFloat addAll(final Iterable<Float> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public float[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_FLOAT_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code int} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfInt extends ArrayBuilder<int[]> {
+
+        private int[] elements = ArrayUtils.EMPTY_INT_ARRAY;
+
+        private OfInt() {
+            // use ArrayBuilder.ofInt()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfInt add(final int element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfInt addAll(final int... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfInt addAll(final Iterable<Integer> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Appends all elements of a stream, sizing the storage once when the stream knows its size.
+         *
+         * @param stream the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code stream} is {@code null}.
+         */
+        public OfInt addAll(final IntStream stream) {
+            final Spliterator.OfInt spliterator = Objects.requireNonNull(stream, "stream").spliterator();
+            ensureCapacity(size + exactSize(spliterator));
+            spliterator.forEachRemaining((IntConsumer) this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public int[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_INT_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code long} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfLong extends ArrayBuilder<long[]> {
+
+        private long[] elements = ArrayUtils.EMPTY_LONG_ARRAY;
+
+        private OfLong() {
+            // use ArrayBuilder.ofLong()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfLong add(final long element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfLong addAll(final long... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfLong addAll(final Iterable<Long> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Appends all elements of a stream, sizing the storage once when the stream knows its size.
+         *
+         * @param stream the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code stream} is {@code null}.
+         */
+        public OfLong addAll(final LongStream stream) {
+            final Spliterator.OfLong spliterator = Objects.requireNonNull(stream, "stream").spliterator();
+            ensureCapacity(size + exactSize(spliterator));
+            spliterator.forEachRemaining((LongConsumer) this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public long[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_LONG_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds object arrays of a given component type.
+     *
+     * @param <T> the component type.
+     * @since 3.18.0
+     */
+    public static final class OfObject<T> extends ArrayBuilder<T[]> {
+
+        private T[] elements;
+
+        private OfObject(final Class<T> componentType) {
+            Objects.requireNonNull(componentType, "componentType");
+            Validate.isTrue(!componentType.isPrimitive(), "Not a reference type, use ofInt() and similar for primitive arrays: %s", componentType);
+            elements = ArrayUtils.newInstance(componentType, 0);
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfObject<T> add(final T element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfObject<T> addAll(final T[] array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} is {@code null}.
+         */
+        public OfObject<T> addAll(final Iterable<? extends T> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Appends all elements of a stream, sizing the storage once when the stream knows its size.
+         *
+         * @param stream the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code stream} is {@code null}.
+         */
+        public OfObject<T> addAll(final Stream<? extends T> stream) {
+            final Spliterator<? extends T> spliterator = Objects.requireNonNull(stream, "stream").spliterator();
+            ensureCapacity(size + exactSize(spliterator));
+            spliterator.forEachRemaining(this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        /**
+         * Removes all elements and releases the references to them; the capacity is kept.
+         */
+        @Override
+        public void clear() {
+            Arrays.fill(elements, 0, size, null);
+            super.clear();
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The returned array has the component type given to {@link ArrayBuilder#of(Class)}.
+         * </p>
+         */
+        @Override
+        public T[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Builds {@code short} arrays.
+     *
+     * @since 3.18.0
+     */
+    public static final class OfShort extends ArrayBuilder<short[]> {
+
+        private short[] elements = ArrayUtils.EMPTY_SHORT_ARRAY;
+
+        private OfShort() {
+            // use ArrayBuilder.ofShort()
+        }
+
+        /**
+         * Appends an element.
+         *
+         * @param element the element to append.
+         * @return {@code this} instance.
+         */
+        public OfShort add(final short element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Appends all elements of an array.
+         *
+         * @param array the elements to append, may be {@code null}.
+         * @return {@code this} instance.
+         */
+        public OfShort addAll(final short... array) {
+            if (array != null) {
+                ensureCapacity(size + array.length);
+                System.arraycopy(array, 0, elements, size, array.length);
+                size += array.length;
+            }
+            return this;
+        }
+
+        /**
+         * Appends all elements of an {@link Iterable}, unboxing each one.
+         *
+         * @param iterable the elements to append.
+         * @return {@code this} instance.
+         * @throws NullPointerException if {@code iterable} or one of its elements is {@code null}.
+         */
+        public OfShort addAll(final Iterable<Short> iterable) {
+            Objects.requireNonNull(iterable, "iterable");
+            if (iterable instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) iterable).size());
+            }
+            iterable.forEach(this::add);
+            return this;
+        }
+
+        @Override
+        int capacity() {
+            return elements.length;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (minCapacity < 0 || minCapacity > elements.length) {
+                elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+            }
+        }
+
+        @Override
+        public short[] toArray() {
+            return size == 0 ? ArrayUtils.EMPTY_SHORT_ARRAY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Gets the size of a spliterator if known and not larger than an array can be.
+     *
+     * @param spliterator the spliterator to query.
+     * @return the exact size, 0 if unknown, or {@link Integer#MAX_VALUE} if larger.
+     */
+    static int exactSize(final Spliterator<?> spliterator) {
+        final long exactSize = spliterator.getExactSizeIfKnown();
+        return exactSize < 0 ? 0 : (int) Math.min(exactSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Computes the capacity to grow to: at least half again the old capacity, and at least {@code minCapacity}.
+     *
+     * @param oldCapacity the current capacity.
+     * @param minCapacity the required capacity, negative if the required capacity overflowed.
+     * @return the new capacity.
+     * @throws OutOfMemoryError if {@code minCapacity} overflowed.
+     */
+    static int newCapacity(final int oldCapacity, final int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        final long grown = Math.max(DEFAULT_CAPACITY, oldCapacity + (long) (oldCapacity >> 1));
+        return (int) Math.max(minCapacity, Math.min(grown, MAX_ARRAY_LENGTH));
+    }
+
+    /**
+     * Creates a new builder of {@code boolean} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfBoolean ofBoolean() {
+        return new OfBoolean();
+    }
+
+    /**
+     * Creates a new builder of {@code byte} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfByte ofByte() {
+        return new OfByte();
+    }
+
+    /**
+     * Creates a new builder of {@code char} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfChar ofChar() {
+        return new OfChar();
+    }
+
+    /**
+     * Creates a new builder of {@code double} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfDouble ofDouble() {
+        return new OfDouble();
+    }
+
+    /**
+     * Creates a new builder of {@code float} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfFloat ofFloat() {
+        return new OfFloat();
+    }
+
+    /**
+     * Creates a new builder of {@code int} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfInt ofInt() {
+        return new OfInt();
+    }
+
+    /**
+     * Creates a new builder of {@code long} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfLong ofLong() {
+        return new OfLong();
+    }
+
+    /**
+     * Creates a new builder of object arrays.
+     * <p>
+     * For arrays of a primitive type, use the matching builder instead, such as {@link #ofInt()} or {@link #ofLong()}.
+     * </p>
+     *
+     * @param <T> the component type.
+     * @param componentType the component type of the arrays built, not {@code null}.
+     * @return a new, empty builder.
+     * @throws NullPointerException if {@code componentType} is {@code null}.
+     * @throws IllegalArgumentException if {@code componentType} is a primitive type such as {@code int.class}.
+     * @see #ofInt()
+     */
+    public static <T> OfObject<T> of(final Class<T> componentType) {
+        return new OfObject<>(componentType);
+    }
+
+    /**
+     * Creates a new builder of {@code short} arrays.
+     *
+     * @return a new, empty builder.
+     */
+    public static OfShort ofShort() {
+        return new OfShort();
+    }
+
+    /**
+     * The number of elements added.
+     */
+    int size;
+
+    /**
+     * Constructs a new instance for a subclass.
+     */
+    ArrayBuilder() {
+        // only the nested classes
+    }
+
+    /**
+     * Returns a trimmed copy of the elements added, same as {@link #toArray()}.
+     *
+     * @return an array of length {@link #size()}, never the builder's storage.
+     */
+    @Override
+    public A build() {
+        return toArray();
+    }
+
+    /**
+     * Gets the length of the storage array.
+     *
+     * @return the capacity.
+     */
+    abstract int capacity();
+
+    /**
+     * Removes all elements; the capacity is kept.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Tests whether no elements were added.
+     *
+     * @return whether no elements were added.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of elements added.
+     *
+     * @return the number of elements added.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a trimmed copy of the elements added, in the order they were added. The builder can be used further afterwards.
+     *
+     * @return an array of length {@link #size()}, never the builder's storage.
+     */
+    public abstract A toArray();
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size + ", capacity=" + capacity() + "]";
+    }
+}
@@ -19,6 +19,9 @@
 
 import java.util.Arrays;
 import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
 
 import org.apache.commons.lang3.function.FailableIntFunction;
 
@@ -192,6 +195,108 @@ public static <T> T[] fill(final T[] a, final T val) {
         return a;
     }
 
+    /**
+     * Fills and returns the given array, using the provided generator to compute each element, in parallel if the array is large.
+     * <p>
+     * Arrays shorter than {@value ArraySorter#PARALLEL_THRESHOLD} elements are filled sequentially by {@link Arrays#setAll(double[], IntToDoubleFunction)}.
+     * Larger arrays are filled by {@link Arrays#parallelSetAll(double[], IntToDoubleFunction)} in the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, so the generator must be safe to call from several threads at once.
+     * </p>
+     *
+     * @param array the array to be filled (may be null).
+     * @param generator a function accepting an index and producing the desired value for that position (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSetAll(double[], IntToDoubleFunction)
+     * @since 3.18.0
+     */
+    public static double[] parallelFill(final double[] array, final IntToDoubleFunction generator) {
+        if (array != null && generator != null) {
+            if (array.length < ArraySorter.PARALLEL_THRESHOLD) {
+                Arrays.setAll(array, generator);
+            } else {
+                Arrays.parallelSetAll(array, generator);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Fills and returns the given array, using the provided generator to compute each element, in parallel if the array is large.
+     * <p>
+     * Arrays shorter than {@value ArraySorter#PARALLEL_THRESHOLD} elements are filled sequentially by {@link Arrays#setAll(int[], IntUnaryOperator)}. Larger
+     * arrays are filled by {@link Arrays#parallelSetAll(int[], IntUnaryOperator)} in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, so
+     * the generator must be safe to call from several threads at once.
+     * </p>
+     *
+     * @param array the array to be filled (may be null).
+     * @param generator a function accepting an index and producing the desired value for that position (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSetAll(int[], IntUnaryOperator)
+     * @since 3.18.0
+     */
+    public static int[] parallelFill(final int[] array, final IntUnaryOperator generator) {
+        if (array != null && generator != null) {
+            if (array.length < ArraySorter.PARALLEL_THRESHOLD) {
+                Arrays.setAll(array, generator);
+            } else {
+                Arrays.parallelSetAll(array, generator);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Fills and returns the given array, using the provided generator to compute each element, in parallel if the array is large.
+     * <p>
+     * Arrays shorter than {@value ArraySorter#PARALLEL_THRESHOLD} elements are filled sequentially by {@link Arrays#setAll(long[], IntToLongFunction)}. Larger
+     * arrays are filled by {@link Arrays#parallelSetAll(long[], IntToLongFunction)} in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * so the generator must be safe to call from several threads at once.
+     * </p>
+     *
+     * @param array the array to be filled (may be null).
+     * @param generator a function accepting an index and producing the desired value for that position (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSetAll(long[], IntToLongFunction)
+     * @since 3.18.0
+     */
+    public static long[] parallelFill(final long[] array, final IntToLongFunction generator) {
+        if (array != null && generator != null) {
+            if (array.length < ArraySorter.PARALLEL_THRESHOLD) {
+                Arrays.setAll(array, generator);
+            } else {
+                Arrays.parallelSetAll(array, generator);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Fills and returns the given array, using the provided generator to compute each element, in parallel if the array is large.
+     * <p>
+     * Arrays shorter than {@value ArraySorter#PARALLEL_THRESHOLD} elements are filled sequentially by {@link Arrays#setAll(Object[], IntFunction)}. Larger
+     * arrays are filled by {@link Arrays#parallelSetAll(Object[], IntFunction)} in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, so
+     * the generator must be safe to call from several threads at once. Unlike {@link #fill(Object[], FailableIntFunction)}, the generator cannot throw checked
+     * exceptions.
+     * </p>
+     *
+     * @param <T> type of elements of the array.
+     * @param array the array to be filled (may be null).
+     * @param generator a function accepting an index and producing the desired value for that position (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSetAll(Object[], IntFunction)
+     * @since 3.18.0
+     */
+    public static <T> T[] parallelFill(final T[] array, final IntFunction<? extends T> generator) {
+        if (array != null && generator != null) {
+            if (array.length < ArraySorter.PARALLEL_THRESHOLD) {
+                Arrays.setAll(array, generator);
+            } else {
+                Arrays.parallelSetAll(array, generator);
+            }
+        }
+        return array;
+    }
+
     private ArrayFill() {
         // no instances
     }
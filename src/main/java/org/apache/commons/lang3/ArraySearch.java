@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Searches {@code byte} arrays eight elements at a time, reading them as {@code long} words and testing all eight bytes of a word with a few arithmetic
+ * operations (SIMD within a register).
+ * <p>
+ * Words are read with {@link ByteBuffer#getLong(int)}, which Java 9 and above compile to a single unaligned load. Java 8 assembles each word byte by byte,
+ * so there, and for short ranges, the plain loop is used.
+ * </p>
+ */
+final class ArraySearch {
+
+    /**
+     * Whether word reads are cheap on the running VM.
+     */
+    static final boolean WORD_READS = SystemUtils.isJavaVersionAtLeast(JavaVersion.JAVA_9);
+
+    /**
+     * The shortest range searched a word at a time.
+     */
+    static final int WORD_THRESHOLD = 16;
+
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * Finds the first index of a value, from a start index.
+     *
+     * @param array the array to search, not {@code null}.
+     * @param value the value to find.
+     * @param startIndex the index to start at, not negative.
+     * @return the index of the value, or {@link ArrayUtils#INDEX_NOT_FOUND}.
+     */
+    static int indexOf(final byte[] array, final byte value, final int startIndex) {
+        if (WORD_READS && array.length - startIndex >= WORD_THRESHOLD) {
+            return indexOfWords(array, value, startIndex);
+        }
+        for (int i = startIndex; i < array.length; i++) {
+            if (value == array[i]) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the first index of a value a word at a time, and the tail byte by byte.
+     *
+     * @param array the array to search, not {@code null}.
+     * @param value the value to find.
+     * @param startIndex the index to start at, not negative.
+     * @return the index of the value, or {@link ArrayUtils#INDEX_NOT_FOUND}.
+     */
+    static int indexOfWords(final byte[] array, final byte value, final int startIndex) {
+        final ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+        final long pattern = (value & 0xFFL) * ONES;
+        final int lastWord = array.length - Long.BYTES;
+        int i = startIndex;
+        for (; i <= lastWord; i += Long.BYTES) {
+            final long zeros = zeroBytes(buffer.getLong(i) ^ pattern);
+            if (zeros != 0) {
+                return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i < array.length; i++) {
+            if (value == array[i]) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of a value, searching backwards from a start index.
+     *
+     * @param array the array to search, not {@code null}.
+     * @param value the value to find.
+     * @param startIndex the index to start at, at least 0 and less than the array length.
+     * @return the index of the value, or {@link ArrayUtils#INDEX_NOT_FOUND}.
+     */
+    static int lastIndexOf(final byte[] array, final byte value, final int startIndex) {
+        if (WORD_READS && startIndex + 1 >= WORD_THRESHOLD) {
+            return lastIndexOfWords(array, value, startIndex);
+        }
+        for (int i = startIndex; i >= 0; i--) {
+            if (value == array[i]) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of a value a word at a time, and the head byte by byte.
+     *
+     * @param array the array to search, not {@code null}.
+     * @param value the value to find.
+     * @param startIndex the index to start at, at least 0 and less than the array length.
+     * @return the index of the value, or {@link ArrayUtils#INDEX_NOT_FOUND}.
+     */
+    static int lastIndexOfWords(final byte[] array, final byte value, final int startIndex) {
+        final ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+        final long pattern = (value & 0xFFL) * ONES;
+        // i is the last index covered by the next word
+        int i = startIndex;
+        for (; i >= Long.BYTES - 1; i -= Long.BYTES) {
+            final long zeros = zeroBytes(buffer.getLong(i - (Long.BYTES - 1)) ^ pattern);
+            if (zeros != 0) {
+                return i - (Long.BYTES - 1) + (Long.SIZE - 1 - Long.numberOfLeadingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i >= 0; i--) {
+            if (value == array[i]) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Marks the zero bytes of a word: the high bit of each byte of the result is set if and only if that byte of the word is zero, and all other bits are
+     * clear. Unlike the shorter {@code (word - ONES) & ~word & HIGH_BITS}, no borrow crosses bytes, so the highest marked byte is exact too.
+     *
+     * @param word the word to test.
+     * @return the zero byte marks.
+     */
+    static long zeroBytes(final long word) {
+        return ~((word & LOW_BITS) + LOW_BITS | word | LOW_BITS);
+    }
+
+    private ArraySearch() {
+        // no instances
+    }
+}
@@ -27,6 +27,216 @@
  */
 public class ArraySorter {
 
+    /**
+     * The shortest array sorted in parallel, and filled in parallel by {@link ArrayFill}; shorter arrays are processed sequentially. Splitting smaller
+     * arrays across threads costs more than it saves; the JDK uses the same granularity inside {@link Arrays#parallelSort(int[])}.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(byte[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(byte[])
+     * @since 3.18.0
+     */
+    public static byte[] parallelSort(final byte[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(char[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(char[])
+     * @since 3.18.0
+     */
+    public static char[] parallelSort(final char[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(double[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(double[])
+     * @since 3.18.0
+     */
+    public static double[] parallelSort(final double[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(float[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(float[])
+     * @since 3.18.0
+     */
+    public static float[] parallelSort(final float[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(int[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(int[])
+     * @since 3.18.0
+     */
+    public static int[] parallelSort(final int[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(long[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(long[])
+     * @since 3.18.0
+     */
+    public static long[] parallelSort(final long[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by {@link Arrays#parallelSort(short[])}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(short[])
+     * @since 3.18.0
+     */
+    public static short[] parallelSort(final short[] array) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array);
+            } else {
+                Arrays.parallelSort(array);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Sorts the given array into the natural ascending order of its elements, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by
+     * {@link Arrays#parallelSort(Comparable[])} in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T> the array type.
+     * @param array the array to sort (may be null).
+     * @return the given array.
+     * @see Arrays#parallelSort(Comparable[])
+     * @since 3.18.0
+     */
+    public static <T> T[] parallelSort(final T[] array) {
+        return parallelSort(array, null);
+    }
+
+    /**
+     * Sorts the given array into ascending order, in parallel if it is large, and returns it.
+     * <p>
+     * Arrays shorter than {@value #PARALLEL_THRESHOLD} elements are sorted sequentially. Larger arrays are sorted by
+     * {@link Arrays#parallelSort(Object[], Comparator)} in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T> the array type.
+     * @param array the array to sort (may be null).
+     * @param comparator the comparator to determine the order of the array. A {@code null} value uses the elements'
+     *        {@link Comparable natural ordering}.
+     * @return the given array.
+     * @see Arrays#parallelSort(Object[], Comparator)
+     * @since 3.18.0
+     */
+    public static <T> T[] parallelSort(final T[] array, final Comparator<? super T> comparator) {
+        if (array != null) {
+            if (array.length < PARALLEL_THRESHOLD) {
+                Arrays.sort(array, comparator);
+            } else {
+                Arrays.parallelSort(array, comparator);
+            }
+        }
+        return array;
+    }
+
     /**
      * Sorts the given array into ascending order and returns it.
      *
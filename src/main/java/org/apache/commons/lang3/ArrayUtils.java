@@ -210,6 +210,7 @@ public class ArrayUtils {
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static boolean[] add(final boolean[] array, final boolean element) {
@@ -273,6 +274,7 @@ public static boolean[] add(final boolean[] array, final int index, final boolea
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static byte[] add(final byte[] array, final byte element) {
@@ -337,6 +339,7 @@ public static byte[] add(final byte[] array, final int index, final byte element
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static char[] add(final char[] array, final char element) {
@@ -403,6 +406,7 @@ public static char[] add(final char[] array, final int index, final char element
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static double[] add(final double[] array, final double element) {
@@ -467,6 +471,7 @@ public static double[] add(final double[] array, final int index, final double e
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static float[] add(final float[] array, final float element) {
@@ -531,6 +536,7 @@ public static float[] add(final float[] array, final int index, final float elem
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static int[] add(final int[] array, final int element) {
@@ -631,6 +637,7 @@ public static long[] add(final long[] array, final int index, final long element
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static long[] add(final long[] array, final long element) {
@@ -727,6 +734,7 @@ public static short[] add(final short[] array, final int index, final short elem
      * @param array  the array to copy and add the element to, may be {@code null}
      * @param element  the object to add at the last index of the new array
      * @return A new array containing the existing elements plus the new element
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static short[] add(final short[] array, final short element) {
@@ -809,6 +817,7 @@ public static <T> T[] add(final T[] array, final int index, final T element) {
      * in which case it will have the same type as the element.
      * If both are null, an IllegalArgumentException is thrown
      * @throws IllegalArgumentException if both arguments are null
+     * @see ArrayBuilder
      * @since 2.1
      */
     public static <T> T[] add(final T[] array, final T element) {
@@ -2427,12 +2436,7 @@ public static int indexOf(final byte[] array, final byte valueToFind, final int
         if (array == null) {
             return INDEX_NOT_FOUND;
         }
-        for (int i = max0(startIndex); i < array.length; i++) {
-            if (valueToFind == array[i]) {
-                return i;
-            }
-        }
-        return INDEX_NOT_FOUND;
+        return ArraySearch.indexOf(array, valueToFind, max0(startIndex));
     }
 
     /**
@@ -3601,6 +3605,7 @@ public static boolean isSorted(final boolean[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final byte[] array) {
@@ -3624,6 +3629,7 @@ public static boolean isSorted(final byte[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final char[] array) {
@@ -3647,6 +3653,7 @@ public static boolean isSorted(final char[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final double[] array) {
@@ -3670,6 +3677,7 @@ public static boolean isSorted(final double[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final float[] array) {
@@ -3693,6 +3701,7 @@ public static boolean isSorted(final float[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final int[] array) {
@@ -3716,6 +3725,7 @@ public static boolean isSorted(final int[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final long[] array) {
@@ -3739,6 +3749,7 @@ public static boolean isSorted(final long[] array) {
      *
      * @param array the array to check
      * @return whether the array is sorted according to natural ordering
+     * @see SortedArrays
      * @since 3.4
      */
     public static boolean isSorted(final short[] array) {
@@ -3764,6 +3775,7 @@ public static boolean isSorted(final short[] array) {
      * @param array the array to check
      * @param <T> the datatype of the array to check, it must implement {@link Comparable}
      * @return whether the array is sorted
+     * @see SortedArrays
      * @since 3.4
      */
     public static <T extends Comparable<? super T>> boolean isSorted(final T[] array) {
@@ -3882,12 +3894,7 @@ public static int lastIndexOf(final byte[] array, final byte valueToFind, int st
         if (startIndex >= array.length) {
             startIndex = array.length - 1;
         }
-        for (int i = startIndex; i >= 0; i--) {
-            if (valueToFind == array[i]) {
-                return i;
-            }
-        }
-        return INDEX_NOT_FOUND;
+        return startIndex < 0 ? INDEX_NOT_FOUND : ArraySearch.lastIndexOf(array, valueToFind, startIndex);
     }
 
     /**
@@ -5317,7 +5324,20 @@ static Object removeAll(final Object array, final BitSet indices) {
 //            throw new IndexOutOfBoundsException("Index: " + (maxIndex-1) + ", Length: " + srcLength);
 //        }
         final int removals = indices.cardinality(); // true bits are items to remove
-        final Object result = Array.newInstance(array.getClass().getComponentType(), srcLength - removals);
+        return removeAll(array, srcLength, indices, Array.newInstance(array.getClass().getComponentType(), srcLength - removals));
+    }
+
+    /**
+     * Copies the elements of an array whose indices are not set to a result array that has room for them.
+     *
+     * @param <A> the array type.
+     * @param array the input array, will not be modified.
+     * @param srcLength the length of the input array.
+     * @param indices the indices to skip.
+     * @param result the array to copy to.
+     * @return {@code result}.
+     */
+    private static <A> A removeAll(final A array, final int srcLength, final BitSet indices, final A result) {
         int srcIndex = 0;
         int destIndex = 0;
         int count;
@@ -5472,7 +5492,7 @@ public static <T> T[] removeAll(final T[] array, final int... indices) {
      */
     @Deprecated
     public static boolean[] removeAllOccurences(final boolean[] array, final boolean element) {
-        return (boolean[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5491,7 +5511,7 @@ public static boolean[] removeAllOccurences(final boolean[] array, final boolean
      */
     @Deprecated
     public static byte[] removeAllOccurences(final byte[] array, final byte element) {
-        return (byte[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5510,7 +5530,7 @@ public static byte[] removeAllOccurences(final byte[] array, final byte element)
      */
     @Deprecated
     public static char[] removeAllOccurences(final char[] array, final char element) {
-        return (char[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5529,7 +5549,7 @@ public static char[] removeAllOccurences(final char[] array, final char element)
      */
     @Deprecated
     public static double[] removeAllOccurences(final double[] array, final double element) {
-        return (double[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5548,7 +5568,7 @@ public static double[] removeAllOccurences(final double[] array, final double el
      */
     @Deprecated
     public static float[] removeAllOccurences(final float[] array, final float element) {
-        return (float[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5567,7 +5587,7 @@ public static float[] removeAllOccurences(final float[] array, final float eleme
      */
     @Deprecated
     public static int[] removeAllOccurences(final int[] array, final int element) {
-        return (int[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5586,7 +5606,7 @@ public static int[] removeAllOccurences(final int[] array, final int element) {
      */
     @Deprecated
     public static long[] removeAllOccurences(final long[] array, final long element) {
-        return (long[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5605,7 +5625,7 @@ public static long[] removeAllOccurences(final long[] array, final long element)
      */
     @Deprecated
     public static short[] removeAllOccurences(final short[] array, final short element) {
-        return (short[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5625,7 +5645,7 @@ public static short[] removeAllOccurences(final short[] array, final short eleme
      */
     @Deprecated
     public static <T> T[] removeAllOccurences(final T[] array, final T element) {
-        return (T[]) removeAll((Object) array, indexesOf(array, element));
+        return removeAllOccurrences(array, element);
     }
 
     /**
@@ -5642,7 +5662,23 @@ public static <T> T[] removeAllOccurences(final T[] array, final T element) {
      * @since 3.10
      */
     public static boolean[] removeAllOccurrences(final boolean[] array, final boolean element) {
-        return (boolean[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final boolean e : array) {
+            if (e == element) {
+                removals++;
+            }
+        }
+        final boolean[] result = new boolean[array.length - removals];
+        int j = 0;
+        for (final boolean e : array) {
+            if (e != element) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5659,7 +5695,23 @@ public static boolean[] removeAllOccurrences(final boolean[] array, final boolea
      * @since 3.10
      */
     public static byte[] removeAllOccurrences(final byte[] array, final byte element) {
-        return (byte[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final byte e : array) {
+            if (e == element) {
+                removals++;
+            }
+        }
+        final byte[] result = new byte[array.length - removals];
+        int j = 0;
+        for (final byte e : array) {
+            if (e != element) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5676,7 +5728,23 @@ public static byte[] removeAllOccurrences(final byte[] array, final byte element
      * @since 3.10
      */
     public static char[] removeAllOccurrences(final char[] array, final char element) {
-        return (char[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final char e : array) {
+            if (e == element) {
+                removals++;
+            }
+        }
+        final char[] result = new char[array.length - removals];
+        int j = 0;
+        for (final char e : array) {
+            if (e != element) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5693,7 +5761,24 @@ public static char[] removeAllOccurrences(final char[] array, final char element
      * @since 3.10
      */
     public static double[] removeAllOccurrences(final double[] array, final double element) {
-        return (double[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        final boolean searchNaN = Double.isNaN(element);
+        int removals = 0;
+        for (final double e : array) {
+            if (element == e || searchNaN && Double.isNaN(e)) {
+                removals++;
+            }
+        }
+        final double[] result = new double[array.length - removals];
+        int j = 0;
+        for (final double e : array) {
+            if (!(element == e || searchNaN && Double.isNaN(e))) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5710,7 +5795,24 @@ public static double[] removeAllOccurrences(final double[] array, final double e
      * @since 3.10
      */
     public static float[] removeAllOccurrences(final float[] array, final float element) {
-        return (float[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        final boolean searchNaN = Float.isNaN(element);
+        int removals = 0;
+        for (final float e : array) {
+            if (element == e || searchNaN && Float.isNaN(e)) {
+                removals++;
+            }
+        }
+        final float[] result = new float[array.length - removals];
+        int j = 0;
+        for (final float e : array) {
+            if (!(element == e || searchNaN && Float.isNaN(e))) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5727,7 +5829,23 @@ public static float[] removeAllOccurrences(final float[] array, final float elem
      * @since 3.10
      */
     public static int[] removeAllOccurrences(final int[] array, final int element) {
-        return (int[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final int e : array) {
+            if (e == element) {
+                removals++;
+            }
+        }
+        final int[] result = new int[array.length - removals];
+        int j = 0;
+        for (final int e : array) {
+            if (e != element) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5744,7 +5862,23 @@ public static int[] removeAllOccurrences(final int[] array, final int element) {
      * @since 3.10
      */
     public static long[] removeAllOccurrences(final long[] array, final long element) {
-        return (long[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final long e : array) {
+            if (e == element) {
+                removals++;
+            }
+        }
+        final long[] result = new long[array.length - removals];
+        int j = 0;
+        for (final long e : array) {
+            if (e != element) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5761,7 +5895,23 @@ public static long[] removeAllOccurrences(final long[] array, final long element
      * @since 3.10
      */
     public static short[] removeAllOccurrences(final short[] array, final short element) {
-        return (short[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final short e : array) {
+            if (e == element) {
+                removals++;
+            }
+        }
+        final short[] result = new short[array.length - removals];
+        int j = 0;
+        for (final short e : array) {
+            if (e != element) {
+                result[j++] = e;
+            }
+        }
+        return result;
     }
 
     /**
@@ -5779,7 +5929,277 @@ public static short[] removeAllOccurrences(final short[] array, final short elem
      * @since 3.10
      */
     public static <T> T[] removeAllOccurrences(final T[] array, final T element) {
-        return (T[]) removeAll((Object) array, indexesOf(array, element));
+        if (array == null) {
+            return null;
+        }
+        int removals = 0;
+        for (final T e : array) {
+            if (element == null ? e == null : element.equals(e)) {
+                removals++;
+            }
+        }
+        final T[] result = newInstance(getComponentType(array), array.length - removals);
+        int j = 0;
+        for (final T e : array) {
+            if (!(element == null ? e == null : element.equals(e))) {
+                result[j++] = e;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified boolean array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(boolean[], boolean)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final boolean[] array, final boolean element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final boolean e = array[i];
+            if (e != element) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified byte array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(byte[], byte)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final byte[] array, final byte element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final byte e = array[i];
+            if (e != element) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified char array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(char[], char)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final char[] array, final char element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final char e = array[i];
+            if (e != element) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified double array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     * <p>
+     * Elements are matched as in {@link #indexOf(double[], double)}, so {@code NaN} removes every {@code NaN}.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(double[], double)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final double[] array, final double element) {
+        if (array == null) {
+            return 0;
+        }
+        final boolean searchNaN = Double.isNaN(element);
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final double e = array[i];
+            if (!(element == e || searchNaN && Double.isNaN(e))) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified float array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     * <p>
+     * Elements are matched as in {@link #indexOf(float[], float)}, so {@code NaN} removes every {@code NaN}.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(float[], float)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final float[] array, final float element) {
+        if (array == null) {
+            return 0;
+        }
+        final boolean searchNaN = Float.isNaN(element);
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final float e = array[i];
+            if (!(element == e || searchNaN && Float.isNaN(e))) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified int array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(int[], int)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final int[] array, final int element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final int e = array[i];
+            if (e != element) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified long array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(long[], long)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final long[] array, final long element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final long e = array[i];
+            if (e != element) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified short array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are left unspecified. No new array is allocated.
+     * </p>
+     *
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(short[], short)
+     * @since 3.18.0
+     */
+    public static int removeAllOccurrencesInPlace(final short[] array, final short element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final short e = array[i];
+            if (e != element) {
+                array[j++] = e;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Removes the occurrences of the specified element from the specified array in place.
+     * <p>
+     * The remaining elements are compacted to the front of the array, keeping their relative order, and the new logical length is returned. The
+     * elements from that length to the end of the array are set to {@code null} so that the array does not keep removed references reachable. No
+     * new array is allocated.
+     * </p>
+     *
+     * @param <T> the type of object in the array, may be {@code null}.
+     * @param array the array to compact, will be modified, and may be {@code null}.
+     * @param element the element to remove, may be {@code null}.
+     * @return the number of leading elements of {@code array} that remain, 0 if the input array is {@code null}.
+     * @see #removeAllOccurrences(Object[], Object)
+     * @since 3.18.0
+     */
+    public static <T> int removeAllOccurrencesInPlace(final T[] array, final T element) {
+        if (array == null) {
+            return 0;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            final T e = array[i];
+            if (!(element == null ? e == null : element.equals(e))) {
+                array[j++] = e;
+            }
+        }
+        Arrays.fill(array, j, array.length, null);
+        return j;
     }
 
     /**
@@ -6084,28 +6504,27 @@ public static boolean[] removeElements(final boolean[] array, final boolean... v
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Boolean, MutableInt> occurrences = new HashMap<>(2); // only two possible values here
+        int trues = 0;
         for (final boolean v : values) {
-            final Boolean boxed = Boolean.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
+            if (v) {
+                trues++;
             }
         }
+        int falses = values.length - trues;
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final boolean key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
-                toRemove.set(i);
+        int removals = 0;
+        for (int i = 0; i < array.length && trues + falses > 0; i++) {
+            if (array[i] && trues > 0) {
+                trues--;
+            } else if (!array[i] && falses > 0) {
+                falses--;
+            } else {
+                continue;
             }
+            toRemove.set(i);
+            removals++;
         }
-        return (boolean[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new boolean[array.length - removals]);
     }
 
     /**
@@ -6139,28 +6558,19 @@ public static byte[] removeElements(final byte[] array, final byte... values) {
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final Map<Byte, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final byte v : values) {
-            final Byte boxed = Byte.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(v);
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final byte key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(array[i])) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (byte[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new byte[array.length - removals]);
     }
 
     /**
@@ -6194,28 +6604,19 @@ public static char[] removeElements(final char[] array, final char... values) {
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Character, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final char v : values) {
-            final Character boxed = Character.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(v);
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final char key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(array[i])) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (char[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new char[array.length - removals]);
     }
 
     /**
@@ -6249,28 +6650,19 @@ public static double[] removeElements(final double[] array, final double... valu
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Double, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final double v : values) {
-            final Double boxed = Double.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(Double.doubleToLongBits(v));
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final double key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(Double.doubleToLongBits(array[i]))) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (double[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new double[array.length - removals]);
     }
 
     /**
@@ -6304,28 +6696,19 @@ public static float[] removeElements(final float[] array, final float... values)
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Float, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final float v : values) {
-            final Float boxed = Float.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(Float.floatToIntBits(v));
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final float key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(Float.floatToIntBits(array[i]))) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (float[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new float[array.length - removals]);
     }
 
     /**
@@ -6359,28 +6742,19 @@ public static int[] removeElements(final int[] array, final int... values) {
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Integer, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final int v : values) {
-            final Integer boxed = Integer.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(v);
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final int key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(array[i])) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (int[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new int[array.length - removals]);
     }
 
     /**
@@ -6414,28 +6788,19 @@ public static long[] removeElements(final long[] array, final long... values) {
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Long, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final long v : values) {
-            final Long boxed = Long.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(v);
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final long key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(array[i])) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (long[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new long[array.length - removals]);
     }
 
     /**
@@ -6469,28 +6834,19 @@ public static short[] removeElements(final short[] array, final short... values)
         if (isEmpty(array) || isEmpty(values)) {
             return clone(array);
         }
-        final HashMap<Short, MutableInt> occurrences = new HashMap<>(values.length);
+        final ValueCounts occurrences = new ValueCounts(values.length);
         for (final short v : values) {
-            final Short boxed = Short.valueOf(v);
-            final MutableInt count = occurrences.get(boxed);
-            if (count == null) {
-                occurrences.put(boxed, new MutableInt(1));
-            } else {
-                count.increment();
-            }
+            occurrences.increment(v);
         }
         final BitSet toRemove = new BitSet();
-        for (int i = 0; i < array.length; i++) {
-            final short key = array[i];
-            final MutableInt count = occurrences.get(key);
-            if (count != null) {
-                if (count.decrementAndGet() == 0) {
-                    occurrences.remove(key);
-                }
+        int removals = 0;
+        for (int i = 0; i < array.length && !occurrences.isEmpty(); i++) {
+            if (occurrences.decrement(array[i])) {
                 toRemove.set(i);
+                removals++;
             }
         }
-        return (short[]) removeAll(array, toRemove);
+        return removeAll(array, array.length, toRemove, new short[array.length - removals]);
     }
 
     /**
@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Matches {@code char} values against a character class, answering for ASCII characters from a 128-entry table.
+ * <p>
+ * A matcher keeps the answers for the 128 ASCII characters in a table, and only consults a predicate for other characters. Matchers compose with
+ * {@link #and(CharMatcher)}, {@link #or(CharMatcher)} and {@link #negate()}, which combine the tables entry by entry, so a composed class such as
+ * "letters, digits, {@code '_'} and {@code '-'}" costs one table lookup per ASCII character however it was built.
+ * </p>
+ * <p>
+ * For example:
+ * </p>
+ * <pre>{@code
+ * private static final CharMatcher IDENTIFIER = CharMatcher.LETTER_OR_DIGIT.or(CharMatcher.anyOf("_-"));
+ * ...
+ * boolean valid = IDENTIFIER.matchesAll(id);
+ * }</pre>
+ * <p>
+ * Matching is per UTF-16 {@code char}, like {@link StringUtils#isAlpha(CharSequence)}; supplementary code points are seen as two surrogate
+ * {@code char}s.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe if their predicates are.
+ * </p>
+ *
+ * @since 3.18.0
+ */
+public final class CharMatcher {
+
+    private static final int ASCII_LENGTH = 128;
+
+    private static final IntPredicate NEVER = ch -> false;
+
+    private static final IntPredicate ALWAYS = ch -> true;
+
+    /**
+     * Matches no characters.
+     */
+    public static final CharMatcher NONE = of(NEVER);
+
+    /**
+     * Matches all characters.
+     */
+    public static final CharMatcher ANY = of(ALWAYS);
+
+    /**
+     * Matches the ASCII characters, 0 through 127.
+     */
+    public static final CharMatcher ASCII = new CharMatcher(ArrayFill.fill(new boolean[ASCII_LENGTH], true), NEVER);
+
+    /**
+     * Matches the printable ASCII characters, 32 through 126, like {@link CharUtils#isAsciiPrintable(char)}.
+     */
+    public static final CharMatcher ASCII_PRINTABLE = inRange(' ', '~');
+
+    /**
+     * Matches the characters of {@link Character#isDigit(char)}.
+     */
+    public static final CharMatcher DIGIT = of(Character::isDigit);
+
+    /**
+     * Matches the characters of {@link Character#isLetter(char)}.
+     */
+    public static final CharMatcher LETTER = of(Character::isLetter);
+
+    /**
+     * Matches the characters of {@link Character#isLetterOrDigit(char)}.
+     */
+    public static final CharMatcher LETTER_OR_DIGIT = of(Character::isLetterOrDigit);
+
+    /**
+     * Matches the characters of {@link Character#isWhitespace(char)}.
+     */
+    public static final CharMatcher WHITESPACE = of(Character::isWhitespace);
+
+    /**
+     * Creates a matcher for the given characters.
+     *
+     * @param chars the characters to match, may be {@code null}.
+     * @return a matcher for the given characters, {@link #NONE} for {@code null} or empty input.
+     */
+    public static CharMatcher anyOf(final char... chars) {
+        if (ArrayUtils.isEmpty(chars)) {
+            return NONE;
+        }
+        final boolean[] ascii = new boolean[ASCII_LENGTH];
+        int nonAscii = 0;
+        for (final char ch : chars) {
+            if (ch < ASCII_LENGTH) {
+                ascii[ch] = true;
+            } else {
+                nonAscii++;
+            }
+        }
+        if (nonAscii == 0) {
+            return new CharMatcher(ascii, NEVER);
+        }
+        final char[] others = new char[nonAscii];
+        int i = 0;
+        for (final char ch : chars) {
+            if (ch >= ASCII_LENGTH) {
+                others[i++] = ch;
+            }
+        }
+        final char[] sorted = ArraySorter.sort(others);
+        return new CharMatcher(ascii, sorted.length == 1 ? ch -> ch == sorted[0] : ch -> Arrays.binarySearch(sorted, (char) ch) >= 0);
+    }
+
+    /**
+     * Creates a matcher for the given characters if they are all ASCII.
+     *
+     * @param chars the characters to match, not {@code null}.
+     * @return a matcher for the given characters, or {@code null} if one of them is not ASCII.
+     */
+    static CharMatcher anyOfAscii(final char[] chars) {
+        final boolean[] ascii = new boolean[ASCII_LENGTH];
+        for (final char ch : chars) {
+            if (ch >= ASCII_LENGTH) {
+                return null;
+            }
+            ascii[ch] = true;
+        }
+        return new CharMatcher(ascii, NEVER);
+    }
+
+    /**
+     * Creates a matcher for the characters of a sequence.
+     *
+     * @param chars the characters to match, may be {@code null}.
+     * @return a matcher for the given characters, {@link #NONE} for {@code null} or empty input.
+     */
+    public static CharMatcher anyOf(final CharSequence chars) {
+        return chars == null ? NONE : anyOf(CharSequenceUtils.toCharArray(chars));
+    }
+
+    /**
+     * Creates a matcher for a range of characters.
+     *
+     * @param startInclusive the first character matched.
+     * @param endInclusive the last character matched, an empty range if less than {@code startInclusive}.
+     * @return a matcher for the range.
+     */
+    public static CharMatcher inRange(final char startInclusive, final char endInclusive) {
+        return of(ch -> ch >= startInclusive && ch <= endInclusive);
+    }
+
+    /**
+     * Creates a matcher for one character.
+     *
+     * @param ch the character to match.
+     * @return a matcher for the character.
+     */
+    public static CharMatcher is(final char ch) {
+        return anyOf(ch);
+    }
+
+    /**
+     * Creates a matcher from a predicate, evaluating it once for each ASCII character now and for other characters as they are matched.
+     *
+     * @param predicate the predicate, called with {@code char} values widened to {@code int}, not {@code null}.
+     * @return a matcher for the predicate.
+     * @throws NullPointerException if {@code predicate} is {@code null}.
+     */
+    public static CharMatcher of(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        final boolean[] ascii = new boolean[ASCII_LENGTH];
+        for (int ch = 0; ch < ASCII_LENGTH; ch++) {
+            ascii[ch] = predicate.test(ch);
+        }
+        return new CharMatcher(ascii, predicate);
+    }
+
+    /**
+     * Whether this matcher matches each of the characters 0 through 127.
+     */
+    private final boolean[] ascii;
+
+    /**
+     * Matches the characters from 128 up.
+     */
+    private final IntPredicate nonAscii;
+
+    private CharMatcher(final boolean[] ascii, final IntPredicate nonAscii) {
+        this.ascii = ascii;
+        this.nonAscii = nonAscii;
+    }
+
+    /**
+     * Creates a matcher for the characters both this and another matcher match.
+     *
+     * @param other the other matcher, not {@code null}.
+     * @return the intersection of the two classes.
+     */
+    public CharMatcher and(final CharMatcher other) {
+        final IntPredicate predicate;
+        if (nonAscii == NEVER || other.nonAscii == ALWAYS) {
+            predicate = nonAscii;
+        } else if (other.nonAscii == NEVER || nonAscii == ALWAYS) {
+            predicate = other.nonAscii;
+        } else {
+            predicate = nonAscii.and(other.nonAscii);
+        }
+        final boolean[] table = new boolean[ASCII_LENGTH];
+        for (int ch = 0; ch < ASCII_LENGTH; ch++) {
+            table[ch] = ascii[ch] && other.ascii[ch];
+        }
+        return new CharMatcher(table, predicate);
+    }
+
+    /**
+     * Finds the first character of a sequence this matcher matches.
+     *
+     * @param cs the sequence to search, may be {@code null}.
+     * @param startIndex the index to start at, negative is treated as zero.
+     * @return the index of the first character matched at or after {@code startIndex}, or {@link StringUtils#INDEX_NOT_FOUND}.
+     */
+    public int indexIn(final CharSequence cs, final int startIndex) {
+        if (cs != null) {
+            final int length = cs.length();
+            for (int i = Math.max(0, startIndex); i < length; i++) {
+                if (matches(cs.charAt(i))) {
+                    return i;
+                }
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Tests whether this matcher matches a character.
+     *
+     * @param ch the character to test.
+     * @return whether the character is in this class.
+     */
+    public boolean matches(final char ch) {
+        return ch < ASCII_LENGTH ? ascii[ch] : nonAscii.test(ch);
+    }
+
+    /**
+     * Tests whether this matcher matches every character of a sequence.
+     *
+     * @param cs the sequence to test, may be {@code null}.
+     * @return whether all characters are in this class, {@code true} for an empty sequence, {@code false} for {@code null}.
+     */
+    public boolean matchesAll(final CharSequence cs) {
+        if (cs == null) {
+            return false;
+        }
+        final int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            if (!matches(cs.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether this matcher matches any character of a sequence.
+     *
+     * @param cs the sequence to test, may be {@code null}.
+     * @return whether a character is in this class, {@code false} for an empty or {@code null} sequence.
+     */
+    public boolean matchesAny(final CharSequence cs) {
+        return indexIn(cs, 0) != StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Creates a matcher for the characters this matcher does not match.
+     *
+     * @return the complement of this class.
+     */
+    public CharMatcher negate() {
+        final IntPredicate predicate;
+        if (nonAscii == NEVER) {
+            predicate = ALWAYS;
+        } else if (nonAscii == ALWAYS) {
+            predicate = NEVER;
+        } else {
+            predicate = nonAscii.negate();
+        }
+        final boolean[] table = new boolean[ASCII_LENGTH];
+        for (int ch = 0; ch < ASCII_LENGTH; ch++) {
+            table[ch] = !ascii[ch];
+        }
+        return new CharMatcher(table, predicate);
+    }
+
+    /**
+     * Creates a matcher for the characters either this or another matcher matches.
+     *
+     * @param other the other matcher, not {@code null}.
+     * @return the union of the two classes.
+     */
+    public CharMatcher or(final CharMatcher other) {
+        final IntPredicate predicate;
+        if (nonAscii == ALWAYS || other.nonAscii == NEVER) {
+            predicate = nonAscii;
+        } else if (other.nonAscii == ALWAYS || nonAscii == NEVER) {
+            predicate = other.nonAscii;
+        } else {
+            predicate = nonAscii.or(other.nonAscii);
+        }
+        final boolean[] table = new boolean[ASCII_LENGTH];
+        for (int ch = 0; ch < ASCII_LENGTH; ch++) {
+            table[ch] = ascii[ch] || other.ascii[ch];
+        }
+        return new CharMatcher(table, predicate);
+    }
+}
@@ -0,0 +1,1431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Searches and combines sorted arrays without boxing them into sorted sets.
+ * <p>
+ * Every array passed in must already be sorted in ascending order, for example by {@link ArraySorter} or {@link Arrays#sort(int[])}; the results are
+ * undefined otherwise. This is not checked, see {@link ArrayUtils#isSorted(int[])}. Input arrays may contain duplicates.
+ * </p>
+ * <ul>
+ * <li>{@code contains} uses a binary search, so it costs {@code O(log n)} instead of the linear scan of {@link ArrayUtils#contains(int[], int)}.</li>
+ * <li>{@code union}, {@code intersection} and {@code difference} merge their inputs in one pass and return new sorted arrays with each value once, like
+ * the corresponding {@link java.util.SortedSet} operations. When one input is much smaller than the other, {@code intersection} and {@code difference}
+ * binary search the larger one instead of scanning it.</li>
+ * <li>{@code distinct} removes the duplicates of a sorted array.</li>
+ * </ul>
+ * <p>
+ * Floating point values are ordered and compared as by {@link Arrays#sort(double[])}: {@code -0.0} is less than {@code 0.0}, and all {@code NaN} values
+ * are equal to each other and greater than all other values. {@code null} arrays are treated as empty by the set operations.
+ * </p>
+ *
+ * @since 3.18.0
+ */
+public final class SortedArrays {
+
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(byte[], byte)
+     */
+    public static boolean contains(final byte[] sortedArray, final byte value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(char[], char)
+     */
+    public static boolean contains(final char[] sortedArray, final char value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(double[], double)
+     */
+    public static boolean contains(final double[] sortedArray, final double value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(float[], float)
+     */
+    public static boolean contains(final float[] sortedArray, final float value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(int[], int)
+     */
+    public static boolean contains(final int[] sortedArray, final int value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(long[], long)
+     */
+    public static boolean contains(final long[] sortedArray, final long value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param sortedArray the array to search, sorted in ascending order, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(short[], short)
+     */
+    public static boolean contains(final short[] sortedArray, final short value) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray the array to search, sorted in the natural ascending order of its elements, may be {@code null}.
+     * @param value the value to find.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(Object[], Object)
+     */
+    public static <T extends Comparable<? super T>> boolean contains(final T[] sortedArray, final T value) {
+        return contains(sortedArray, value, Comparator.naturalOrder());
+    }
+
+    /**
+     * Tests whether a sorted array contains a value, using a binary search.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray the array to search, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param value the value to find.
+     * @param comparator the order of the array, not {@code null}.
+     * @return whether the array contains the value, {@code false} for a {@code null} array.
+     * @see Arrays#binarySearch(Object[], Object, Comparator)
+     */
+    public static <T> boolean contains(final T[] sortedArray, final T value, final Comparator<? super T> comparator) {
+        return sortedArray != null && Arrays.binarySearch(sortedArray, value, comparator) >= 0;
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static byte[] difference(final byte[] sortedArray1, final byte[] sortedArray2) {
+        final byte[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final byte[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final byte[] result = new byte[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final byte value = a[i];
+            if (i > 0 && Byte.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Byte.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Byte.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static char[] difference(final char[] sortedArray1, final char[] sortedArray2) {
+        final char[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final char[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final char[] result = new char[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final char value = a[i];
+            if (i > 0 && Character.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Character.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Character.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static double[] difference(final double[] sortedArray1, final double[] sortedArray2) {
+        final double[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final double[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final double[] result = new double[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final double value = a[i];
+            if (i > 0 && Double.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Double.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Double.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static float[] difference(final float[] sortedArray1, final float[] sortedArray2) {
+        final float[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final float[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final float[] result = new float[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final float value = a[i];
+            if (i > 0 && Float.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Float.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Float.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static int[] difference(final int[] sortedArray1, final int[] sortedArray2) {
+        final int[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final int[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final int[] result = new int[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final int value = a[i];
+            if (i > 0 && Integer.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Integer.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Integer.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static long[] difference(final long[] sortedArray1, final long[] sortedArray2) {
+        final long[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final long[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final long[] result = new long[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long value = a[i];
+            if (i > 0 && Long.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Long.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Long.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param sortedArray1 the values to keep, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once.
+     */
+    public static short[] difference(final short[] sortedArray1, final short[] sortedArray2) {
+        final short[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final short[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final short[] result = new short[a.length];
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final short value = a[i];
+            if (i > 0 && Short.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && Short.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && Short.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray1 the values to keep, sorted in natural ascending order, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in natural ascending order, may be {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once, {@code null} if both arrays are
+     *         {@code null}.
+     */
+    public static <T extends Comparable<? super T>> T[] difference(final T[] sortedArray1, final T[] sortedArray2) {
+        return difference(sortedArray1, sortedArray2, Comparator.naturalOrder());
+    }
+
+    /**
+     * Computes the values of a sorted array that are not in another one.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray1 the values to keep, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param sortedArray2 the values to remove, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param comparator the order of the arrays, not {@code null}.
+     * @return a new sorted array with each value of {@code sortedArray1} that is not in {@code sortedArray2} once, {@code null} if both arrays are
+     *         {@code null}.
+     */
+    public static <T> T[] difference(final T[] sortedArray1, final T[] sortedArray2, final Comparator<? super T> comparator) {
+        final T[] a = emptyIfNull(sortedArray1, sortedArray2);
+        final T[] b = emptyIfNull(sortedArray2, sortedArray1);
+        if (a == null) {
+            return null;
+        }
+        final T[] result = a.clone();
+        final boolean search = isSkewed(a.length, b.length);
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            final T value = a[i];
+            if (i > 0 && comparator.compare(value, a[i - 1]) == 0) {
+                continue;
+            }
+            if (search) {
+                final int k = Arrays.binarySearch(b, j, b.length, value, comparator);
+                if (k >= 0) {
+                    j = k;
+                    continue;
+                }
+                j = -k - 1;
+            } else {
+                while (j < b.length && comparator.compare(b[j], value) < 0) {
+                    j++;
+                }
+                if (j < b.length && comparator.compare(b[j], value) == 0) {
+                    continue;
+                }
+            }
+            result[n++] = value;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static byte[] distinct(final byte[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final byte[] result = sortedArray.clone();
+        int n = 0;
+        for (final byte value : sortedArray) {
+            if (n == 0 || Byte.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static char[] distinct(final char[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final char[] result = sortedArray.clone();
+        int n = 0;
+        for (final char value : sortedArray) {
+            if (n == 0 || Character.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static double[] distinct(final double[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final double[] result = sortedArray.clone();
+        int n = 0;
+        for (final double value : sortedArray) {
+            if (n == 0 || Double.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static float[] distinct(final float[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final float[] result = sortedArray.clone();
+        int n = 0;
+        for (final float value : sortedArray) {
+            if (n == 0 || Float.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static int[] distinct(final int[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final int[] result = sortedArray.clone();
+        int n = 0;
+        for (final int value : sortedArray) {
+            if (n == 0 || Integer.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static long[] distinct(final long[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final long[] result = sortedArray.clone();
+        int n = 0;
+        for (final long value : sortedArray) {
+            if (n == 0 || Long.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param sortedArray the array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static short[] distinct(final short[] sortedArray) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final short[] result = sortedArray.clone();
+        int n = 0;
+        for (final short value : sortedArray) {
+            if (n == 0 || Short.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray the array, sorted in natural ascending order, may be {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static <T extends Comparable<? super T>> T[] distinct(final T[] sortedArray) {
+        return distinct(sortedArray, Comparator.naturalOrder());
+    }
+
+    /**
+     * Removes the duplicates of a sorted array.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray the array, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param comparator the order of the array, not {@code null}.
+     * @return a new sorted array with each value once, {@code null} for a {@code null} input array.
+     */
+    public static <T> T[] distinct(final T[] sortedArray, final Comparator<? super T> comparator) {
+        if (sortedArray == null) {
+            return null;
+        }
+        final T[] result = sortedArray.clone();
+        int n = 0;
+        for (final T value : sortedArray) {
+            if (n == 0 || comparator.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Gets an empty array of the type of another one in place of a {@code null} array.
+     *
+     * @param <T> the type of the elements.
+     * @param array the array, may be {@code null}.
+     * @param other the array to take the type from, may be {@code null}.
+     * @return {@code array}, an empty array of the type of {@code other}, or {@code null} if both are {@code null}.
+     */
+    private static <T> T[] emptyIfNull(final T[] array, final T[] other) {
+        return array != null || other == null ? array : Arrays.copyOf(other, 0);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static byte[] intersection(final byte[] sortedArray1, final byte[] sortedArray2) {
+        final byte[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final byte[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final byte[] result = new byte[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final byte value = a[i];
+                if (i > 0 && Byte.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Byte.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Byte.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static char[] intersection(final char[] sortedArray1, final char[] sortedArray2) {
+        final char[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final char[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final char[] result = new char[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final char value = a[i];
+                if (i > 0 && Character.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Character.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Character.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static double[] intersection(final double[] sortedArray1, final double[] sortedArray2) {
+        final double[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final double[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final double[] result = new double[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final double value = a[i];
+                if (i > 0 && Double.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Double.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Double.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static float[] intersection(final float[] sortedArray1, final float[] sortedArray2) {
+        final float[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final float[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final float[] result = new float[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final float value = a[i];
+                if (i > 0 && Float.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Float.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Float.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static int[] intersection(final int[] sortedArray1, final int[] sortedArray2) {
+        final int[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final int[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final int[] result = new int[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final int value = a[i];
+                if (i > 0 && Integer.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Integer.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Integer.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static long[] intersection(final long[] sortedArray1, final long[] sortedArray2) {
+        final long[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final long[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final long[] result = new long[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final long value = a[i];
+                if (i > 0 && Long.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Long.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Long.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once.
+     */
+    public static short[] intersection(final short[] sortedArray1, final short[] sortedArray2) {
+        final short[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final short[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        if (a.length > b.length) {
+            return intersection(b, a);
+        }
+        final short[] result = new short[a.length];
+        int n = 0;
+        if (isSkewed(a.length, b.length)) {
+            int from = 0;
+            for (int i = 0; i < a.length && from < b.length; i++) {
+                final short value = a[i];
+                if (i > 0 && Short.compare(value, a[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(b, from, b.length, value);
+                if (k >= 0) {
+                    result[n++] = value;
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = Short.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || Short.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray1 the first array, sorted in natural ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in natural ascending order, may be {@code null}.
+     * @return a new sorted array with each value in both arrays once, taken from {@code sortedArray1}, {@code null} if both arrays are {@code null}.
+     */
+    public static <T extends Comparable<? super T>> T[] intersection(final T[] sortedArray1, final T[] sortedArray2) {
+        return intersection(sortedArray1, sortedArray2, Comparator.naturalOrder());
+    }
+
+    /**
+     * Computes the values that two sorted arrays have in common.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray1 the first array, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param comparator the order of the arrays, not {@code null}.
+     * @return a new sorted array with each value in both arrays once, taken from {@code sortedArray1}, {@code null} if both arrays are {@code null}.
+     */
+    public static <T> T[] intersection(final T[] sortedArray1, final T[] sortedArray2, final Comparator<? super T> comparator) {
+        final T[] a = emptyIfNull(sortedArray1, sortedArray2);
+        final T[] b = emptyIfNull(sortedArray2, sortedArray1);
+        if (a == null) {
+            return null;
+        }
+        final T[] result = Arrays.copyOf(a, Math.min(a.length, b.length));
+        int n = 0;
+        if (isSkewed(a.length, b.length) || isSkewed(b.length, a.length)) {
+            final boolean firstSmaller = a.length <= b.length;
+            final T[] small = firstSmaller ? a : b;
+            final T[] large = firstSmaller ? b : a;
+            int from = 0;
+            for (int i = 0; i < small.length && from < large.length; i++) {
+                final T value = small[i];
+                if (i > 0 && comparator.compare(value, small[i - 1]) == 0) {
+                    continue;
+                }
+                final int k = Arrays.binarySearch(large, from, large.length, value, comparator);
+                if (k >= 0) {
+                    result[n++] = firstSmaller ? value : large[k];
+                    from = k;
+                } else {
+                    from = -k - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int c = comparator.compare(a[i], b[j]);
+                if (c < 0) {
+                    i++;
+                } else if (c > 0) {
+                    j++;
+                } else {
+                    if (n == 0 || comparator.compare(a[i], result[n - 1]) != 0) {
+                        result[n++] = a[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Tests whether one side of an operation is so much smaller that binary searching the other side for each of its elements beats scanning both.
+     *
+     * @param smallLength the length of the side to iterate.
+     * @param largeLength the length of the side to search.
+     * @return whether to binary search the larger side.
+     */
+    static boolean isSkewed(final int smallLength, final int largeLength) {
+        // a search costs about log2(largeLength) comparisons, a merge step one
+        return (long) smallLength * (Integer.SIZE - Integer.numberOfLeadingZeros(largeLength)) < largeLength;
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static byte[] union(final byte[] sortedArray1, final byte[] sortedArray2) {
+        final byte[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final byte[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final byte[] result = new byte[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final byte value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Byte.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Byte.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static char[] union(final char[] sortedArray1, final char[] sortedArray2) {
+        final char[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final char[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final char[] result = new char[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final char value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Character.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Character.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static double[] union(final double[] sortedArray1, final double[] sortedArray2) {
+        final double[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final double[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final double[] result = new double[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final double value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Double.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Double.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static float[] union(final float[] sortedArray1, final float[] sortedArray2) {
+        final float[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final float[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final float[] result = new float[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final float value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Float.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Float.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static int[] union(final int[] sortedArray1, final int[] sortedArray2) {
+        final int[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final int[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final int[] result = new int[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final int value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Integer.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Integer.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static long[] union(final long[] sortedArray1, final long[] sortedArray2) {
+        final long[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final long[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final long[] result = new long[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final long value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Long.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Long.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param sortedArray1 the first array, sorted in ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once.
+     */
+    public static short[] union(final short[] sortedArray1, final short[] sortedArray2) {
+        final short[] a = ArrayUtils.nullToEmpty(sortedArray1);
+        final short[] b = ArrayUtils.nullToEmpty(sortedArray2);
+        final short[] result = new short[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final short value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = Short.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || Short.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray1 the first array, sorted in natural ascending order, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in natural ascending order, may be {@code null}.
+     * @return a new sorted array with each value in either array once, preferring the elements of {@code sortedArray1}, {@code null} if both arrays are
+     *         {@code null}.
+     */
+    public static <T extends Comparable<? super T>> T[] union(final T[] sortedArray1, final T[] sortedArray2) {
+        return union(sortedArray1, sortedArray2, Comparator.naturalOrder());
+    }
+
+    /**
+     * Computes the values in either of two sorted arrays.
+     * <p>
+     * The result has the component type of {@code sortedArray1}, or of {@code sortedArray2} if {@code sortedArray1} is {@code null}.
+     * </p>
+     *
+     * @param <T> the type of the elements.
+     * @param sortedArray1 the first array, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param sortedArray2 the second array, sorted in ascending order by {@code comparator}, may be {@code null}.
+     * @param comparator the order of the arrays, not {@code null}.
+     * @return a new sorted array with each value in either array once, preferring the elements of {@code sortedArray1}, {@code null} if both arrays are
+     *         {@code null}.
+     */
+    public static <T> T[] union(final T[] sortedArray1, final T[] sortedArray2, final Comparator<? super T> comparator) {
+        final T[] a = emptyIfNull(sortedArray1, sortedArray2);
+        final T[] b = emptyIfNull(sortedArray2, sortedArray1);
+        if (a == null) {
+            return null;
+        }
+        final T[] result = Arrays.copyOf(a, a.length + b.length);
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            final T value;
+            if (j == b.length) {
+                value = a[i++];
+            } else if (i == a.length) {
+                value = b[j++];
+            } else {
+                final int c = comparator.compare(a[i], b[j]);
+                value = c <= 0 ? a[i] : b[j];
+                if (c <= 0) {
+                    i++;
+                }
+                if (c >= 0) {
+                    j++;
+                }
+            }
+            if (n == 0 || comparator.compare(value, result[n - 1]) != 0) {
+                result[n++] = value;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    private SortedArrays() {
+        // no instances
+    }
+}
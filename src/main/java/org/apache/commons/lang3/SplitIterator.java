@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits a String lazily, with the same separator rules as the {@code split} methods of {@link StringUtils}, without creating a String per token.
+ * <p>
+ * {@link StringUtils#split(String, String, int)} and friends build a list of Strings and copy it into an array, even when the caller only needs the first
+ * few tokens. This class finds one token at a time and returns it as a {@link CharSequence} view over the input, or just as the {@link #start()} and
+ * {@link #end()} offsets of the token when {@link #advance()} is used instead of {@link #next()}.
+ * </p>
+ *
+ * <pre>{@code
+ * SplitIterator it = SplitIterator.splitPreserveAllTokens(record, ",", -1);
+ * while (it.advance()) {
+ *     int value = Integer.parseInt(record, it.start(), it.end(), 10); // Java 9+
+ * }
+ * }</pre>
+ * <p>
+ * A {@code null} input String has no tokens. This class is not thread-safe.
+ * </p>
+ *
+ * @see StringUtils#split(String, String, int)
+ * @see StringUtils#splitPreserveAllTokens(String, String, int)
+ * @see StringUtils#splitByWholeSeparator(String, String, int)
+ * @see StringUtils#splitByWholeSeparatorPreserveAllTokens(String, String, int)
+ * @since 3.18.0
+ */
+public final class SplitIterator implements Iterator<CharSequence> {
+
+    /**
+     * Splits on whitespace, as defined by {@link Character#isWhitespace(char)}.
+     */
+    private static final int WHITESPACE = 0;
+
+    /**
+     * Splits on one separator character.
+     */
+    private static final int CHAR = 1;
+
+    /**
+     * Splits on any of the separator characters.
+     */
+    private static final int CHARS = 2;
+
+    /**
+     * Splits on the whole separator String.
+     */
+    private static final int WHOLE = 3;
+
+    /**
+     * Splits the provided text like {@link StringUtils#split(String, String, int)}, adjacent separators are treated as one separator.
+     *
+     * @param str            the String to split, may be null.
+     * @param separatorChars the characters used as the delimiters, {@code null} splits on whitespace.
+     * @param max            the maximum number of tokens, the last token holds the rest of the String. A zero or negative value implies no limit.
+     * @return a new iterator over the tokens.
+     */
+    public static SplitIterator split(final String str, final String separatorChars, final int max) {
+        return ofChars(str, separatorChars, max, false);
+    }
+
+    /**
+     * Splits the provided text like {@link StringUtils#splitByWholeSeparator(String, String, int)}, adjacent separators are treated as one separator.
+     *
+     * @param str       the String to split, may be null.
+     * @param separator the String used as the delimiter, {@code null} or empty splits on whitespace.
+     * @param max       the maximum number of tokens, the last token holds the rest of the String. A zero or negative value implies no limit.
+     * @return a new iterator over the tokens.
+     */
+    public static SplitIterator splitByWholeSeparator(final String str, final String separator, final int max) {
+        return ofWhole(str, separator, max, false);
+    }
+
+    /**
+     * Splits the provided text like {@link StringUtils#splitByWholeSeparatorPreserveAllTokens(String, String, int)}, adjacent separators are treated as
+     * separators for empty tokens.
+     *
+     * @param str       the String to split, may be null.
+     * @param separator the String used as the delimiter, {@code null} or empty splits on whitespace.
+     * @param max       the maximum number of tokens, the last token holds the rest of the String. A zero or negative value implies no limit.
+     * @return a new iterator over the tokens.
+     */
+    public static SplitIterator splitByWholeSeparatorPreserveAllTokens(final String str, final String separator, final int max) {
+        return ofWhole(str, separator, max, true);
+    }
+
+    /**
+     * Splits the provided text like {@link StringUtils#splitPreserveAllTokens(String, String, int)}, adjacent separators are treated as separators for
+     * empty tokens.
+     *
+     * @param str            the String to split, may be null.
+     * @param separatorChars the characters used as the delimiters, {@code null} splits on whitespace.
+     * @param max            the maximum number of tokens, the last token holds the rest of the String. A zero or negative value implies no limit.
+     * @return a new iterator over the tokens.
+     */
+    public static SplitIterator splitPreserveAllTokens(final String str, final String separatorChars, final int max) {
+        return ofChars(str, separatorChars, max, true);
+    }
+
+    private static SplitIterator ofChars(final String str, final String separatorChars, final int max, final boolean preserveAllTokens) {
+        final int kind;
+        if (separatorChars == null) {
+            kind = WHITESPACE;
+        } else if (separatorChars.length() == 1) {
+            kind = CHAR;
+        } else {
+            kind = CHARS;
+        }
+        return new SplitIterator(str, kind, separatorChars, max, preserveAllTokens);
+    }
+
+    private static SplitIterator ofWhole(final String str, final String separator, final int max, final boolean preserveAllTokens) {
+        if (StringUtils.isEmpty(separator)) {
+            return new SplitIterator(str, WHITESPACE, null, max, preserveAllTokens);
+        }
+        return new SplitIterator(str, WHOLE, separator, max, preserveAllTokens);
+    }
+
+    private final String str;
+    private final int length;
+    private final int kind;
+    private final String separator;
+    private final char separatorChar;
+    private final int max;
+    private final boolean preserveAllTokens;
+
+    /** Where the search for the next token starts. */
+    private int position;
+
+    /** The number of tokens found so far. */
+    private int count;
+
+    /** The index of the last separator found, see StringUtils.splitByWholeSeparatorWorker. */
+    private int wholeEnd;
+
+    /** Whether the last character scanned was a separator that ended a token, see StringUtils.splitWorker. */
+    private boolean lastMatch;
+
+    /** Whether no tokens remain after the pending one. */
+    private boolean finished;
+
+    /** Whether the pending token bounds are valid. */
+    private boolean pending;
+    private int pendingStart;
+    private int pendingEnd;
+
+    private int start = -1;
+    private int end = -1;
+
+    private SplitIterator(final String str, final int kind, final String separator, final int max, final boolean preserveAllTokens) {
+        this.str = str;
+        this.length = str == null ? 0 : str.length();
+        this.kind = kind;
+        this.separator = separator;
+        this.separatorChar = kind == CHAR ? separator.charAt(0) : 0;
+        this.max = max;
+        this.preserveAllTokens = preserveAllTokens;
+        this.finished = length == 0;
+    }
+
+    /**
+     * Moves to the next token without creating a view of it, its bounds are then available from {@link #start()} and {@link #end()}.
+     *
+     * @return whether there was a next token.
+     */
+    public boolean advance() {
+        if (!hasNext()) {
+            return false;
+        }
+        pending = false;
+        start = pendingStart;
+        end = pendingEnd;
+        return true;
+    }
+
+    /**
+     * Gets the end index, exclusive, of the current token in the input String.
+     *
+     * @return the end index of the current token, or -1 before the first token.
+     */
+    public int end() {
+        return end;
+    }
+
+    /**
+     * Finds the next token of a character separated String, the lazy equivalent of one step of {@code StringUtils.splitWorker}.
+     */
+    private boolean findCharsToken() {
+        int i = position;
+        int tokenStart = position;
+        boolean match = false;
+        while (i < length) {
+            if (isSeparator(str.charAt(i))) {
+                if (match || preserveAllTokens) {
+                    if (++count == max) {
+                        lastMatch = false;
+                        finished = true;
+                        return setPending(tokenStart, length);
+                    }
+                    lastMatch = true;
+                    position = i + 1;
+                    return setPending(tokenStart, i);
+                }
+                tokenStart = ++i;
+                continue;
+            }
+            lastMatch = false;
+            match = true;
+            i++;
+        }
+        finished = true;
+        if (match || preserveAllTokens && lastMatch) {
+            return setPending(tokenStart, i);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the next token of a String separated by a whole separator, the lazy equivalent of one step of
+     * {@code StringUtils.splitByWholeSeparatorWorker}.
+     */
+    private boolean findWholeToken() {
+        while (wholeEnd < length) {
+            wholeEnd = str.indexOf(separator, position);
+            if (wholeEnd < 0) {
+                wholeEnd = length;
+                return setPending(position, length);
+            }
+            final int tokenStart = position;
+            position = wholeEnd + separator.length();
+            if (wholeEnd > tokenStart || preserveAllTokens) {
+                if (++count == max) {
+                    wholeEnd = length;
+                    return setPending(tokenStart, length);
+                }
+                return setPending(tokenStart, wholeEnd);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!pending && !finished) {
+            pending = kind == WHOLE ? findWholeToken() : findCharsToken();
+            finished |= !pending;
+        }
+        return pending;
+    }
+
+    private boolean isSeparator(final char ch) {
+        switch (kind) {
+        case WHITESPACE:
+            return Character.isWhitespace(ch);
+        case CHAR:
+            return ch == separatorChar;
+        default:
+            return separator.indexOf(ch) >= 0;
+        }
+    }
+
+    /**
+     * Returns a view of the next token.
+     *
+     * @return a read-only view of the next token, it does not copy the characters of the input String.
+     * @throws NoSuchElementException if there are no more tokens.
+     */
+    @Override
+    public CharSequence next() {
+        if (!advance()) {
+            throw new NoSuchElementException();
+        }
+        return CharBuffer.wrap(str, start, end);
+    }
+
+    private boolean setPending(final int tokenStart, final int tokenEnd) {
+        pendingStart = tokenStart;
+        pendingEnd = tokenEnd;
+        return true;
+    }
+
+    /**
+     * Gets the start index of the current token in the input String.
+     *
+     * @return the start index of the current token, or -1 before the first token.
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * Returns a sequential stream of the remaining tokens, see {@link #next()}.
+     *
+     * @return a sequential stream of the remaining tokens.
+     */
+    public Stream<CharSequence> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
@@ -17,6 +17,8 @@
 package org.apache.commons.lang3;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 
 import org.apache.commons.lang3.text.translate.AggregateTranslator;
@@ -50,7 +52,27 @@ static class CsvEscaper extends CharSequenceTranslator {
         private static final char CSV_DELIMITER = ',';
         private static final char CSV_QUOTE = '"';
         private static final String CSV_QUOTE_STR = String.valueOf(CSV_QUOTE);
-        private static final char[] CSV_SEARCH_CHARS = { CSV_DELIMITER, CSV_QUOTE, CharUtils.CR, CharUtils.LF };
+        /**
+         * Tests whether a CSV value contains a comma, newline or double quote, and therefore needs quoting.
+         *
+         * @param input the CSV value, not null.
+         * @return whether the value needs quoting.
+         */
+        static boolean needsQuoting(final CharSequence input) {
+            final int len = input.length();
+            for (int i = 0; i < len; i++) {
+                switch (input.charAt(i)) {
+                case CSV_DELIMITER:
+                case CSV_QUOTE:
+                case CharUtils.CR:
+                case CharUtils.LF:
+                    return true;
+                default:
+                    break;
+                }
+            }
+            return false;
+        }
 
         @Override
         public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
@@ -59,11 +81,12 @@ public int translate(final CharSequence input, final int index, final Writer out
                 throw new IllegalStateException("CsvEscaper should never reach the [1] index");
             }
 
-            if (StringUtils.containsNone(input.toString(), CSV_SEARCH_CHARS)) {
-                out.write(input.toString());
+            final String str = input.toString();
+            if (!needsQuoting(str)) {
+                out.write(str);
             } else {
                 out.write(CSV_QUOTE);
-                out.write(Strings.CS.replace(input.toString(), CSV_QUOTE_STR, CSV_QUOTE_STR + CSV_QUOTE_STR));
+                out.write(Strings.CS.replace(str, CSV_QUOTE_STR, CSV_QUOTE_STR + CSV_QUOTE_STR));
                 out.write(CSV_QUOTE);
             }
             return Character.codePointCount(input, 0, input.length());
@@ -102,6 +125,111 @@ public int translate(final CharSequence input, final int index, final Writer out
         }
     }
 
+    /**
+     * Wraps a translator with a scan-first fast path: characters that the translator leaves unchanged, as given by a precomputed bit table, are skipped
+     * with a table lookup, and only the other characters go through the wrapped translator.
+     * <p>
+     * {@link #escape(String)} copies whole runs of unchanged characters to the output in bulk. {@link #translate(CharSequence, int, Writer)} only
+     * translates at its index and returns {@code 0} for an unchanged character, like {@link AggregateTranslator}, so that translators added with
+     * {@link #with(CharSequenceTranslator...)} still see every character.
+     * </p>
+     */
+    static final class ScanFirstTranslator extends CharSequenceTranslator {
+
+        /** The number of characters in a {@code long} of the table. */
+        private static final int BITS_PER_WORD = Long.SIZE;
+
+        /** Bit table of the characters that need translating, indexed by char. Surrogates always need translating. */
+        private final long[] escapes = new long[(Character.MAX_VALUE + 1) / BITS_PER_WORD];
+
+        /** The translator for the characters that need translating. */
+        private final CharSequenceTranslator translator;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param translator the translator for the characters that need translating.
+         * @param ranges pairs of inclusive bounds of the characters that need translating.
+         */
+        ScanFirstTranslator(final CharSequenceTranslator translator, final char... ranges) {
+            this.translator = translator;
+            for (int i = 0; i < ranges.length; i += 2) {
+                set(ranges[i], ranges[i + 1]);
+            }
+            // a run of clean characters must be a run of code points
+            set(Character.MIN_SURROGATE, Character.MAX_SURROGATE);
+        }
+
+        /**
+         * Escapes a String, returning the input itself when no character needs translating.
+         *
+         * @param input the String to escape, may be null.
+         * @return the escaped String, {@code null} if null string input.
+         */
+        String escape(final String input) {
+            if (input == null) {
+                return null;
+            }
+            final int len = input.length();
+            int index = indexOfEscape(input, 0);
+            if (index == len) {
+                return input;
+            }
+            try {
+                final StringWriter out = new StringWriter(len * 2);
+                out.write(input, 0, index);
+                while (index < len) {
+                    final int consumed = translator.translate(input, index, out);
+                    if (consumed == 0) {
+                        final int codePoint = input.codePointAt(index);
+                        out.write(input, index, Character.charCount(codePoint));
+                        index += Character.charCount(codePoint);
+                    } else {
+                        index = input.offsetByCodePoints(index, consumed);
+                    }
+                    final int end = indexOfEscape(input, index);
+                    out.write(input, index, end - index);
+                    index = end;
+                }
+                return out.toString();
+            } catch (final IOException e) {
+                // this should never ever happen while writing to a StringWriter
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Finds the first character at or after the given index that needs translating.
+         *
+         * @param input the input to scan.
+         * @param index the index to start from.
+         * @return the index of the first character that needs translating, or the length of the input if none does.
+         */
+        private int indexOfEscape(final CharSequence input, final int index) {
+            final int len = input.length();
+            int i = index;
+            while (i < len && !isEscape(input.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+
+        private boolean isEscape(final char ch) {
+            return (escapes[ch / BITS_PER_WORD] & 1L << ch) != 0;
+        }
+
+        private void set(final char from, final char to) {
+            for (int ch = from; ch <= to; ch++) {
+                escapes[ch / BITS_PER_WORD] |= 1L << ch;
+            }
+        }
+
+        @Override
+        public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+            return isEscape(input.charAt(index)) ? translator.translate(input, index, out) : 0;
+        }
+    }
+
     /**
      * Translator object for escaping Java.
      *
@@ -144,6 +272,28 @@ public int translate(final CharSequence input, final int index, final Writer out
             JavaUnicodeEscaper.outsideOf(32, 0x7f)
         );
 
+    /**
+     * The scan-first translator behind {@link #ESCAPE_JSON}, for {@link #escapeJson(String)}.
+     */
+    private static final ScanFirstTranslator JSON_ESCAPER =
+        new ScanFirstTranslator(
+            new AggregateTranslator(
+                new LookupTranslator(
+                          new String[][] {
+                                {"\"", "\\\""},
+                                {"\\", "\\\\"},
+                                {"/", "\\/"}
+                          }),
+                new LookupTranslator(EntityArrays.JAVA_CTRL_CHARS_ESCAPE()),
+                JavaUnicodeEscaper.outsideOf(32, 0x7f)
+            ),
+            '\u0000', '\u001f',
+            '"', '"',
+            '/', '/',
+            '\\', '\\',
+            '\u0080', '\uffff'
+        );
+
     /**
      * Translator object for escaping Json.
      *
@@ -153,17 +303,7 @@ public int translate(final CharSequence input, final int index, final Writer out
      *
      * @since 3.2
      */
-    public static final CharSequenceTranslator ESCAPE_JSON =
-        new AggregateTranslator(
-            new LookupTranslator(
-                      new String[][] {
-                            {"\"", "\\\""},
-                            {"\\", "\\\\"},
-                            {"/", "\\/"}
-                      }),
-            new LookupTranslator(EntityArrays.JAVA_CTRL_CHARS_ESCAPE()),
-            JavaUnicodeEscaper.outsideOf(32, 0x7f)
-        );
+    public static final CharSequenceTranslator ESCAPE_JSON = JSON_ESCAPER;
 
     /**
      * Translator object for escaping XML.
@@ -182,6 +322,65 @@ public int translate(final CharSequence input, final int index, final Writer out
             new LookupTranslator(EntityArrays.APOS_ESCAPE())
         );
 
+    /**
+     * The scan-first translator behind {@link #ESCAPE_XML10}, for {@link #escapeXml10(String)}.
+     */
+    private static final ScanFirstTranslator XML10_ESCAPER =
+        new ScanFirstTranslator(
+            new AggregateTranslator(
+                new LookupTranslator(EntityArrays.BASIC_ESCAPE()),
+                new LookupTranslator(EntityArrays.APOS_ESCAPE()),
+                new LookupTranslator(
+                        new String[][] {
+                                { "\u0000", StringUtils.EMPTY },
+                                { "\u0001", StringUtils.EMPTY },
+                                { "\u0002", StringUtils.EMPTY },
+                                { "\u0003", StringUtils.EMPTY },
+                                { "\u0004", StringUtils.EMPTY },
+                                { "\u0005", StringUtils.EMPTY },
+                                { "\u0006", StringUtils.EMPTY },
+                                { "\u0007", StringUtils.EMPTY },
+                                { "\u0008", StringUtils.EMPTY },
+                                { "\u000b", StringUtils.EMPTY },
+                                { "\u000c", StringUtils.EMPTY },
+                                { "\u000e", StringUtils.EMPTY },
+                                { "\u000f", StringUtils.EMPTY },
+                                { "\u0010", StringUtils.EMPTY },
+                                { "\u0011", StringUtils.EMPTY },
+                                { "\u0012", StringUtils.EMPTY },
+                                { "\u0013", StringUtils.EMPTY },
+                                { "\u0014", StringUtils.EMPTY },
+                                { "\u0015", StringUtils.EMPTY },
+                                { "\u0016", StringUtils.EMPTY },
+                                { "\u0017", StringUtils.EMPTY },
+                                { "\u0018", StringUtils.EMPTY },
+                                { "\u0019", StringUtils.EMPTY },
+                                { "\u001a", StringUtils.EMPTY },
+                                { "\u001b", StringUtils.EMPTY },
+                                { "\u001c", StringUtils.EMPTY },
+                                { "\u001d", StringUtils.EMPTY },
+                                { "\u001e", StringUtils.EMPTY },
+                                { "\u001f", StringUtils.EMPTY },
+                                { "\ufffe", StringUtils.EMPTY },
+                                { "\uffff", StringUtils.EMPTY }
+                        }),
+                NumericEntityEscaper.between(0x7f, 0x84),
+                NumericEntityEscaper.between(0x86, 0x9f),
+                new UnicodeUnpairedSurrogateRemover()
+            ),
+            '\u0000', '\u0008',
+            '\u000b', '\u000c',
+            '\u000e', '\u001f',
+            '"', '"',
+            '&', '&',
+            '\'', '\'',
+            '<', '<',
+            '>', '>',
+            '\u007f', '\u0084',
+            '\u0086', '\u009f',
+            '\ufffe', '\uffff'
+        );
+
     /**
      * Translator object for escaping XML 1.0.
      *
@@ -191,48 +390,7 @@ public int translate(final CharSequence input, final int index, final Writer out
      *
      * @since 3.3
      */
-    public static final CharSequenceTranslator ESCAPE_XML10 =
-        new AggregateTranslator(
-            new LookupTranslator(EntityArrays.BASIC_ESCAPE()),
-            new LookupTranslator(EntityArrays.APOS_ESCAPE()),
-            new LookupTranslator(
-                    new String[][] {
-                            { "\u0000", StringUtils.EMPTY },
-                            { "\u0001", StringUtils.EMPTY },
-                            { "\u0002", StringUtils.EMPTY },
-                            { "\u0003", StringUtils.EMPTY },
-                            { "\u0004", StringUtils.EMPTY },
-                            { "\u0005", StringUtils.EMPTY },
-                            { "\u0006", StringUtils.EMPTY },
-                            { "\u0007", StringUtils.EMPTY },
-                            { "\u0008", StringUtils.EMPTY },
-                            { "\u000b", StringUtils.EMPTY },
-                            { "\u000c", StringUtils.EMPTY },
-                            { "\u000e", StringUtils.EMPTY },
-                            { "\u000f", StringUtils.EMPTY },
-                            { "\u0010", StringUtils.EMPTY },
-                            { "\u0011", StringUtils.EMPTY },
-                            { "\u0012", StringUtils.EMPTY },
-                            { "\u0013", StringUtils.EMPTY },
-                            { "\u0014", StringUtils.EMPTY },
-                            { "\u0015", StringUtils.EMPTY },
-                            { "\u0016", StringUtils.EMPTY },
-                            { "\u0017", StringUtils.EMPTY },
-                            { "\u0018", StringUtils.EMPTY },
-                            { "\u0019", StringUtils.EMPTY },
-                            { "\u001a", StringUtils.EMPTY },
-                            { "\u001b", StringUtils.EMPTY },
-                            { "\u001c", StringUtils.EMPTY },
-                            { "\u001d", StringUtils.EMPTY },
-                            { "\u001e", StringUtils.EMPTY },
-                            { "\u001f", StringUtils.EMPTY },
-                            { "\ufffe", StringUtils.EMPTY },
-                            { "\uffff", StringUtils.EMPTY }
-                    }),
-            NumericEntityEscaper.between(0x7f, 0x84),
-            NumericEntityEscaper.between(0x86, 0x9f),
-            new UnicodeUnpairedSurrogateRemover()
-        );
+    public static final CharSequenceTranslator ESCAPE_XML10 = XML10_ESCAPER;
 
     /**
      * Translator object for escaping XML 1.1.
@@ -435,6 +593,9 @@ public int translate(final CharSequence input, final int index, final Writer out
      * @since 2.4
      */
     public static final String escapeCsv(final String input) {
+        if (input == null || !CsvEscaper.needsQuoting(input)) {
+            return input;
+        }
         return ESCAPE_CSV.translate(input);
     }
 
@@ -554,7 +715,7 @@ public static final String escapeJava(final String input) {
      * @since 3.2
      */
     public static final String escapeJson(final String input) {
-        return ESCAPE_JSON.translate(input);
+        return JSON_ESCAPER.escape(input);
     }
 
     /**
@@ -629,7 +790,7 @@ public static final String escapeXml(final String input) {
      * @since 3.3
      */
     public static String escapeXml10(final String input) {
-        return ESCAPE_XML10.translate(input);
+        return XML10_ESCAPER.escape(input);
     }
 
     /**
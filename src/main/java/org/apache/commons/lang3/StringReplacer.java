@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Replaces all occurrences of a fixed list of search Strings in one pass, like {@link StringUtils#replaceEach(String, String[], String[])} and
+ * {@link StringUtils#replaceEachRepeatedly(String, String[], String[])}, but with the search list compiled once into an Aho-Corasick automaton.
+ * <p>
+ * {@link StringUtils#replaceEach(String, String[], String[])} rescans the input once per search String each time it is called, this class scans the input
+ * once, whatever the number of search Strings. Keep an instance in a (static) variable when the same search and replacement lists are used over and over.
+ * </p>
+ * <p>
+ * The matching rules are the same as {@link StringUtils#replaceEach(String, String[], String[])}: the leftmost match wins, and when several search
+ * Strings match at the same position, the one with the lowest index in the search list wins. A {@code null} or empty search String, or a {@code null}
+ * replacement String, is ignored.
+ * </p>
+ *
+ * <pre>{@code
+ * private static final StringReplacer REPLACER = StringReplacer.of(new String[] {"ab", "d"}, new String[] {"w", "t"});
+ * ...
+ * REPLACER.replace("abcde"); // "wcte"
+ * }</pre>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ *
+ * @see StringUtils#replaceEach(String, String[], String[])
+ * @see StringUtils#replaceEachRepeatedly(String, String[], String[])
+ * @since 3.18.0
+ */
+public final class StringReplacer {
+
+    /**
+     * The minimum number of passes {@link #replaceRepeatedly(String)} makes, matches {@code StringUtils.DEFAULT_TTL}.
+     */
+    private static final int DEFAULT_TTL = 5;
+
+    /**
+     * The root state of the automaton.
+     */
+    private static final int ROOT = 0;
+
+    /**
+     * Creates a new instance for the given search and replacement lists.
+     * <p>
+     * If either list is {@code null} or empty, the new instance returns its input unchanged.
+     * </p>
+     *
+     * @param searchList      the Strings to search for, may be null.
+     * @param replacementList the Strings to replace them with, may be null.
+     * @return a new instance.
+     * @throws IllegalArgumentException if the lengths of the arrays are not the same (null is ok, and/or size 0).
+     */
+    public static StringReplacer of(final String[] searchList, final String[] replacementList) {
+        if (ArrayUtils.isEmpty(searchList) || ArrayUtils.isEmpty(replacementList)) {
+            return new StringReplacer(ArrayUtils.EMPTY_STRING_ARRAY, ArrayUtils.EMPTY_STRING_ARRAY);
+        }
+        if (searchList.length != replacementList.length) {
+            throw new IllegalArgumentException("Search and Replace array lengths don't match: " + searchList.length + " vs " + replacementList.length);
+        }
+        return new StringReplacer(searchList.clone(), replacementList.clone());
+    }
+
+    /** The replacement String of each search String, indexed by search list index. */
+    private final String[] replacementList;
+
+    /** The number of passes {@link #replaceRepeatedly(String)} makes before giving up. */
+    private final int timeToLive;
+
+    /** The length of the longest search String, 0 if there are none. */
+    private final int maxLength;
+
+    /** For each state, the sorted characters that have a goto transition. */
+    private final char[][] gotoChars;
+
+    /** For each state, the target states parallel to {@link #gotoChars}. */
+    private final int[][] gotoStates;
+
+    /** For each state, the state of its longest proper suffix that is also a trie prefix. */
+    private final int[] failStates;
+
+    /** For each state, the lowest search index of the longest search String ending in this state, -1 if none. */
+    private final int[] matchIndexes;
+
+    /** For each state, the length of the search String in {@link #matchIndexes}. */
+    private final int[] matchLengths;
+
+    private StringReplacer(final String[] searchList, final String[] replacementList) {
+        this.replacementList = replacementList;
+        this.timeToLive = Math.max(searchList.length, DEFAULT_TTL);
+        // Build the trie with sorted per-state transition maps.
+        final List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        final List<Integer> terminals = new ArrayList<>();
+        final List<Integer> depths = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        terminals.add(-1);
+        depths.add(0);
+        int longest = 0;
+        for (int i = 0; i < searchList.length; i++) {
+            final String search = searchList[i];
+            if (StringUtils.isEmpty(search) || replacementList[i] == null) {
+                continue;
+            }
+            longest = Math.max(longest, search.length());
+            int state = ROOT;
+            for (int j = 0; j < search.length(); j++) {
+                final Integer next = transitions.get(state).get(search.charAt(j));
+                if (next != null) {
+                    state = next;
+                } else {
+                    final int added = transitions.size();
+                    transitions.get(state).put(search.charAt(j), added);
+                    transitions.add(new TreeMap<>());
+                    terminals.add(-1);
+                    depths.add(j + 1);
+                    state = added;
+                }
+            }
+            // The first (lowest) index wins for duplicate search Strings.
+            if (terminals.get(state) < 0) {
+                terminals.set(state, i);
+            }
+        }
+        this.maxLength = longest;
+        final int size = transitions.size();
+        gotoChars = new char[size][];
+        gotoStates = new int[size][];
+        for (int s = 0; s < size; s++) {
+            final TreeMap<Character, Integer> map = transitions.get(s);
+            final char[] c = new char[map.size()];
+            final int[] t = new int[map.size()];
+            int k = 0;
+            for (final Map.Entry<Character, Integer> entry : map.entrySet()) {
+                c[k] = entry.getKey();
+                t[k++] = entry.getValue();
+            }
+            gotoChars[s] = c;
+            gotoStates[s] = t;
+        }
+        // Compute failure links and the longest match of each state breadth first.
+        failStates = new int[size];
+        matchIndexes = new int[size];
+        matchLengths = new int[size];
+        matchIndexes[ROOT] = -1;
+        final Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            final char[] c = gotoChars[state];
+            final int[] t = gotoStates[state];
+            for (int k = 0; k < c.length; k++) {
+                final int child = t[k];
+                failStates[child] = state == ROOT ? ROOT : next(failStates[state], c[k]);
+                final int terminal = terminals.get(child);
+                if (terminal >= 0) {
+                    matchIndexes[child] = terminal;
+                    matchLengths[child] = depths.get(child);
+                } else {
+                    matchIndexes[child] = matchIndexes[failStates[child]];
+                    matchLengths[child] = matchLengths[failStates[child]];
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Tests whether this instance has no search String to replace.
+     *
+     * @return whether this instance has no search String to replace.
+     */
+    private boolean isNoOp() {
+        return maxLength == 0;
+    }
+
+    /**
+     * Follows the goto and failure transitions of the given state for the given character.
+     *
+     * @param state the current state.
+     * @param ch    the next input character.
+     * @return the next state.
+     */
+    private int next(int state, final char ch) {
+        while (true) {
+            final char[] c = gotoChars[state];
+            final int k = c.length < 8 ? linearSearch(c, ch) : Arrays.binarySearch(c, ch);
+            if (k >= 0) {
+                return gotoStates[state][k];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failStates[state];
+        }
+    }
+
+    private static int linearSearch(final char[] chars, final char ch) {
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces all occurrences of the search Strings in the given text, appending to a lazily created buffer.
+     *
+     * @param text the text to search, not null.
+     * @param buf  the buffer to append to, or null to create one on the first match.
+     * @return the buffer, or null if {@code buf} was null and there was no match.
+     */
+    private StringBuilder replace(final CharSequence text, StringBuilder buf) {
+        final int length = text.length();
+        // copied up to here
+        int start = 0;
+        int state = ROOT;
+        int bestStart = -1;
+        int bestIndex = -1;
+        int bestLength = 0;
+        int i = 0;
+        while (i < length) {
+            state = next(state, text.charAt(i));
+            final int index = matchIndexes[state];
+            if (index >= 0) {
+                final int matchStart = i - matchLengths[state] + 1;
+                if (bestStart < 0 || matchStart < bestStart || matchStart == bestStart && index < bestIndex) {
+                    bestStart = matchStart;
+                    bestIndex = index;
+                    bestLength = matchLengths[state];
+                }
+            }
+            i++;
+            // Once no search String can start at or before bestStart, the leftmost match is known.
+            if (bestStart >= 0 && (i - bestStart >= maxLength || i == length)) {
+                if (buf == null) {
+                    buf = new StringBuilder(length + 16);
+                }
+                buf.append(text, start, bestStart).append(replacementList[bestIndex]);
+                start = bestStart + bestLength;
+                i = start;
+                state = ROOT;
+                bestStart = -1;
+                bestIndex = -1;
+            }
+        }
+        if (buf != null) {
+            buf.append(text, start, length);
+        }
+        return buf;
+    }
+
+    /**
+     * Replaces all occurrences of the search Strings in a String.
+     *
+     * <pre>
+     * StringReplacer.of(*, *).replace(null) = null
+     * StringReplacer.of(*, *).replace("") = ""
+     * StringReplacer.of(new String[]{"a"}, new String[]{""}).replace("aba") = "b"
+     * StringReplacer.of(new String[]{"ab", "d"}, new String[]{"w", "t"}).replace("abcde") = "wcte"
+     * StringReplacer.of(new String[]{"ab", "d"}, new String[]{"d", "t"}).replace("abcde") = "dcte"
+     * </pre>
+     *
+     * @param text text to search and replace in, no-op if null.
+     * @return the text with any replacements processed, the same instance if there is nothing to replace, {@code null} if null String input.
+     * @see StringUtils#replaceEach(String, String[], String[])
+     */
+    public String replace(final String text) {
+        if (StringUtils.isEmpty(text) || isNoOp()) {
+            return text;
+        }
+        final StringBuilder buf = replace(text, null);
+        return buf != null ? buf.toString() : text;
+    }
+
+    /**
+     * Appends the given text to a StringBuilder, replacing all occurrences of the search Strings.
+     * <p>
+     * This avoids creating an intermediary String when the result is appended to a larger buffer anyway.
+     * </p>
+     *
+     * @param target the StringBuilder to append to, not null.
+     * @param text   text to search and replace in, no-op if null.
+     * @return the given StringBuilder.
+     */
+    public StringBuilder replace(final StringBuilder target, final CharSequence text) {
+        if (StringUtils.isEmpty(text)) {
+            return target;
+        }
+        if (isNoOp() || replace(text, target) == null) {
+            target.append(text);
+        }
+        return target;
+    }
+
+    /**
+     * Replaces all occurrences of the search Strings in a String, repeatedly until there are no more matches.
+     *
+     * <pre>
+     * StringReplacer.of(new String[]{"ab", "d"}, new String[]{"d", "t"}).replaceRepeatedly("abcde") = "tcte"
+     * StringReplacer.of(new String[]{"ab", "d"}, new String[]{"d", "ab"}).replaceRepeatedly("abcde") = IllegalStateException
+     * </pre>
+     *
+     * @param text text to search and replace in, no-op if null.
+     * @return the text with any replacements processed, {@code null} if null String input.
+     * @throws IllegalStateException if the search is repeating and there is an endless loop due to outputs of one being inputs to another.
+     * @see StringUtils#replaceEachRepeatedly(String, String[], String[])
+     */
+    public String replaceRepeatedly(final String text) {
+        String result = text;
+        for (int ttl = timeToLive;; ttl--) {
+            if (StringUtils.isEmpty(result) || isNoOp()) {
+                return result;
+            }
+            if (ttl < 0) {
+                throw new IllegalStateException("Aborting to protect against StackOverflowError - output of one loop is the input of another");
+            }
+            final StringBuilder buf = replace(result, null);
+            if (buf == null) {
+                return result;
+            }
+            result = buf.toString();
+        }
+    }
+}
@@ -140,6 +140,64 @@ public class StringUtils {
     // String.concat about twice as fast as StringBuffer.append
     // (not sure who tested this)
 
+    /**
+     * Holds the {@link StringUtils#stripAccents(String)} results for single Latin characters, computed on first use.
+     */
+    private static final class StripAccentsTable {
+
+        /**
+         * The first character of the Latin Extended Additional block.
+         */
+        private static final char EXTENDED_START = '\u1E00';
+
+        /**
+         * The results for the characters from 0 up to the end of the Combining Diacritical Marks block.
+         */
+        private static final String[] LATIN = build('\u0000', '\u0370');
+
+        /**
+         * The results for the Latin Extended Additional block.
+         */
+        private static final String[] EXTENDED = build(EXTENDED_START, '\u1F00');
+
+        /**
+         * Computes the results for a range of characters with the normalizing implementation.
+         * <p>
+         * A result is kept only if it holds no combining marks: normalization reorders combining marks, so only then is the result for a string the
+         * concatenation of the results for its characters.
+         * </p>
+         */
+        private static String[] build(final char start, final char end) {
+            final String[] table = new String[end - start];
+            for (char ch = start; ch < end; ch++) {
+                final String stripped = stripAccentsNormalized(String.valueOf(ch));
+                if (stripped.chars().noneMatch(StripAccentsTable::isCombiningMark)) {
+                    table[ch - start] = stripped;
+                }
+            }
+            return table;
+        }
+
+        /**
+         * Gets the result of {@link StringUtils#stripAccents(String)} for one character.
+         *
+         * @param ch the character.
+         * @return the character stripped, or {@code null} if it needs the whole string to be normalized.
+         */
+        static String get(final char ch) {
+            if (ch < LATIN.length) {
+                return LATIN[ch];
+            }
+            final int index = ch - EXTENDED_START;
+            return index >= 0 && index < EXTENDED.length ? EXTENDED[index] : null;
+        }
+
+        private static boolean isCombiningMark(final int ch) {
+            final int type = Character.getType(ch);
+            return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.COMBINING_SPACING_MARK;
+        }
+    }
+
     /**
      * A String for a space character.
      *
@@ -1024,8 +1082,16 @@ public static boolean containsAny(final CharSequence cs, final char... searchCha
         if (isEmpty(cs) || ArrayUtils.isEmpty(searchChars)) {
             return false;
         }
-        final int csLength = cs.length();
         final int searchLength = searchChars.length;
+        if (searchLength > 1) {
+            // one table lookup per char instead of a scan of searchChars, unless surrogate pairs need matching;
+            // the 128-entry table is built on each call, which costs less than the scan it replaces
+            final CharMatcher matcher = CharMatcher.anyOfAscii(searchChars);
+            if (matcher != null) {
+                return matcher.matchesAny(cs);
+            }
+        }
+        final int csLength = cs.length();
         final int csLast = csLength - 1;
         final int searchLast = searchLength - 1;
         for (int i = 0; i < csLength; i++) {
@@ -3831,13 +3897,16 @@ public static String join(final boolean[] array, final char delimiter, final int
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder(array.length * 5 + array.length - 1);
+        // size the builder exactly
+        long length = endIndex - startIndex - 1;
         for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+            length += array[i] ? 4 : 5;
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(length)).append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
+        }
+        return stringBuilder.toString();
     }
 
     /**
@@ -3906,13 +3975,16 @@ public static String join(final byte[] array, final char delimiter, final int st
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder();
+        // size the builder exactly, the numbers are then appended without intermediate Strings
+        long length = endIndex - startIndex - 1;
         for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+            length += AppendableJoiner.stringLength(array[i]);
+        }
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(length)).append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        return stringBuilder.toString();
     }
 
     /**
@@ -3981,13 +4053,11 @@ public static String join(final char[] array, final char delimiter, final int st
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder(array.length * 2 - 1);
-        for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(2L * (endIndex - startIndex) - 1)).append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        return stringBuilder.toString();
     }
 
     /**
@@ -4056,13 +4126,11 @@ public static String join(final double[] array, final char delimiter, final int
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder();
-        for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+        final StringBuilder stringBuilder = new StringBuilder().append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        return stringBuilder.toString();
     }
 
     /**
@@ -4131,13 +4199,11 @@ public static String join(final float[] array, final char delimiter, final int s
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder();
-        for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+        final StringBuilder stringBuilder = new StringBuilder().append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        return stringBuilder.toString();
     }
 
     /**
@@ -4206,13 +4272,16 @@ public static String join(final int[] array, final char delimiter, final int sta
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder();
+        // size the builder exactly, the numbers are then appended without intermediate Strings
+        long length = endIndex - startIndex - 1;
         for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+            length += AppendableJoiner.stringLength(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(length)).append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
+        }
+        return stringBuilder.toString();
     }
 
     /**
@@ -4442,13 +4511,16 @@ public static String join(final long[] array, final char delimiter, final int st
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder();
+        // size the builder exactly, the numbers are then appended without intermediate Strings
+        long length = endIndex - startIndex - 1;
         for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+            length += AppendableJoiner.stringLength(array[i]);
+        }
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(length)).append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        return stringBuilder.toString();
     }
 
     /**
@@ -4573,8 +4645,28 @@ public static String join(final Object[] array, final String delimiter) {
      * {@code endIndex > array.length()}
      */
     public static String join(final Object[] array, final String delimiter, final int startIndex, final int endIndex) {
-        return array != null ? Streams.of(array).skip(startIndex).limit(Math.max(0, endIndex - startIndex))
-            .collect(LangCollectors.joining(delimiter, EMPTY, EMPTY, ObjectUtils::toString)) : null;
+        if (array == null) {
+            return null;
+        }
+        final int count = Math.min(endIndex, array.length) - startIndex;
+        if (count <= 0) {
+            return EMPTY;
+        }
+        // convert each element once, then copy into a builder of the exact length
+        final String separator = ObjectUtils.toString(delimiter);
+        final String[] strings = new String[count];
+        long length = (long) (count - 1) * separator.length();
+        for (int i = 0; i < count; i++) {
+            final String string = ObjectUtils.toString(array[startIndex + i]);
+            // a toString() returning null is appended as "null", like StringBuilder.append(Object)
+            strings[i] = string != null ? string : "null";
+            length += strings[i].length();
+        }
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(length)).append(strings[0]);
+        for (int i = 1; i < count; i++) {
+            stringBuilder.append(separator).append(strings[i]);
+        }
+        return stringBuilder.toString();
     }
 
     /**
@@ -4643,13 +4735,16 @@ public static String join(final short[] array, final char delimiter, final int s
         if (endIndex - startIndex <= 0) {
             return EMPTY;
         }
-        final StringBuilder stringBuilder = new StringBuilder();
+        // size the builder exactly, the numbers are then appended without intermediate Strings
+        long length = endIndex - startIndex - 1;
         for (int i = startIndex; i < endIndex; i++) {
-            stringBuilder
-                    .append(array[i])
-                    .append(delimiter);
+            length += AppendableJoiner.stringLength(array[i]);
+        }
+        final StringBuilder stringBuilder = new StringBuilder(AppendableJoiner.toCapacity(length)).append(array[startIndex]);
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            stringBuilder.append(delimiter).append(array[i]);
         }
-        return stringBuilder.substring(0, stringBuilder.length() - 1);
+        return stringBuilder.toString();
     }
 
     /**
@@ -7910,6 +8005,39 @@ public static String stripAccents(final String input) {
         if (isEmpty(input)) {
             return input;
         }
+        final int length = input.length();
+        int i = 0;
+        while (i < length && CharUtils.isAscii(input.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            // ASCII has no accents
+            return input;
+        }
+        // look Latin characters up one at a time, and normalize the whole string only when one of the others turns up
+        final StringBuilder stripped = new StringBuilder(length).append(input, 0, i);
+        for (; i < length; i++) {
+            final char ch = input.charAt(i);
+            if (CharUtils.isAscii(ch)) {
+                stripped.append(ch);
+            } else {
+                final String replacement = StripAccentsTable.get(ch);
+                if (replacement == null) {
+                    return stripAccentsNormalized(input);
+                }
+                stripped.append(replacement);
+            }
+        }
+        return stripped.toString();
+    }
+
+    /**
+     * Removes diacritics from a string by decomposing it, see {@link #stripAccents(String)}.
+     *
+     * @param input String to be stripped, not {@code null}.
+     * @return input text with diacritics removed.
+     */
+    private static String stripAccentsNormalized(final String input) {
         final StringBuilder decomposed = new StringBuilder(Normalizer.normalize(input, Normalizer.Form.NFKD));
         convertRemainingAccentCharacters(decomposed);
         return STRIP_ACCENTS_PATTERN.matcher(decomposed).replaceAll(EMPTY);
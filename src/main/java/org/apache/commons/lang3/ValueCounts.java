@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+/**
+ * Counts occurrences of primitive values in an open-addressing hash table, without boxing.
+ * <p>
+ * Values are keyed by their bits widened to a {@code long}: {@code float} and {@code double} values should be passed as {@link Float#floatToIntBits(float)}
+ * and {@link Double#doubleToLongBits(double)} to match the equality of their wrapper classes.
+ * </p>
+ */
+final class ValueCounts {
+
+    /**
+     * The largest table capacity, a power of two.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static int hash(final long key) {
+        final int h = (int) (key ^ key >>> 32) * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    private final long[] keys;
+
+    /**
+     * The count of each key plus one, 0 marks a free slot.
+     */
+    private final int[] counts;
+    private final int mask;
+    private long remaining;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param expectedKeys the maximum number of distinct keys expected, the table does not grow.
+     */
+    ValueCounts(final int expectedKeys) {
+        final long wanted = Math.max(2L, 2L * expectedKeys);
+        final int capacity = (int) Math.min(MAX_CAPACITY, Long.highestOneBit(wanted - 1) << 1);
+        keys = new long[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Decrements the count of a key.
+     *
+     * @param key the key.
+     * @return whether the count of the key was positive.
+     */
+    boolean decrement(final long key) {
+        for (int slot = hash(key) & mask; counts[slot] != 0; slot = slot + 1 & mask) {
+            if (keys[slot] == key) {
+                if (counts[slot] == 1) {
+                    return false;
+                }
+                counts[slot]--;
+                remaining--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Increments the count of a key.
+     *
+     * @param key the key.
+     */
+    void increment(final long key) {
+        int slot = hash(key) & mask;
+        while (counts[slot] != 0 && keys[slot] != key) {
+            slot = slot + 1 & mask;
+        }
+        if (counts[slot] == 0) {
+            keys[slot] = key;
+            counts[slot] = 1;
+        }
+        counts[slot]++;
+        remaining++;
+    }
+
+    /**
+     * Tests whether all counts are zero.
+     *
+     * @return whether all counts are zero.
+     */
+    boolean isEmpty() {
+        return remaining == 0;
+    }
+}
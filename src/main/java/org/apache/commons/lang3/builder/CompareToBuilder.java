@@ -16,7 +16,6 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
@@ -115,8 +114,7 @@ private static void reflectionAppend(
         final boolean useTransients,
         final String[] excludeFields) {
 
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
+        final Field[] fields = Reflection.getDeclaredFields(clazz);
         for (int i = 0; i < fields.length && builder.comparison == 0; i++) {
             final Field field = fields[i];
             if (!ArrayUtils.contains(excludeFields, field.getName())
@@ -21,10 +21,12 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Assists in implementing {@link Diffable#diff(Object)} methods.
@@ -63,6 +65,11 @@
  * <p>
  * See {@link ReflectionDiffBuilder} for a reflection based version of this class.
  * </p>
+ * <p>
+ * To find out whether objects differ, or to find their first few differences, set {@link Builder#setMaxDiffs(int)}: once that many diffs are found, the
+ * remaining {@code append} calls return without comparing anything. To process diffs as they are found rather than collect them in the
+ * {@link DiffResult}, set {@link Builder#setDiffConsumer(Consumer)}.
+ * </p>
  *
  * @param <T> type of the left and right object.
  * @see Diffable
@@ -82,7 +89,9 @@
      */
     public static final class Builder<T> {
 
+        private Consumer<? super Diff<?>> diffConsumer;
         private T left;
+        private int maxDiffs = Integer.MAX_VALUE;
         private T right;
         private ToStringStyle style;
         private boolean testObjectsEquals = true;
@@ -101,7 +110,23 @@ public Builder() {
          * @return a new configured {@link DiffBuilder}.
          */
         public DiffBuilder<T> build() {
-            return new DiffBuilder<>(left, right, style, testObjectsEquals, toStringFormat);
+            return new DiffBuilder<>(left, right, style, testObjectsEquals, toStringFormat, diffConsumer, maxDiffs);
+        }
+
+        /**
+         * Sets the consumer that receives each {@link Diff} as it is found, {@code null} collects them in the {@link DiffResult}.
+         *
+         * <p>
+         * Diffs passed to the consumer are not kept, so the {@link DiffResult} built holds none of them.
+         * </p>
+         *
+         * @param diffConsumer the consumer of diffs, {@code null} collects them in the {@link DiffResult}.
+         * @return {@code this} instance.
+         * @since 3.18.0
+         */
+        public Builder<T> setDiffConsumer(final Consumer<? super Diff<?>> diffConsumer) {
+            this.diffConsumer = diffConsumer;
+            return this;
         }
 
         /**
@@ -115,6 +140,21 @@ public Builder<T> setLeft(final T left) {
             return this;
         }
 
+        /**
+         * Sets the number of diffs after which all further {@code append} calls return without comparing anything, for example {@code 1} to find out
+         * whether the objects differ at all. The default is {@link Integer#MAX_VALUE}.
+         *
+         * @param maxDiffs the number of diffs to find, not negative.
+         * @return {@code this} instance.
+         * @throws IllegalArgumentException if {@code maxDiffs} is negative.
+         * @since 3.18.0
+         */
+        public Builder<T> setMaxDiffs(final int maxDiffs) {
+            Validate.isTrue(maxDiffs >= 0, "maxDiffs must not be negative: %d", maxDiffs);
+            this.maxDiffs = maxDiffs;
+            return this;
+        }
+
         /**
          * Sets the right object.
          *
@@ -210,9 +250,16 @@ public static <T> Builder<T> builder() {
         return new Builder<>();
     }
 
+    private final Consumer<? super Diff<?>> diffConsumer;
     private final List<Diff<?>> diffs;
-    private final boolean equals;
+
+    /**
+     * Whether {@code append} calls are ignored: the objects are equal, or {@link #maxDiffs} diffs have been found.
+     */
+    private boolean done;
     private final T left;
+    private final int maxDiffs;
+    private int numberOfDiffs;
     private final T right;
     private final ToStringStyle style;
     private final String toStringFormat;
@@ -260,21 +307,30 @@ public DiffBuilder(final T left, final T right, final ToStringStyle style) {
      */
     @Deprecated
     public DiffBuilder(final T left, final T right, final ToStringStyle style, final boolean testObjectsEquals) {
-        this(left, right, style, testObjectsEquals, TO_STRING_FORMAT);
+        this(left, right, style, testObjectsEquals, TO_STRING_FORMAT, null, Integer.MAX_VALUE);
     }
 
-    private DiffBuilder(final T left, final T right, final ToStringStyle style, final boolean testObjectsEquals, final String toStringFormat) {
+    private DiffBuilder(final T left, final T right, final ToStringStyle style, final boolean testObjectsEquals, final String toStringFormat,
+            final Consumer<? super Diff<?>> diffConsumer, final int maxDiffs) {
         this.left = Objects.requireNonNull(left, "left");
         this.right = Objects.requireNonNull(right, "right");
         this.diffs = new ArrayList<>();
         this.toStringFormat = toStringFormat;
         this.style = style != null ? style : ToStringStyle.DEFAULT_STYLE;
+        this.diffConsumer = diffConsumer;
+        this.maxDiffs = maxDiffs;
         // Don't compare any fields if objects equal
-        this.equals = testObjectsEquals && Objects.equals(left, right);
+        this.done = maxDiffs == 0 || testObjectsEquals && Objects.equals(left, right);
     }
 
     private <F> DiffBuilder<T> add(final String fieldName, final SerializableSupplier<F> left, final SerializableSupplier<F> right, final Class<F> type) {
-        diffs.add(new SDiff<>(fieldName, left, right, type));
+        final Diff<F> diff = new SDiff<>(fieldName, left, right, type);
+        if (diffConsumer != null) {
+            diffConsumer.accept(diff);
+        } else {
+            diffs.add(diff);
+        }
+        done = ++numberOfDiffs >= maxDiffs;
         return this;
     }
 
@@ -288,7 +344,7 @@ private <F> DiffBuilder<T> add(final String fieldName, final SerializableSupplie
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final boolean lhs, final boolean rhs) {
-        return equals || lhs == rhs ? this : add(fieldName, () -> Boolean.valueOf(lhs), () -> Boolean.valueOf(rhs), Boolean.class);
+        return done || lhs == rhs ? this : add(fieldName, () -> Boolean.valueOf(lhs), () -> Boolean.valueOf(rhs), Boolean.class);
     }
 
     /**
@@ -301,7 +357,7 @@ public DiffBuilder<T> append(final String fieldName, final boolean lhs, final bo
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final boolean[] lhs, final boolean[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Boolean[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Boolean[].class);
     }
 
     /**
@@ -314,7 +370,7 @@ public DiffBuilder<T> append(final String fieldName, final boolean[] lhs, final
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final byte lhs, final byte rhs) {
-        return equals || lhs == rhs ? this : add(fieldName, () -> Byte.valueOf(lhs), () -> Byte.valueOf(rhs), Byte.class);
+        return done || lhs == rhs ? this : add(fieldName, () -> Byte.valueOf(lhs), () -> Byte.valueOf(rhs), Byte.class);
     }
 
     /**
@@ -327,7 +383,7 @@ public DiffBuilder<T> append(final String fieldName, final byte lhs, final byte
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final byte[] lhs, final byte[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Byte[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Byte[].class);
     }
 
     /**
@@ -340,7 +396,7 @@ public DiffBuilder<T> append(final String fieldName, final byte[] lhs, final byt
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final char lhs, final char rhs) {
-        return equals || lhs == rhs ? this : add(fieldName, () -> Character.valueOf(lhs), () -> Character.valueOf(rhs), Character.class);
+        return done || lhs == rhs ? this : add(fieldName, () -> Character.valueOf(lhs), () -> Character.valueOf(rhs), Character.class);
     }
 
     /**
@@ -353,7 +409,7 @@ public DiffBuilder<T> append(final String fieldName, final char lhs, final char
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final char[] lhs, final char[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Character[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Character[].class);
     }
 
     /**
@@ -388,10 +444,12 @@ public DiffBuilder<T> append(final String fieldName, final char[] lhs, final cha
      */
     public DiffBuilder<T> append(final String fieldName, final DiffResult<?> diffResult) {
         Objects.requireNonNull(diffResult, "diffResult");
-        if (equals) {
-            return this;
+        for (final Diff<?> diff : diffResult) {
+            if (done) {
+                break;
+            }
+            append(fieldName + "." + diff.getFieldName(), diff.getLeft(), diff.getRight());
         }
-        diffResult.getDiffs().forEach(diff -> append(fieldName + "." + diff.getFieldName(), diff.getLeft(), diff.getRight()));
         return this;
     }
 
@@ -405,7 +463,7 @@ public DiffBuilder<T> append(final String fieldName, final DiffResult<?> diffRes
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final double lhs, final double rhs) {
-        return equals || Double.doubleToLongBits(lhs) == Double.doubleToLongBits(rhs) ? this
+        return done || Double.doubleToLongBits(lhs) == Double.doubleToLongBits(rhs) ? this
                 : add(fieldName, () -> Double.valueOf(lhs), () -> Double.valueOf(rhs), Double.class);
     }
 
@@ -419,7 +477,7 @@ public DiffBuilder<T> append(final String fieldName, final double lhs, final dou
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final double[] lhs, final double[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Double[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Double[].class);
     }
 
     /**
@@ -432,7 +490,7 @@ public DiffBuilder<T> append(final String fieldName, final double[] lhs, final d
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final float lhs, final float rhs) {
-        return equals || Float.floatToIntBits(lhs) == Float.floatToIntBits(rhs) ? this
+        return done || Float.floatToIntBits(lhs) == Float.floatToIntBits(rhs) ? this
                 : add(fieldName, () -> Float.valueOf(lhs), () -> Float.valueOf(rhs), Float.class);
     }
 
@@ -446,7 +504,7 @@ public DiffBuilder<T> append(final String fieldName, final float lhs, final floa
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final float[] lhs, final float[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Float[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Float[].class);
     }
 
     /**
@@ -459,7 +517,7 @@ public DiffBuilder<T> append(final String fieldName, final float[] lhs, final fl
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final int lhs, final int rhs) {
-        return equals || lhs == rhs ? this : add(fieldName, () -> Integer.valueOf(lhs), () -> Integer.valueOf(rhs), Integer.class);
+        return done || lhs == rhs ? this : add(fieldName, () -> Integer.valueOf(lhs), () -> Integer.valueOf(rhs), Integer.class);
     }
 
     /**
@@ -472,7 +530,7 @@ public DiffBuilder<T> append(final String fieldName, final int lhs, final int rh
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final int[] lhs, final int[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Integer[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Integer[].class);
     }
 
     /**
@@ -485,7 +543,7 @@ public DiffBuilder<T> append(final String fieldName, final int[] lhs, final int[
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final long lhs, final long rhs) {
-        return equals || lhs == rhs ? this : add(fieldName, () -> Long.valueOf(lhs), () -> Long.valueOf(rhs), Long.class);
+        return done || lhs == rhs ? this : add(fieldName, () -> Long.valueOf(lhs), () -> Long.valueOf(rhs), Long.class);
     }
 
     /**
@@ -498,7 +556,7 @@ public DiffBuilder<T> append(final String fieldName, final long lhs, final long
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final long[] lhs, final long[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Long[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Long[].class);
     }
 
     /**
@@ -511,7 +569,7 @@ public DiffBuilder<T> append(final String fieldName, final long[] lhs, final lon
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final Object lhs, final Object rhs) {
-        if (equals || lhs == rhs) {
+        if (done || lhs == rhs) {
             return this;
         }
         // rhs cannot be null, as lhs != rhs
@@ -557,7 +615,7 @@ public DiffBuilder<T> append(final String fieldName, final Object lhs, final Obj
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final Object[] lhs, final Object[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> lhs, () -> rhs, Object[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> lhs, () -> rhs, Object[].class);
     }
 
     /**
@@ -570,7 +628,7 @@ public DiffBuilder<T> append(final String fieldName, final Object[] lhs, final O
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final short lhs, final short rhs) {
-        return equals || lhs == rhs ? this : add(fieldName, () -> Short.valueOf(lhs), () -> Short.valueOf(rhs), Short.class);
+        return done || lhs == rhs ? this : add(fieldName, () -> Short.valueOf(lhs), () -> Short.valueOf(rhs), Short.class);
     }
 
     /**
@@ -583,7 +641,7 @@ public DiffBuilder<T> append(final String fieldName, final short lhs, final shor
      * @throws NullPointerException if field name is {@code null}
      */
     public DiffBuilder<T> append(final String fieldName, final short[] lhs, final short[] rhs) {
-        return equals || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Short[].class);
+        return done || Arrays.equals(lhs, rhs) ? this : add(fieldName, () -> ArrayUtils.toObject(lhs), () -> ArrayUtils.toObject(rhs), Short[].class);
     }
 
     /**
@@ -614,4 +672,13 @@ T getRight() {
         return right;
     }
 
+    /**
+     * Tests whether further {@code append} calls are ignored, because the objects are equal or enough diffs have been found.
+     *
+     * @return whether further {@code append} calls are ignored.
+     */
+    boolean isDone() {
+        return done;
+    }
+
 }
@@ -16,18 +16,14 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Assists in implementing {@link Object#equals(Object)} methods.
@@ -89,49 +85,21 @@
 public class EqualsBuilder implements Builder<Boolean> {
 
     /**
-     * A registry of objects used by reflection methods to detect cyclical object references and avoid infinite loops.
+     * A registry of object pairs used by reflection methods to detect cyclical object references and avoid infinite loops.
      *
      * @since 3.0
      */
-    private static final ThreadLocal<Set<Pair<IDKey, IDKey>>> REGISTRY = ThreadLocal.withInitial(HashSet::new);
-
-    /*
-     * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
-     * we are in the process of calculating.
-     *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
-     * The original implementation (2.4 and before) used the System.identityHashCode()
-     * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
-     *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
-     */
-
-    /**
-     * Converters value pair into a register pair.
-     *
-     * @param lhs {@code this} object
-     * @param rhs the other object
-     * @return the pair
-     */
-    static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
-        return Pair.of(new IDKey(lhs), new IDKey(rhs));
-    }
+    private static final IdentityRegistry REGISTRY = new IdentityRegistry(2);
 
     /**
      * Returns the registry of object pairs being traversed by the reflection
      * methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * @return the registry of object pairs being traversed
      * @since 3.0
      */
-    static Set<Pair<IDKey, IDKey>> getRegistry() {
-        return REGISTRY.get();
+    static IdentityRegistry getRegistry() {
+        return REGISTRY;
     }
 
     /**
@@ -146,10 +114,7 @@ static Set<Pair<IDKey, IDKey>> getRegistry() {
      * @since 3.0
      */
     static boolean isRegistered(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        final Pair<IDKey, IDKey> swappedPair = Pair.of(pair.getRight(), pair.getLeft());
-        return registry != null && (registry.contains(pair) || registry.contains(swappedPair));
+        return REGISTRY.contains(lhs, rhs) || REGISTRY.contains(rhs, lhs);
     }
 
     /**
@@ -323,7 +288,7 @@ public static boolean reflectionEquals(final Object lhs, final Object rhs, final
      * @param rhs the other object to register
      */
     private static void register(final Object lhs, final Object rhs) {
-        getRegistry().add(getRegisterPair(lhs, rhs));
+        REGISTRY.register(lhs, rhs);
     }
 
     /**
@@ -338,11 +303,7 @@ private static void register(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     private static void unregister(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        registry.remove(getRegisterPair(lhs, rhs));
-        if (registry.isEmpty()) {
-            REGISTRY.remove();
-        }
+        REGISTRY.unregister(lhs, rhs);
     }
 
     /**
@@ -999,8 +960,7 @@ private void reflectionAppend(
 
         try {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
+            final Field[] fields = Reflection.getDeclaredFields(clazz);
             for (int i = 0; i < fields.length && isEquals; i++) {
                 final Field field = fields[i];
                 if (!ArrayUtils.contains(excludeFields, field.getName())
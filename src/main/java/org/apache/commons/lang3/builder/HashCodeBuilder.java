@@ -17,16 +17,11 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
-import org.apache.commons.lang3.ArraySorter;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.Validate;
@@ -106,45 +101,28 @@ public class HashCodeBuilder implements Builder<Integer> {
     /**
      * The default initial value to use in reflection hash code building.
      */
-    private static final int DEFAULT_INITIAL_VALUE = 17;
+    static final int DEFAULT_INITIAL_VALUE = 17;
 
     /**
      * The default multiplier value to use in reflection hash code building.
      */
-    private static final int DEFAULT_MULTIPLIER_VALUE = 37;
+    static final int DEFAULT_MULTIPLIER_VALUE = 37;
 
     /**
      * A registry of objects used by reflection methods to detect cyclical object references and avoid infinite loops.
      *
      * @since 2.3
      */
-    private static final ThreadLocal<Set<IDKey>> REGISTRY = ThreadLocal.withInitial(HashSet::new);
-
-    /*
-     * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
-     * we are in the process of calculating.
-     *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
-     * The original implementation (2.4 and before) used the System.identityHashCode()
-     * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
-     *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
-     */
+    private static final IdentityRegistry REGISTRY = new IdentityRegistry(1);
 
     /**
      * Returns the registry of objects being traversed by the reflection methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * @return the registry of objects being traversed
      * @since 2.3
      */
-    static Set<IDKey> getRegistry() {
-        return REGISTRY.get();
+    static IdentityRegistry getRegistry() {
+        return REGISTRY;
     }
 
     /**
@@ -157,8 +135,7 @@ static Set<IDKey> getRegistry() {
      * @since 2.3
      */
     static boolean isRegistered(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        return registry != null && registry.contains(new IDKey(value));
+        return REGISTRY.contains(value, null);
     }
 
     /**
@@ -182,9 +159,7 @@ private static void reflectionAppend(final Object object, final Class<?> clazz,
         }
         try {
             register(object);
-            // The elements in the returned array are not sorted and are not in any particular order.
-            final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-            AccessibleObject.setAccessible(fields, true);
+            final Field[] fields = Reflection.getSortedDeclaredFields(clazz);
             for (final Field field : fields) {
                 if (!ArrayUtils.contains(excludeFields, field.getName())
                     && !field.getName().contains("$")
@@ -467,7 +442,7 @@ public static int reflectionHashCode(final Object object, final String... exclud
      *            The object to register.
      */
     private static void register(final Object value) {
-        getRegistry().add(new IDKey(value));
+        REGISTRY.register(value, null);
     }
 
     /**
@@ -482,11 +457,7 @@ private static void register(final Object value) {
      * @since 2.3
      */
     private static void unregister(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        registry.remove(new IDKey(value));
-        if (registry.isEmpty()) {
-            REGISTRY.remove();
-        }
+        REGISTRY.unregister(value, null);
     }
 
     /**
@@ -824,6 +795,20 @@ public HashCodeBuilder append(final short[] array) {
         return this;
     }
 
+    /**
+     * Appends an array to a running total kept by the caller, with the default multiplier.
+     *
+     * @param total the running total.
+     * @param array the array to add to the total, not {@code null}.
+     * @return the new total.
+     */
+    static int appendArray(final int total, final Object array) {
+        final HashCodeBuilder builder = new HashCodeBuilder();
+        builder.iTotal = total;
+        builder.appendArray(array);
+        return builder.iTotal;
+    }
+
     /**
      * Append a {@code hashCode} for an array.
      *
@@ -0,0 +1,411 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Registers the objects, or pairs of objects, that the reflection methods of the builders are traversing on the current thread, so that they can
+ * detect cyclical object references and avoid infinite loops.
+ * <p>
+ * Keys are compared by identity, so an object's own {@code equals} and {@code hashCode}, which may be the very methods being computed, are never
+ * called. Registrations nest like the traversal that makes them: the last key registered is normally the first one unregistered.
+ * </p>
+ * <p>
+ * Each thread keeps its keys in an {@code Object[]} that is reused from call to call, so registering and unregistering do not allocate. Up to
+ * {@value #STACK_ENTRIES} keys, as for flat or shallow object graphs, are kept as a stack and searched linearly from the top without calling
+ * {@link System#identityHashCode(Object)}. Deeper traversals switch to an open-addressing table keyed by {@link System#identityHashCode(Object)},
+ * which is dropped again once the traversal is over.
+ * </p>
+ * <p>
+ * A registry with weak keys holds each object through a {@link WeakReference}, for callers such as {@link ToStringBuilder} whose registrations span
+ * caller code and may never be unregistered: an abandoned object can still be garbage collected, and its cleared entry is dropped when the registry
+ * next needs room. A registry with strong keys allocates nothing, and its callers unregister in {@code finally} blocks.
+ * </p>
+ * <p>
+ * The thread-local value only holds JDK types, and unregistering clears its slots, so an idle thread neither references traversed objects nor pins
+ * the class loader of this library.
+ * </p>
+ */
+final class IdentityRegistry {
+
+    /**
+     * The number of keys kept as a linearly searched stack.
+     */
+    private static final int STACK_ENTRIES = 8;
+
+    /**
+     * The initial number of entries of the table used for more keys; always a power of two.
+     */
+    private static final int TABLE_ENTRIES = 32;
+
+    /**
+     * Hashes one or two identity hash codes.
+     *
+     * @param k0 the first key.
+     * @param k1 the second key, ignored for an arity of 1.
+     * @param arity the number of keys per entry.
+     * @return the spread hash.
+     */
+    private static int hash(final Object k0, final Object k1, final int arity) {
+        int h = System.identityHashCode(k0);
+        if (arity == 2) {
+            h = h * 31 + System.identityHashCode(k1);
+        }
+        h *= 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * The number of objects per key: 1 for single objects, 2 for pairs.
+     */
+    private final int arity;
+
+    /**
+     * The keys of each thread. Slot 0 is an {@code int[1]} holding the number of keys registered; the keys follow, {@link #arity} slots per entry.
+     */
+    private final ThreadLocal<Object[]> registry;
+
+    /**
+     * Whether keys are held through {@link WeakReference}s, for single objects only.
+     */
+    private final boolean weak;
+
+    /**
+     * Constructs a new instance with strong keys.
+     *
+     * @param arity the number of objects per key, 1 or 2.
+     */
+    IdentityRegistry(final int arity) {
+        this(arity, false);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param arity the number of objects per key, 1 or 2; 1 if {@code weak}.
+     * @param weak whether to hold keys through {@link WeakReference}s.
+     */
+    IdentityRegistry(final int arity, final boolean weak) {
+        this.arity = arity;
+        this.weak = weak;
+        this.registry = ThreadLocal.withInitial(this::newStack);
+    }
+
+    private int capacity(final Object[] keys) {
+        return (keys.length - 1) / arity;
+    }
+
+    /**
+     * Tests whether the current thread has registered a key.
+     *
+     * @param k0 the first object, not {@code null}.
+     * @param k1 the second object, ignored for single objects.
+     * @return whether the key is registered.
+     */
+    boolean contains(final Object k0, final Object k1) {
+        final Object[] keys = registry.get();
+        return count(keys)[0] != 0 && indexOf(keys, k0, k1) >= 0;
+    }
+
+    private int[] count(final Object[] keys) {
+        return (int[]) keys[0];
+    }
+
+    private int indexOf(final Object[] keys, final Object k0, final Object k1) {
+        if (isTable(keys)) {
+            final int mask = capacity(keys) - 1;
+            for (int i = hash(k0, k1, arity) & mask;; i = i + 1 & mask) {
+                final int slot = slot(i);
+                if (keys[slot] == null) {
+                    return -1;
+                }
+                if (matches(keys, slot, k0, k1)) {
+                    return slot;
+                }
+            }
+        }
+        // from the top, where the key to unregister normally is
+        for (int slot = slot(count(keys)[0] - 1); slot > 0; slot -= arity) {
+            if (matches(keys, slot, k0, k1)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tests whether a probe run of a table, from the entry after a slot to the next empty slot, holds a cleared weak key.
+     *
+     * @param keys the table.
+     * @param slot the slot to start after.
+     * @return whether the run holds a cleared key.
+     */
+    private boolean hasClearedKey(final Object[] keys, final int slot) {
+        final int mask = capacity(keys) - 1;
+        for (int i = (slot - 1) / arity + 1 & mask; keys[slot(i)] != null; i = i + 1 & mask) {
+            if (key(keys, slot(i)) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inserts an entry into a table.
+     *
+     * @param keys the table.
+     * @param e0 the first slot value of the entry, a {@link WeakReference} for weak keys.
+     * @param e1 the second slot value of the entry, ignored for single objects.
+     * @param hash the hash of the entry's key.
+     */
+    private void insert(final Object[] keys, final Object e0, final Object e1, final int hash) {
+        final int mask = capacity(keys) - 1;
+        int i = hash & mask;
+        while (keys[slot(i)] != null) {
+            i = i + 1 & mask;
+        }
+        keys[slot(i)] = e0;
+        if (arity == 2) {
+            keys[slot(i) + 1] = e1;
+        }
+    }
+
+    /**
+     * Tests whether the current thread has no keys registered.
+     *
+     * @return whether no keys are registered.
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private boolean isTable(final Object[] keys) {
+        return capacity(keys) > STACK_ENTRIES;
+    }
+
+    /**
+     * Gets the first object of the key at a slot.
+     *
+     * @param keys the keys.
+     * @param slot the slot.
+     * @return the object, {@code null} for an empty slot or a cleared weak key.
+     */
+    private Object key(final Object[] keys, final int slot) {
+        final Object key = keys[slot];
+        return weak && key != null ? ((Reference<?>) key).get() : key;
+    }
+
+    private boolean matches(final Object[] keys, final int slot, final Object k0, final Object k1) {
+        return key(keys, slot) == k0 && (arity == 1 || keys[slot + 1] == k1);
+    }
+
+    private Object[] newStack() {
+        final Object[] keys = new Object[1 + STACK_ENTRIES * arity];
+        keys[0] = new int[1];
+        return keys;
+    }
+
+    /**
+     * Copies the keys into a new table, dropping cleared weak keys.
+     *
+     * @param keys the keys, a stack or a table.
+     * @param entries the number of entries of the new table, a power of two.
+     * @return the new table, sharing the count of {@code keys}.
+     */
+    private Object[] newTable(final Object[] keys, final int entries) {
+        final Object[] table = new Object[1 + entries * arity];
+        final int[] count = count(keys);
+        table[0] = count;
+        count[0] = 0;
+        for (int slot = 1; slot < keys.length; slot += arity) {
+            final Object k0 = key(keys, slot);
+            if (k0 != null) {
+                final Object k1 = arity == 1 ? null : keys[slot + 1];
+                insert(table, keys[slot], k1, hash(k0, k1, arity));
+                count[0]++;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Registers a key for the current thread.
+     *
+     * @param k0 the first object, not {@code null}.
+     * @param k1 the second object, ignored for single objects.
+     */
+    void register(final Object k0, final Object k1) {
+        Objects.requireNonNull(k0, "k0");
+        Object[] keys = registry.get();
+        final int[] count = count(keys);
+        if (!isTable(keys)) {
+            if (count[0] == STACK_ENTRIES && weak) {
+                removeClearedKeys(keys);
+            }
+            if (count[0] < STACK_ENTRIES) {
+                set(keys, slot(count[0]++), k0, k1);
+                return;
+            }
+            keys = newTable(keys, TABLE_ENTRIES);
+            registry.set(keys);
+        } else if ((count[0] + 1) * 2 > capacity(keys)) {
+            keys = newTable(keys, capacity(keys) * 2);
+            registry.set(keys);
+        }
+        insert(keys, weak ? new WeakReference<>(k0) : k0, k1, hash(k0, k1, arity));
+        count[0]++;
+    }
+
+    /**
+     * Removes the entry at a slot of a table by shifting later entries of its probe sequence back.
+     *
+     * @param keys the table.
+     * @param slot the slot to clear.
+     */
+    private void remove(final Object[] keys, final int slot) {
+        final int mask = capacity(keys) - 1;
+        int gap = (slot - 1) / arity;
+        for (int i = gap + 1 & mask;; i = i + 1 & mask) {
+            final int from = slot(i);
+            if (keys[from] == null) {
+                break;
+            }
+            final int home = hash(key(keys, from), arity == 1 ? null : keys[from + 1], arity) & mask;
+            if ((i - home & mask) >= (i - gap & mask)) {
+                System.arraycopy(keys, from, keys, slot(gap), arity);
+                gap = i;
+            }
+        }
+        Arrays.fill(keys, slot(gap), slot(gap) + arity, null);
+    }
+
+    /**
+     * Compacts a stack, dropping cleared weak keys.
+     *
+     * @param keys the stack.
+     */
+    private void removeClearedKeys(final Object[] keys) {
+        final int[] count = count(keys);
+        final int end = slot(count[0]);
+        int to = 1;
+        for (int slot = 1; slot < end; slot += arity) {
+            if (key(keys, slot) != null) {
+                System.arraycopy(keys, slot, keys, to, arity);
+                to += arity;
+            }
+        }
+        Arrays.fill(keys, to, end, null);
+        count[0] = (to - 1) / arity;
+    }
+
+    private void set(final Object[] keys, final int slot, final Object k0, final Object k1) {
+        keys[slot] = weak ? new WeakReference<>(k0) : k0;
+        if (arity == 2) {
+            keys[slot + 1] = k1;
+        }
+    }
+
+    /**
+     * Gets the number of keys registered by the current thread.
+     *
+     * @return the number of keys registered.
+     */
+    int size() {
+        final Object[] keys = registry.get();
+        if (!weak) {
+            return count(keys)[0];
+        }
+        int size = 0;
+        for (int slot = 1; slot < keys.length; slot += arity) {
+            if (key(keys, slot) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private int slot(final int entry) {
+        return 1 + entry * arity;
+    }
+
+    /**
+     * Gets a snapshot of the objects registered by the current thread, the first object of each key for pairs.
+     *
+     * @return a new identity map from the registered objects to {@code null}, or an empty map.
+     */
+    Map<Object, Object> toMap() {
+        final Object[] keys = registry.get();
+        if (count(keys)[0] == 0) {
+            return Collections.emptyMap();
+        }
+        final Map<Object, Object> map = new IdentityHashMap<>();
+        for (int slot = 1; slot < keys.length; slot += arity) {
+            final Object key = key(keys, slot);
+            if (key != null) {
+                map.put(key, null);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        final Object[] keys = registry.get();
+        return "IdentityRegistry[arity=" + arity + ", weak=" + weak + ", size=" + count(keys)[0] + ", capacity=" + capacity(keys) + "]";
+    }
+
+    /**
+     * Unregisters a key for the current thread; does nothing if the key is not registered.
+     *
+     * @param k0 the first object.
+     * @param k1 the second object, ignored for single objects.
+     */
+    void unregister(final Object k0, final Object k1) {
+        Object[] keys = registry.get();
+        final int[] count = count(keys);
+        int slot = count[0] == 0 ? -1 : indexOf(keys, k0, k1);
+        if (slot < 0) {
+            return;
+        }
+        if (isTable(keys)) {
+            if (weak && count[0] > 1 && hasClearedKey(keys, slot)) {
+                // the home slot of a cleared key is unknown, so drop cleared keys before shifting entries back
+                keys = newTable(keys, capacity(keys));
+                registry.set(keys);
+                slot = indexOf(keys, k0, k1);
+            }
+            if (count[0] == 1) {
+                // back to a stack for the next traversal
+                registry.remove();
+                return;
+            }
+            remove(keys, slot);
+        } else {
+            final int end = slot(count[0]);
+            System.arraycopy(keys, slot + arity, keys, slot, end - slot - arity);
+            Arrays.fill(keys, end - arity, end, null);
+        }
+        count[0]--;
+    }
+}
@@ -152,7 +152,7 @@ public void appendDetail(final StringBuffer buffer, final String fieldName, fina
                 && accept(value.getClass())) {
             spaces += INDENT;
             resetIndent();
-            buffer.append(ReflectionToStringBuilder.toString(value, this));
+            appendRecursive(buffer, fieldName, value);
             spaces -= INDENT;
             resetIndent();
         } else {
@@ -78,6 +78,21 @@ protected boolean accept(final Class<?> clazz) {
         return true;
     }
 
+    /**
+     * Appends the fields of a value into the same buffer, or a summary once the buffer has reached the maximum length.
+     *
+     * @param buffer  the {@link StringBuffer} to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the {@code toString}, not {@code null}
+     */
+    void appendRecursive(final StringBuffer buffer, final String fieldName, final Object value) {
+        if (isTruncating(buffer)) {
+            appendSummary(buffer, fieldName, value);
+        } else {
+            new ReflectionToStringBuilder(value, this, buffer).finish();
+        }
+    }
+
     @Override
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Collection<?> coll) {
         appendClassName(buffer, coll);
@@ -90,7 +105,7 @@ public void appendDetail(final StringBuffer buffer, final String fieldName, fina
         if (!ClassUtils.isPrimitiveWrapper(value.getClass()) &&
             !String.class.equals(value.getClass()) &&
             accept(value.getClass())) {
-            buffer.append(ReflectionToStringBuilder.toString(value, this));
+            appendRecursive(buffer, fieldName, value);
         } else {
             super.appendDetail(buffer, fieldName, value);
         }
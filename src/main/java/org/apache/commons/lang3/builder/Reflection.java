@@ -17,14 +17,73 @@
 
 package org.apache.commons.lang3.builder;
 
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
+import java.util.Comparator;
 import java.util.Objects;
 
+import org.apache.commons.lang3.ArraySorter;
+
 /**
  * Package-private reflection code.
  */
 final class Reflection {
 
+    /**
+     * The accessible declared fields of each class, in {@link Class#getDeclaredFields()} order.
+     *
+     * <p>
+     * A {@link ClassValue} does not keep its classes or their class loaders from being unloaded.
+     * </p>
+     */
+    private static final ClassValue<Field[]> DECLARED_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final Field[] fields = type.getDeclaredFields();
+            AccessibleObject.setAccessible(fields, true);
+            return fields;
+        }
+    };
+
+    /**
+     * The accessible declared fields of each class, sorted by name.
+     */
+    private static final ClassValue<Field[]> SORTED_DECLARED_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            // The elements returned by getDeclaredFields() are not sorted and are not in any particular order.
+            return ArraySorter.sort(DECLARED_FIELDS.get(type).clone(), Comparator.comparing(Field::getName));
+        }
+    };
+
+    /**
+     * Gets the declared fields of a class, made accessible, from a cache.
+     *
+     * <p>
+     * The returned array is shared, callers must not modify it.
+     * </p>
+     *
+     * @param type the class to query.
+     * @return the declared fields, in {@link Class#getDeclaredFields()} order.
+     */
+    static Field[] getDeclaredFields(final Class<?> type) {
+        return DECLARED_FIELDS.get(type);
+    }
+
+    /**
+     * Gets the declared fields of a class, made accessible and sorted by name, from a cache.
+     *
+     * <p>
+     * The returned array is shared, callers must not modify it.
+     * </p>
+     *
+     * @param type the class to query.
+     * @return the declared fields, sorted by name.
+     */
+    static Field[] getSortedDeclaredFields(final Class<?> type) {
+        return SORTED_DECLARED_FIELDS.get(type);
+    }
+
     /**
      * Delegates to {@link Field#get(Object)} and rethrows {@link IllegalAccessException} as {@link IllegalArgumentException}.
      *
@@ -18,12 +18,13 @@
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.apache.commons.lang3.ArraySorter;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
 /**
  * Assists in implementing {@link Diffable#diff(Object)} methods.
@@ -64,6 +65,11 @@
  * <p>
  * See {@link DiffBuilder} for a non-reflection based version of this class.
  * </p>
+ * <p>
+ * The fields of each class are looked up once and cached. Primitive fields are compared without boxing and reference fields by identity first, so
+ * only fields that changed cost more than a read. The {@link DiffBuilder#builder() DiffBuilder} options {@link DiffBuilder.Builder#setMaxDiffs(int)}
+ * and {@link DiffBuilder.Builder#setDiffConsumer(java.util.function.Consumer)} also apply here: the fields after the last diff wanted are not read.
+ * </p>
  *
  * @param <T> type of the left and right object to diff.
  * @see Diffable
@@ -126,6 +132,38 @@ public Builder<T> setExcludeFieldNames(final String... excludeFieldNames) {
 
     }
 
+    /**
+     * The fields of each class and its superclasses that are diffed unless excluded by name, in
+     * {@link org.apache.commons.lang3.reflect.FieldUtils#getAllFields(Class)} order.
+     */
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+                for (final Field field : clazz.getDeclaredFields()) {
+                    if (accept(field)) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(ArrayUtils.EMPTY_FIELD_ARRAY);
+        }
+    };
+
+    private static boolean accept(final Field field) {
+        if (field.getName().indexOf(ClassUtils.INNER_CLASS_SEPARATOR_CHAR) != -1) {
+            return false;
+        }
+        if (Modifier.isTransient(field.getModifiers())) {
+            return false;
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            return false;
+        }
+        return !field.isAnnotationPresent(DiffExclude.class);
+    }
+
     /**
      * Constructs a new {@link Builder}.
      *
@@ -176,23 +214,6 @@ public ReflectionDiffBuilder(final T left, final T right, final ToStringStyle st
         this(DiffBuilder.<T>builder().setLeft(left).setRight(right).setStyle(style).build(), null);
     }
 
-    private boolean accept(final Field field) {
-        if (field.getName().indexOf(ClassUtils.INNER_CLASS_SEPARATOR_CHAR) != -1) {
-            return false;
-        }
-        if (Modifier.isTransient(field.getModifiers())) {
-            return false;
-        }
-        if (Modifier.isStatic(field.getModifiers())) {
-            return false;
-        }
-        if (this.excludeFieldNames != null && Arrays.binarySearch(this.excludeFieldNames, field.getName()) >= 0) {
-            // Reject fields from the getExcludeFieldNames list.
-            return false;
-        }
-        return !field.isAnnotationPresent(DiffExclude.class);
-    }
-
     /**
      * Appends fields using reflection.
      *
@@ -200,15 +221,29 @@ private boolean accept(final Field field) {
      * @see SecurityManager#checkPermission
      */
     private void appendFields(final Class<?> clazz) {
-        for (final Field field : FieldUtils.getAllFields(clazz)) {
-            if (accept(field)) {
-                try {
-                    diffBuilder.append(field.getName(), readField(field, getLeft()), readField(field, getRight()));
-                } catch (final IllegalAccessException e) {
-                    // this can't happen. Would get a Security exception instead
-                    // throw a runtime exception in case the impossible happens.
-                    throw new IllegalArgumentException("Unexpected IllegalAccessException: " + e.getMessage(), e);
+        final T left = getLeft();
+        final T right = getRight();
+        for (final Field field : FIELDS.get(clazz)) {
+            if (diffBuilder.isDone()) {
+                return;
+            }
+            if (excludeFieldNames != null && Arrays.binarySearch(excludeFieldNames, field.getName()) >= 0) {
+                // Reject fields from the getExcludeFieldNames list.
+                continue;
+            }
+            try {
+                if (!field.isAccessible()) {
+                    // Like FieldUtils.readField(Field, Object, true), only fields actually read are made accessible.
+                    field.setAccessible(true);
                 }
+                if (!isPrimitiveEqual(field, left, right)) {
+                    // append(String, Object, Object) returns early if both values are the same object.
+                    diffBuilder.append(field.getName(), field.get(left), field.get(right));
+                }
+            } catch (final IllegalAccessException e) {
+                // this can't happen. Would get a Security exception instead
+                // throw a runtime exception in case the impossible happens.
+                throw new IllegalArgumentException("Unexpected IllegalAccessException: " + e.getMessage(), e);
             }
         }
     }
@@ -247,22 +282,30 @@ private T getRight() {
     }
 
     /**
-     * Reads a {@link Field}, forcing access if needed.
+     * Tests whether a field is primitive and equal in two objects, reading it without boxing.
      *
-     * @param field
-     *            the field to use
-     * @param target
-     *            the object to call on, may be {@code null} for {@code static} fields
-     * @return the field value
-     * @throws NullPointerException
-     *             if the field is {@code null}
-     * @throws IllegalAccessException
-     *             if the field is not made accessible
-     * @throws SecurityException if an underlying accessible object's method denies the request.
-     * @see SecurityManager#checkPermission
+     * @param field the field to read, made accessible.
+     * @param left  the left object.
+     * @param right the right object.
+     * @return whether the field is primitive and equal in the manner of {@link DiffBuilder}, {@code false} for a reference field.
+     * @throws IllegalAccessException if the field is not accessible.
      */
-    private Object readField(final Field field, final Object target) throws IllegalAccessException {
-        return FieldUtils.readField(field, target, true);
+    private static boolean isPrimitiveEqual(final Field field, final Object left, final Object right) throws IllegalAccessException {
+        final Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            return false;
+        }
+        if (type == boolean.class) {
+            return field.getBoolean(left) == field.getBoolean(right);
+        }
+        if (type == double.class) {
+            return Double.doubleToLongBits(field.getDouble(left)) == Double.doubleToLongBits(field.getDouble(right));
+        }
+        if (type == float.class) {
+            return Float.floatToIntBits(field.getFloat(left)) == Float.floatToIntBits(field.getFloat(right));
+        }
+        // byte, char, int, long and short widen to long
+        return field.getLong(left) == field.getLong(right);
     }
 
     /**
@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * Tests equality, computes hash codes and compares the instances of one class from their fields, like the reflection methods of {@link EqualsBuilder},
+ * {@link HashCodeBuilder} and {@link CompareToBuilder}, but with the fields looked up once for the class.
+ * <p>
+ * The reflection methods find, filter and read the fields of an object on every call, boxing primitive values. A strategy composes method handles that
+ * read and combine the fields of its class when it is built, so a call costs little more than a hand-written method. Keep an instance in a (static)
+ * variable, for example:
+ * </p>
+ *
+ * <pre>{@code
+ * private static final ReflectionStrategy<Point> STRATEGY = ReflectionStrategy.of(Point.class);
+ *
+ * public boolean equals(Object obj) {
+ *     return obj instanceof Point && STRATEGY.isEqual(this, (Point) obj);
+ * }
+ *
+ * public int hashCode() {
+ *     return STRATEGY.hash(this);
+ * }
+ * }</pre>
+ * <p>
+ * Results are those of {@link EqualsBuilder#reflectionEquals(Object, Object, boolean, Class, String...)},
+ * {@link HashCodeBuilder#reflectionHashCode(int, int, Object, boolean, Class, String...)} with the default constants, and
+ * {@link CompareToBuilder#reflectionCompare(Object, Object, boolean, Class, String...)} with the same settings: static fields and fields with a {@code $}
+ * in their names are skipped, transient fields are skipped unless tested, fields marked {@link EqualsExclude} are not tested for equality, and fields marked
+ * {@link HashCodeExclude} are not hashed. Objects of other classes than the strategy's, such as subclasses, are handed to those methods.
+ * </p>
+ * <p>
+ * Unlike the reflection methods, a strategy does not register the objects it visits, so like hand-written methods it does not stop cycles of objects
+ * whose own {@code equals} or {@code hashCode} methods call back into it.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ *
+ * @param <T> the type of objects.
+ * @since 3.18.0
+ */
+public final class ReflectionStrategy<T> implements Comparator<T> {
+
+    /**
+     * Builds instances of {@link ReflectionStrategy}.
+     *
+     * @param <T> the type of objects.
+     */
+    public static final class Builder<T> implements Supplier<ReflectionStrategy<T>> {
+
+        /** The class whose instances are handled. */
+        private final Class<T> type;
+
+        /** The names of the fields to skip. */
+        private String[] excludeFields = ArrayUtils.EMPTY_STRING_ARRAY;
+
+        /** The superclass to reflect up to (inclusive). */
+        private Class<? super T> reflectUpToClass;
+
+        /** Whether to include transient fields. */
+        private boolean testTransients;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param type the class whose instances are handled.
+         */
+        Builder(final Class<T> type) {
+            this.type = Objects.requireNonNull(type, "type");
+            Validate.isTrue(!type.isArray() && !type.isPrimitive(), "Not a class with fields: %s", type);
+        }
+
+        /**
+         * Gets a new instance of {@link ReflectionStrategy}.
+         */
+        @Override
+        public ReflectionStrategy<T> get() {
+            return new ReflectionStrategy<>(this);
+        }
+
+        /**
+         * Sets the names of the fields to skip.
+         *
+         * @param excludeFields the names of the fields to skip, may be {@code null}.
+         * @return this instance.
+         */
+        public Builder<T> setExcludeFields(final String... excludeFields) {
+            this.excludeFields = ArrayUtils.nullToEmpty(excludeFields).clone();
+            return this;
+        }
+
+        /**
+         * Sets the superclass to reflect up to (inclusive).
+         *
+         * @param reflectUpToClass the superclass to reflect up to (inclusive), {@code null} for all superclasses.
+         * @return this instance.
+         */
+        public Builder<T> setReflectUpToClass(final Class<? super T> reflectUpToClass) {
+            this.reflectUpToClass = reflectUpToClass;
+            return this;
+        }
+
+        /**
+         * Sets whether to include transient fields.
+         *
+         * @param testTransients whether to include transient fields.
+         * @return this instance.
+         */
+        public Builder<T> setTestTransients(final boolean testTransients) {
+            this.testTransients = testTransients;
+            return this;
+        }
+    }
+
+    /**
+     * The operations on field values that the method handles are composed from.
+     */
+    private static final class Operations {
+
+        static int compareBoolean(final boolean lhs, final boolean rhs) {
+            return Boolean.compare(lhs, rhs);
+        }
+
+        static int compareDouble(final double lhs, final double rhs) {
+            return Double.compare(lhs, rhs);
+        }
+
+        static int compareFloat(final float lhs, final float rhs) {
+            return Float.compare(lhs, rhs);
+        }
+
+        static int compareInt(final int lhs, final int rhs) {
+            return Integer.compare(lhs, rhs);
+        }
+
+        static int compareLong(final long lhs, final long rhs) {
+            return Long.compare(lhs, rhs);
+        }
+
+        /**
+         * Compares {@code byte}, {@code char} and {@code short} values like their wrappers' {@code compareTo} methods.
+         */
+        static int compareNarrow(final int lhs, final int rhs) {
+            return lhs - rhs;
+        }
+
+        static int compareObject(final Object lhs, final Object rhs) {
+            return new CompareToBuilder().append(lhs, rhs).toComparison();
+        }
+
+        static boolean equalsBoolean(final boolean lhs, final boolean rhs) {
+            return lhs == rhs;
+        }
+
+        static boolean equalsDouble(final double lhs, final double rhs) {
+            return Double.doubleToLongBits(lhs) == Double.doubleToLongBits(rhs);
+        }
+
+        static boolean equalsFloat(final float lhs, final float rhs) {
+            return Float.floatToIntBits(lhs) == Float.floatToIntBits(rhs);
+        }
+
+        static boolean equalsInt(final int lhs, final int rhs) {
+            return lhs == rhs;
+        }
+
+        static boolean equalsLong(final long lhs, final long rhs) {
+            return lhs == rhs;
+        }
+
+        static boolean equalsObject(final Object lhs, final Object rhs) {
+            if (lhs == rhs) {
+                return true;
+            }
+            if (lhs == null || rhs == null) {
+                return false;
+            }
+            return lhs.getClass().isArray() ? new EqualsBuilder().append(lhs, rhs).isEquals() : lhs.equals(rhs);
+        }
+
+        static int hashBoolean(final int total, final boolean value) {
+            return total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE + Boolean.hashCode(value);
+        }
+
+        static int hashDouble(final int total, final double value) {
+            return total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE + Double.hashCode(value);
+        }
+
+        static int hashFloat(final int total, final float value) {
+            return total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE + Float.hashCode(value);
+        }
+
+        static int hashInt(final int total, final int value) {
+            return total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE + value;
+        }
+
+        static int hashLong(final int total, final long value) {
+            return total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE + Long.hashCode(value);
+        }
+
+        static int hashObject(final int total, final Object value) {
+            if (value == null) {
+                return total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE;
+            }
+            return value.getClass().isArray() ? HashCodeBuilder.appendArray(total, value) : total * HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE + value.hashCode();
+        }
+
+        static boolean isZero(final int comparison) {
+            return comparison == 0;
+        }
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Creates a builder.
+     *
+     * @param <T> the type of objects.
+     * @param type the class whose instances are handled, not {@code null}.
+     * @return a new builder.
+     * @throws NullPointerException if {@code type} is {@code null}.
+     * @throws IllegalArgumentException if {@code type} is an array or primitive type.
+     */
+    public static <T> Builder<T> builder(final Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    private static MethodHandle getter(final Field field) {
+        try {
+            // the field is accessible, see Reflection.getDeclaredFields(Class)
+            return LOOKUP.unreflectGetter(field).asType(MethodType.methodType(kind(field.getType()), Object.class));
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static boolean isNarrow(final Class<?> fieldType) {
+        return fieldType == byte.class || fieldType == char.class || fieldType == short.class;
+    }
+
+    /**
+     * Gets the type of the operations on the values of a field type: {@code byte}, {@code char} and {@code short} values are widened to {@code int},
+     * and references are handled as {@link Object}.
+     */
+    private static Class<?> kind(final Class<?> fieldType) {
+        if (isNarrow(fieldType)) {
+            return int.class;
+        }
+        return fieldType.isPrimitive() ? fieldType : Object.class;
+    }
+
+    /**
+     * Creates a strategy with the default settings: transient fields skipped, superclass fields included, and no fields excluded by name.
+     *
+     * @param <T> the type of objects.
+     * @param type the class whose instances are handled, not {@code null}.
+     * @return a new strategy.
+     * @throws NullPointerException if {@code type} is {@code null}.
+     * @throws IllegalArgumentException if {@code type} is an array or primitive type.
+     */
+    public static <T> ReflectionStrategy<T> of(final Class<T> type) {
+        return builder(type).get();
+    }
+
+    private static MethodHandle operation(final String name, final Class<?> returnType, final Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.findStatic(Operations.class, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String suffix(final Class<?> kind) {
+        return StringUtils.capitalize(kind.getSimpleName());
+    }
+
+    /** The class whose instances are handled. */
+    private final Class<T> type;
+
+    /** The names of the fields to skip. */
+    private final String[] excludeFields;
+
+    /** The superclass to reflect up to (inclusive). */
+    private final Class<? super T> reflectUpToClass;
+
+    /** Whether to include transient fields. */
+    private final boolean testTransients;
+
+    /** Compares two instances of the class, {@code (Object, Object)int}. */
+    private final MethodHandle compare;
+
+    /** Tests two instances of the class for equality, {@code (Object, Object)boolean}. */
+    private final MethodHandle equals;
+
+    /** Hashes an instance of the class, {@code (Object)int}. */
+    private final MethodHandle hash;
+
+    private ReflectionStrategy(final Builder<T> builder) {
+        this.type = builder.type;
+        this.excludeFields = builder.excludeFields;
+        this.reflectUpToClass = builder.reflectUpToClass;
+        this.testTransients = builder.testTransients;
+        final List<Field> declared = fields(false);
+        this.compare = composeCompare(declared);
+        this.equals = composeEquals(declared);
+        this.hash = composeHash(fields(true));
+    }
+
+    /**
+     * Compares two objects like {@link CompareToBuilder#reflectionCompare(Object, Object, boolean, Class, String...)}.
+     *
+     * @param lhs left-hand side object.
+     * @param rhs right-hand side object.
+     * @return a negative integer, zero, or a positive integer as {@code lhs} is less than, equal to, or greater than {@code rhs}.
+     * @throws NullPointerException if either {@code lhs} or {@code rhs} (but not both) is {@code null}.
+     * @throws ClassCastException if {@code rhs} is not assignment-compatible with {@code lhs}.
+     */
+    @Override
+    public int compare(final T lhs, final T rhs) {
+        if (lhs == rhs) {
+            return 0;
+        }
+        if (isType(lhs) && isType(rhs)) {
+            try {
+                return (int) compare.invokeExact((Object) lhs, (Object) rhs);
+            } catch (final Throwable e) {
+                throw ExceptionUtils.asRuntimeException(e);
+            }
+        }
+        return CompareToBuilder.reflectionCompare(lhs, rhs, testTransients, reflectUpToClass, excludeFields);
+    }
+
+    /**
+     * Composes the comparison of the fields in order, which stops at the first field that differs.
+     */
+    private MethodHandle composeCompare(final List<Field> fields) {
+        MethodHandle composed = MethodHandles.dropArguments(MethodHandles.constant(int.class, 0), 0, Object.class, Object.class);
+        final MethodHandle isZero = MethodHandles.dropArguments(operation("isZero", boolean.class, int.class), 1, Object.class, Object.class);
+        final MethodHandle result = MethodHandles.dropArguments(MethodHandles.identity(int.class), 1, Object.class, Object.class);
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            final Field field = fields.get(i);
+            final Class<?> kind = kind(field.getType());
+            final String name = isNarrow(field.getType()) ? "compareNarrow" : "compare" + suffix(kind);
+            final MethodHandle getter = getter(field);
+            final MethodHandle comparison = MethodHandles.filterArguments(operation(name, int.class, kind, kind), 0, getter, getter);
+            // (int, Object, Object)int: the comparison so far if not zero, otherwise the comparison of the remaining fields
+            final MethodHandle next = MethodHandles.guardWithTest(isZero, MethodHandles.dropArguments(composed, 0, int.class), result);
+            composed = MethodHandles.foldArguments(next, comparison);
+        }
+        return composed;
+    }
+
+    /**
+     * Composes the equality test of the fields in order, which stops at the first field that differs.
+     */
+    private MethodHandle composeEquals(final List<Field> fields) {
+        MethodHandle composed = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+        final MethodHandle notEqual = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            final Field field = fields.get(i);
+            if (!field.isAnnotationPresent(EqualsExclude.class)) {
+                final Class<?> kind = kind(field.getType());
+                final MethodHandle getter = getter(field);
+                final MethodHandle test = MethodHandles.filterArguments(operation("equals" + suffix(kind), boolean.class, kind, kind), 0, getter, getter);
+                composed = MethodHandles.guardWithTest(test, composed, notEqual);
+            }
+        }
+        return composed;
+    }
+
+    /**
+     * Composes the hash code of the fields in order, multiplying the total by the default multiplier before adding each field.
+     */
+    private MethodHandle composeHash(final List<Field> fields) {
+        MethodHandle composed = MethodHandles.dropArguments(MethodHandles.constant(int.class, HashCodeBuilder.DEFAULT_INITIAL_VALUE), 0, Object.class);
+        final MethodType hashType = MethodType.methodType(int.class, Object.class);
+        for (final Field field : fields) {
+            if (!field.isAnnotationPresent(HashCodeExclude.class)) {
+                final Class<?> kind = kind(field.getType());
+                final MethodHandle step = operation("hash" + suffix(kind), int.class, int.class, kind);
+                // (Object, Object)int of the total so far and the field, then both arguments the same object
+                composed = MethodHandles.permuteArguments(MethodHandles.filterArguments(step, 0, composed, getter(field)), hashType, 0, 0);
+            }
+        }
+        return composed;
+    }
+
+    /**
+     * Gets the fields to handle, from the class up to {@code reflectUpToClass}, like the reflection methods of the builders.
+     *
+     * @param sorted whether to sort the fields of each class by name, as {@link HashCodeBuilder} does.
+     */
+    private List<Field> fields(final boolean sorted) {
+        final List<Field> fields = new ArrayList<>();
+        Class<?> clazz = type;
+        while (true) {
+            for (final Field field : sorted ? Reflection.getSortedDeclaredFields(clazz) : Reflection.getDeclaredFields(clazz)) {
+                if (!ArrayUtils.contains(excludeFields, field.getName())
+                    && !field.getName().contains("$")
+                    && (testTransients || !Modifier.isTransient(field.getModifiers()))
+                    && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+            if (clazz.getSuperclass() == null || clazz == reflectUpToClass) {
+                return fields;
+            }
+            clazz = clazz.getSuperclass();
+        }
+    }
+
+    /**
+     * Computes a hash code like {@link HashCodeBuilder#reflectionHashCode(int, int, Object, boolean, Class, String...)} with the default constants.
+     *
+     * @param object the object to hash, not {@code null}.
+     * @return the hash code.
+     * @throws NullPointerException if {@code object} is {@code null}.
+     */
+    public int hash(final T object) {
+        if (isType(object)) {
+            try {
+                return (int) hash.invokeExact((Object) object);
+            } catch (final Throwable e) {
+                throw ExceptionUtils.asRuntimeException(e);
+            }
+        }
+        return HashCodeBuilder.reflectionHashCode(HashCodeBuilder.DEFAULT_INITIAL_VALUE, HashCodeBuilder.DEFAULT_MULTIPLIER_VALUE, object, testTransients,
+                reflectUpToClass, excludeFields);
+    }
+
+    /**
+     * Tests two objects for equality like {@link EqualsBuilder#reflectionEquals(Object, Object, boolean, Class, String...)}.
+     *
+     * @param lhs {@code this} object.
+     * @param rhs the other object.
+     * @return {@code true} if the two objects have tested equals.
+     */
+    public boolean isEqual(final T lhs, final T rhs) {
+        if (lhs == rhs) {
+            return true;
+        }
+        if (isType(lhs) && isType(rhs)) {
+            try {
+                return (boolean) equals.invokeExact((Object) lhs, (Object) rhs);
+            } catch (final Throwable e) {
+                throw ExceptionUtils.asRuntimeException(e);
+            }
+        }
+        return EqualsBuilder.reflectionEquals(lhs, rhs, testTransients, reflectUpToClass, excludeFields);
+    }
+
+    private boolean isType(final Object object) {
+        return object != null && object.getClass() == type;
+    }
+}
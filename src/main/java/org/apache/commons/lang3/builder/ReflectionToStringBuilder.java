@@ -17,12 +17,10 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Objects;
 
 import org.apache.commons.lang3.ArraySorter;
@@ -644,9 +642,7 @@ protected void appendFieldsIn(final Class<?> clazz) {
             reflectionAppendArray(getObject());
             return;
         }
-        // The elements in the returned array are not sorted and are not in any particular order.
-        final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-        AccessibleObject.setAccessible(fields, true);
+        final Field[] fields = Reflection.getSortedDeclaredFields(clazz);
         for (final Field field : fields) {
             final String fieldName = field.getName();
             if (accept(field)) {
@@ -666,6 +662,34 @@ protected void appendFieldsIn(final Class<?> clazz) {
         }
     }
 
+    /**
+     * Appends the fields of the object, then the end of data indicator.
+     *
+     * @return the buffer holding the complete {@code toString}.
+     */
+    @Override
+    StringBuffer finish() {
+        if (getObject() != null) {
+            validate();
+            boolean appended = false;
+            try {
+                Class<?> clazz = getObject().getClass();
+                appendFieldsIn(clazz);
+                while (clazz.getSuperclass() != null && clazz != getUpToClass()) {
+                    clazz = clazz.getSuperclass();
+                    appendFieldsIn(clazz);
+                }
+                appended = true;
+            } finally {
+                if (!appended) {
+                    // the registry holds strong references, leave nothing behind if a field fails
+                    ToStringStyle.unregister(getObject());
+                }
+            }
+        }
+        return super.finish();
+    }
+
     /**
      * Gets the excludeFieldNames.
      *
@@ -845,15 +869,6 @@ public String toString() {
         if (getObject() == null) {
             return getStyle().getNullText();
         }
-
-        validate();
-
-        Class<?> clazz = getObject().getClass();
-        appendFieldsIn(clazz);
-        while (clazz.getSuperclass() != null && clazz != getUpToClass()) {
-            clazz = clazz.getSuperclass();
-            appendFieldsIn(clazz);
-        }
         return super.toString();
     }
 
@@ -116,6 +116,17 @@ public String getFieldSeparator() {
         return super.getFieldSeparator();
     }
 
+    /**
+     * Gets the buffer length from which arrays, collections and maps leave out their remaining items.
+     *
+     * @return the current maximum length, {@link Integer#MAX_VALUE} for no limit
+     * @since 3.18.0
+     */
+    @Override
+    public int getMaxLength() {
+        return super.getMaxLength();
+    }
+
     /**
      * Gets the text to output when {@code null} found.
      *
@@ -178,6 +189,17 @@ public String getSummaryObjectStartText() {
         return super.getSummaryObjectStartText();
     }
 
+    /**
+     * Gets the text to output in place of the items of an array, collection or map left out once the maximum length is reached.
+     *
+     * @return the current truncated text
+     * @since 3.18.0
+     */
+    @Override
+    public String getTruncatedText() {
+        return super.getTruncatedText();
+    }
+
     /**
      * Gets whether to output array content detail.
      *
@@ -399,6 +421,22 @@ public void setFieldSeparatorAtStart(final boolean fieldSeparatorAtStart) {
         super.setFieldSeparatorAtStart(fieldSeparatorAtStart);
     }
 
+    /**
+     * Sets the buffer length from which arrays, collections and maps leave out their remaining items.
+     *
+     * <p>Once the buffer holds at least this many characters, the next item of an array,
+     * collection or map is replaced by the truncated text and the rest are skipped without
+     * being rendered.</p>
+     *
+     * @param maxLength  the new maximum length, {@link Integer#MAX_VALUE} for no limit
+     * @throws IllegalArgumentException if {@code maxLength} is negative
+     * @since 3.18.0
+     */
+    @Override
+    public void setMaxLength(final int maxLength) {
+        super.setMaxLength(maxLength);
+    }
+
     /**
      * Sets the text to output when {@code null} found.
      *
@@ -476,6 +514,20 @@ public void setSummaryObjectStartText(final String summaryObjectStartText) {
         super.setSummaryObjectStartText(summaryObjectStartText);
     }
 
+    /**
+     * Sets the text to output in place of the items of an array, collection or map left out once the maximum length is reached.
+     *
+     * <p>{@code null} is accepted, but will be converted
+     * to an empty String.</p>
+     *
+     * @param truncatedText  the new truncated text
+     * @since 3.18.0
+     */
+    @Override
+    public void setTruncatedText(final String truncatedText) {
+        super.setTruncatedText(truncatedText);
+    }
+
     /**
      * Sets whether to use the class name.
      *
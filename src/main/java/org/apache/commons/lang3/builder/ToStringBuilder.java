@@ -16,6 +16,8 @@
  */
 package org.apache.commons.lang3.builder;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Objects;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -934,6 +936,51 @@ public ToStringBuilder appendSuper(final String superToString) {
         return this;
     }
 
+    /**
+     * Completes the {@code toString} and appends it to an {@link Appendable}, without creating an intermediate {@link String}.
+     *
+     * <p>This method is an alternative to {@link #toString()} for output that ends up in a
+     * larger text anyway, such as a log message or a {@link Writer}: the buffer is copied to
+     * the target directly, in chunks for a {@link Writer}. Like {@link #toString()}, it appends
+     * the end of data indicator, and either method can only be called once.</p>
+     *
+     * @param <A> the type of the target.
+     * @param appendable  the target to append to, not {@code null}
+     * @return the given target.
+     * @throws IOException if the target throws one.
+     * @since 3.18.0
+     */
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        final StringBuffer result = finish();
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(result);
+        } else if (appendable instanceof Writer) {
+            final char[] chunk = new char[Math.min(result.length(), 8192)];
+            for (int start = 0; start < result.length(); start += chunk.length) {
+                final int end = Math.min(result.length(), start + chunk.length);
+                result.getChars(start, end, chunk, 0);
+                ((Writer) appendable).write(chunk, 0, end - start);
+            }
+        } else {
+            appendable.append(result);
+        }
+        return appendable;
+    }
+
+    /**
+     * Completes the {@code toString} and appends it to a {@link StringBuilder}, without creating an intermediate {@link String}.
+     *
+     * <p>Like {@link #toString()}, this method appends the end of data indicator, and either
+     * method can only be called once.</p>
+     *
+     * @param builder  the builder to append to, not {@code null}
+     * @return the given builder.
+     * @since 3.18.0
+     */
+    public StringBuilder appendTo(final StringBuilder builder) {
+        return builder.append(finish());
+    }
+
     /**
      * Append the {@code toString} from another object.
      *
@@ -981,6 +1028,20 @@ public String build() {
         return toString();
     }
 
+    /**
+     * Appends the end of data indicator, or the style's {@code nullText} for a {@code null} object, to the buffer.
+     *
+     * @return the buffer holding the complete {@code toString}.
+     */
+    StringBuffer finish() {
+        if (getObject() == null) {
+            getStringBuffer().append(getStyle().getNullText());
+        } else {
+            style.appendEnd(getStringBuffer(), getObject());
+        }
+        return getStringBuffer();
+    }
+
     /**
      * Returns the {@link Object} being output.
      *
@@ -1022,11 +1083,6 @@ public ToStringStyle getStyle() {
      */
     @Override
     public String toString() {
-        if (getObject() == null) {
-            getStringBuffer().append(getStyle().getNullText());
-        } else {
-            style.appendEnd(getStringBuffer(), getObject());
-        }
-        return getStringBuffer().toString();
+        return finish().toString();
     }
 }
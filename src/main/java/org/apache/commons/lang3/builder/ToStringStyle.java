@@ -18,17 +18,19 @@
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.WeakHashMap;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Controls {@link String} formatting for {@link ToStringBuilder}.
@@ -600,8 +602,12 @@ private Object readResolve() {
     /**
      * A registry of objects used by {@code reflectionToString} methods
      * to detect cyclical object references and avoid infinite loops.
+     *
+     * <p>Keys are weak: a {@link ToStringBuilder} registers its object when
+     * constructed, and a builder abandoned before {@code toString()}, for example
+     * because computing an appended value threw, must not keep it reachable.</p>
      */
-    private static final ThreadLocal<WeakHashMap<Object, Object>> REGISTRY = ThreadLocal.withInitial(WeakHashMap::new);
+    private static final IdentityRegistry REGISTRY = new IdentityRegistry(1, true);
     /*
      * Note that objects of this class are generally shared between threads, so
      * an instance variable would not be suitable here.
@@ -616,10 +622,29 @@ private Object readResolve() {
      * Returns the registry of objects being traversed by the {@code reflectionToString}
      * methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * <p>Objects are registered by identity and held weakly. The map returned is a new
+     * snapshot from the objects being traversed to {@code null}, not the live registry:
+     * changes to it do not affect the registry, and later registrations do not show in it.</p>
+     *
+     * @return a snapshot of the registry of objects being traversed
      */
     public static Map<Object, Object> getRegistry() {
-        return REGISTRY.get();
+        return REGISTRY.toMap();
+    }
+
+    /**
+     * Tests whether a value uses the {@code toString()} declared by a given class, whose format can then be rendered item by item.
+     *
+     * @param value  the value, not {@code null}
+     * @param declaringClass  the class that should declare {@code toString()}
+     * @return whether {@code value} inherits {@code toString()} from {@code declaringClass}
+     */
+    private static boolean inheritsToString(final Object value, final Class<?> declaringClass) {
+        try {
+            return value.getClass().getMethod("toString").getDeclaringClass() == declaringClass;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
     }
 
     /**
@@ -632,7 +657,7 @@ public static Map<Object, Object> getRegistry() {
      *             object.
      */
     static boolean isRegistered(final Object value) {
-        return getRegistry().containsKey(value);
+        return REGISTRY.contains(value, null);
     }
 
     /**
@@ -643,8 +668,9 @@ static boolean isRegistered(final Object value) {
      *                  The object to register.
      */
     static void register(final Object value) {
-        if (value != null) {
-            getRegistry().put(value, null);
+        // the class name and the identity hash code both register the object
+        if (value != null && !isRegistered(value)) {
+            REGISTRY.register(value, null);
         }
     }
 
@@ -660,11 +686,7 @@ static void register(final Object value) {
      */
     static void unregister(final Object value) {
         if (value != null) {
-            final Map<Object, Object> m = getRegistry();
-            m.remove(value);
-            if (m.isEmpty()) {
-                REGISTRY.remove();
-            }
+            REGISTRY.unregister(value, null);
         }
     }
 
@@ -769,6 +791,16 @@ static void unregister(final Object value) {
      */
     private String summaryObjectEndText = ">";
 
+    /**
+     * The buffer length from which arrays, collections and maps leave out their remaining items, {@link Integer#MAX_VALUE} for no limit.
+     */
+    private int maxLength = Integer.MAX_VALUE;
+
+    /**
+     * The text {@code "..."} output in place of the items left out.
+     */
+    private String truncatedText = "...";
+
     /**
      * Constructs a new instance.
      */
@@ -1219,7 +1251,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final boolean[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1251,7 +1283,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final byte[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1283,7 +1315,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final char[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1301,7 +1333,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  {@code toString}, not {@code null}
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Collection<?> coll) {
-        buffer.append(coll);
+        if (maxLength == Integer.MAX_VALUE || !inheritsToString(coll, AbstractCollection.class)) {
+            buffer.append(coll);
+            return;
+        }
+        // the format of AbstractCollection.toString(), item by item
+        buffer.append('[');
+        int i = 0;
+        for (final Object item : coll) {
+            if (truncate(buffer, i, ", ")) {
+                break;
+            }
+            if (i++ > 0) {
+                buffer.append(", ");
+            }
+            buffer.append(item == coll ? "(this Collection)" : item);
+        }
+        buffer.append(']');
     }
 
     /**
@@ -1327,7 +1375,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final double[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1359,7 +1407,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final float[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1412,7 +1460,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final int[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1444,7 +1492,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final long[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1462,7 +1510,25 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not {@code null}
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Map<?, ?> map) {
-        buffer.append(map);
+        if (maxLength == Integer.MAX_VALUE || !inheritsToString(map, AbstractMap.class)) {
+            buffer.append(map);
+            return;
+        }
+        // the format of AbstractMap.toString(), entry by entry
+        buffer.append('{');
+        int i = 0;
+        for (final Entry<?, ?> entry : map.entrySet()) {
+            if (truncate(buffer, i, ", ")) {
+                break;
+            }
+            if (i++ > 0) {
+                buffer.append(", ");
+            }
+            buffer.append(entry.getKey() == map ? "(this Map)" : entry.getKey());
+            buffer.append('=');
+            buffer.append(entry.getValue() == map ? "(this Map)" : entry.getValue());
+        }
+        buffer.append('}');
     }
 
     /**
@@ -1489,7 +1555,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             appendDetail(buffer, fieldName, i, array[i]);
         }
         buffer.append(arrayEnd);
@@ -1518,7 +1584,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final short[] array) {
         buffer.append(arrayStart);
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < array.length && !truncate(buffer, i, arraySeparator); i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1987,6 +2053,16 @@ protected String getFieldSeparator() {
         return fieldSeparator;
     }
 
+    /**
+     * Gets the buffer length from which arrays, collections and maps leave out their remaining items.
+     *
+     * @return the current maximum length, {@link Integer#MAX_VALUE} for no limit
+     * @since 3.18.0
+     */
+    protected int getMaxLength() {
+        return maxLength;
+    }
+
     /**
      * Gets the text to output when {@code null} found.
      *
@@ -2057,6 +2133,16 @@ protected String getSummaryObjectStartText() {
         return summaryObjectStartText;
     }
 
+    /**
+     * Gets the text to output in place of the items of an array, collection or map left out once the maximum length is reached.
+     *
+     * @return the current truncated text
+     * @since 3.18.0
+     */
+    protected String getTruncatedText() {
+        return truncatedText;
+    }
+
     /**
      * Gets whether to output array content detail.
      *
@@ -2171,7 +2257,7 @@ protected boolean isUseShortClassName() {
     protected void reflectionAppendArrayDetail(final StringBuffer buffer, final String fieldName, final Object array) {
         buffer.append(arrayStart);
         final int length = Array.getLength(array);
-        for (int i = 0; i < length; i++) {
+        for (int i = 0; i < length && !truncate(buffer, i, arraySeparator); i++) {
             appendDetail(buffer, fieldName, i, Array.get(array, i));
         }
         buffer.append(arrayEnd);
@@ -2335,6 +2421,24 @@ protected void setFieldSeparatorAtStart(final boolean fieldSeparatorAtStart) {
         this.fieldSeparatorAtStart = fieldSeparatorAtStart;
     }
 
+    /**
+     * Sets the buffer length from which arrays, collections and maps leave out their remaining items.
+     *
+     * <p>Once the buffer holds at least this many characters, the next item of an array,
+     * collection or map is replaced by the truncated text and the rest are skipped without
+     * being rendered, so the output can exceed the limit by the item being appended when it
+     * was reached. The buffer length includes any text already in a buffer supplied to the
+     * builder.</p>
+     *
+     * @param maxLength  the new maximum length, {@link Integer#MAX_VALUE} for no limit
+     * @throws IllegalArgumentException if {@code maxLength} is negative
+     * @since 3.18.0
+     */
+    protected void setMaxLength(final int maxLength) {
+        Validate.isTrue(maxLength >= 0, "maxLength must not be negative: %d", maxLength);
+        this.maxLength = maxLength;
+    }
+
     /**
      * Sets the text to output when {@code null} found.
      *
@@ -2458,4 +2562,47 @@ protected void setUseIdentityHashCode(final boolean useIdentityHashCode) {
     protected void setUseShortClassName(final boolean useShortClassName) {
         this.useShortClassName = useShortClassName;
     }
+
+    /**
+     * Sets the text to output in place of the items of an array, collection or map left out once the maximum length is reached.
+     *
+     * <p>{@code null} is accepted, but will be converted to
+     * an empty String.</p>
+     *
+     * @param truncatedText  the new truncated text
+     * @since 3.18.0
+     */
+    protected void setTruncatedText(String truncatedText) {
+        if (truncatedText == null) {
+            truncatedText = StringUtils.EMPTY;
+        }
+        this.truncatedText = truncatedText;
+    }
+
+    /**
+     * Tests whether the buffer has reached the maximum length.
+     *
+     * @param buffer  the {@link StringBuffer} being populated
+     * @return whether items should be left out
+     */
+    boolean isTruncating(final StringBuffer buffer) {
+        return maxLength != Integer.MAX_VALUE && buffer.length() >= maxLength;
+    }
+
+    /**
+     * Appends the separator and the truncated text in place of the remaining items of an array, collection or map if the buffer has reached the maximum
+     * length.
+     *
+     * @param buffer  the {@link StringBuffer} to populate
+     * @param i  the index of the next item
+     * @param separator  the item separator
+     * @return whether the remaining items are left out
+     */
+    private boolean truncate(final StringBuffer buffer, final int i, final String separator) {
+        if (i == 0 || !isTruncating(buffer)) {
+            return false;
+        }
+        buffer.append(separator).append(truncatedText);
+        return true;
+    }
 }
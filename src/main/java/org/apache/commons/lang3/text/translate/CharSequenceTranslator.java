@@ -17,6 +17,7 @@
 package org.apache.commons.lang3.text.translate;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
@@ -38,6 +39,56 @@
 @Deprecated
 public abstract class CharSequenceTranslator {
 
+    /**
+     * A fixed-capacity window over the buffer of {@link CharSequenceTranslator#translateStream(Reader, Writer, int)}, exposed to translators as a
+     * {@link CharSequence} without copying.
+     */
+    private static final class CharBufferWindow implements CharSequence {
+
+        private final char[] buffer;
+        private int length;
+
+        CharBufferWindow(final char[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index >= length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return buffer[index];
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+            }
+            return new String(buffer, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, length);
+        }
+    }
+
+    /**
+     * The number of characters read at a time by {@link #translateStream(Reader, Writer)}.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The default number of characters a translator may look ahead when translating a {@link Reader}.
+     */
+    private static final int DEFAULT_LOOKAHEAD = 1024;
+
     static final char[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
 
     /**
@@ -108,30 +159,115 @@ public final void translate(final CharSequence input, final Writer writer) throw
         int pos = 0;
         final int len = input.length();
         while (pos < len) {
-            final int consumed = translate(input, pos, writer);
-            if (consumed == 0) {
-                // inlined implementation of Character.toChars(Character.codePointAt(input, pos))
-                // avoids allocating temp char arrays and duplicate checks
-                final char c1 = input.charAt(pos);
-                writer.write(c1);
-                pos++;
-                if (Character.isHighSurrogate(c1) && pos < len) {
-                    final char c2 = input.charAt(pos);
-                    if (Character.isLowSurrogate(c2)) {
-                      writer.write(c2);
-                      pos++;
-                    }
+            pos = translateCodePoint(input, pos, len, writer);
+        }
+    }
+
+    /**
+     * Translates a {@link Reader} onto a {@link Writer} through a bounded buffer, without reading the whole input into memory.
+     * <p>
+     * This is equivalent to {@code translateStream(reader, writer, 1024)}, see {@link #translateStream(Reader, Writer, int)}.
+     * </p>
+     *
+     * @param reader Reader to translate the text from
+     * @param writer Writer to translate the text to
+     * @throws IOException if the Reader or the Writer produces an IOException
+     * @since 3.18.0
+     */
+    public final void translateStream(final Reader reader, final Writer writer) throws IOException {
+        translateStream(reader, writer, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Translates a {@link Reader} onto a {@link Writer} through a bounded buffer, without reading the whole input into memory.
+     * <p>
+     * The input is read into a buffer of {@code lookahead} plus 8192 characters, and a translation is only attempted at a position when at least
+     * {@code lookahead} characters follow it in the buffer, or when the end of the input is buffered. The output is therefore the same as
+     * {@link #translate(CharSequence, Writer)} on the whole input for every translator that reads at most {@code lookahead} characters past its
+     * index, like the lookup, octal, Unicode and numeric entity translators do for any reasonable escape sequence. Translators that need the whole
+     * input at once, like {@code StringEscapeUtils.ESCAPE_CSV} and {@code StringEscapeUtils.UNESCAPE_CSV}, cannot be streamed.
+     * </p>
+     * <p>
+     * To translate between NIO channels, adapt them with {@link java.nio.channels.Channels#newReader(java.nio.channels.ReadableByteChannel, String)} and
+     * {@link java.nio.channels.Channels#newWriter(java.nio.channels.WritableByteChannel, String)}. A {@link java.nio.CharBuffer} is a {@link CharSequence}
+     * and can be passed to {@link #translate(CharSequence, Writer)} directly.
+     * </p>
+     *
+     * @param reader Reader to translate the text from
+     * @param writer Writer to translate the text to
+     * @param lookahead the maximum number of characters a translator may read past its index, must be at least 1
+     * @throws IOException if the Reader or the Writer produces an IOException
+     * @throws IllegalArgumentException if {@code lookahead} is less than 1
+     * @since 3.18.0
+     */
+    @SuppressWarnings("resource") // Caller closes reader and writer
+    public final void translateStream(final Reader reader, final Writer writer, final int lookahead) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(writer, "writer");
+        if (lookahead < 1) {
+            throw new IllegalArgumentException("lookahead must be at least 1: " + lookahead);
+        }
+        final char[] buffer = new char[lookahead + DEFAULT_BUFFER_SIZE];
+        final CharBufferWindow window = new CharBufferWindow(buffer);
+        int pos = 0;
+        boolean eof = false;
+        while (!eof) {
+            // move the unprocessed tail to the front and fill the rest of the buffer
+            final int remaining = window.length - pos;
+            System.arraycopy(buffer, pos, buffer, 0, remaining);
+            pos = 0;
+            window.length = remaining;
+            while (window.length < buffer.length) {
+                final int read = reader.read(buffer, window.length, buffer.length - window.length);
+                if (read < 0) {
+                    eof = true;
+                    break;
                 }
-                continue;
+                window.length += read;
             }
-            // contract with translators is that they have to understand code points
-            // and they just took care of a surrogate pair
-            for (int pt = 0; pt < consumed; pt++) {
-                pos += Character.charCount(Character.codePointAt(input, pos));
+            final int len = window.length;
+            final int limit = eof ? len : len - lookahead;
+            while (pos < limit) {
+                pos = translateCodePoint(window, pos, len, writer);
             }
         }
     }
 
+    /**
+     * Translates the code point at the given index, or copies it as is if no translation applies.
+     *
+     * @param input CharSequence that is being translated
+     * @param pos int representing the current point of translation
+     * @param len int length of the input
+     * @param writer Writer to translate the text to
+     * @return the index following the translated input
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private int translateCodePoint(final CharSequence input, int pos, final int len, final Writer writer) throws IOException {
+        final int consumed = translate(input, pos, writer);
+        if (consumed == 0) {
+            // inlined implementation of Character.toChars(Character.codePointAt(input, pos))
+            // avoids allocating temp char arrays and duplicate checks
+            final char c1 = input.charAt(pos);
+            writer.write(c1);
+            pos++;
+            if (Character.isHighSurrogate(c1) && pos < len) {
+                final char c2 = input.charAt(pos);
+                if (Character.isLowSurrogate(c2)) {
+                  writer.write(c2);
+                  pos++;
+                }
+            }
+            return pos;
+        }
+        // contract with translators is that they have to understand code points
+        // and they just took care of a surrogate pair
+        for (int pt = 0; pt < consumed; pt++) {
+            pos += Character.charCount(Character.codePointAt(input, pos));
+        }
+        return pos;
+    }
+
     /**
      * Helper method to create a merger of this translator with another set of
      * translators. Useful in customizing the standard functionality.
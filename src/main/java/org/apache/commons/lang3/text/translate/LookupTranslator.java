@@ -18,11 +18,17 @@
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Translates a value using a lookup table.
+ * <p>
+ * The lookup table is compiled into a character trie, so translating walks the input without creating substrings or hashing candidate keys.
+ * </p>
  *
  * @since 3.0
  * @deprecated As of <a href="https://commons.apache.org/proper/commons-lang/changes-report.html#a3.6">3.6</a>, use Apache Commons Text
@@ -32,10 +38,17 @@
 @Deprecated
 public class LookupTranslator extends CharSequenceTranslator {
 
-    private final HashMap<String, String> lookupMap;
-    private final HashSet<Character> prefixSet;
-    private final int shortest;
-    private final int longest;
+    /** The root node of the trie. */
+    private static final int ROOT = 0;
+
+    /** For each trie node, the sorted characters that lead to a child node. */
+    private final char[][] childChars;
+
+    /** For each trie node, the child nodes parallel to {@link #childChars}. */
+    private final int[][] childNodes;
+
+    /** For each trie node, the translation of the key ending at this node, or null. */
+    private final String[] values;
 
     /**
      * Define the lookup table to be used in translation
@@ -47,25 +60,44 @@ public class LookupTranslator extends CharSequenceTranslator {
      * @param lookup CharSequence[][] table of size [*][2]
      */
     public LookupTranslator(final CharSequence[]... lookup) {
-        lookupMap = new HashMap<>();
-        prefixSet = new HashSet<>();
-        int tmpShortest = Integer.MAX_VALUE;
-        int tmpLongest = 0;
+        final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        final List<String> tmpValues = new ArrayList<>();
+        children.add(new TreeMap<>());
+        tmpValues.add(null);
         if (lookup != null) {
             for (final CharSequence[] seq : lookup) {
-                this.lookupMap.put(seq[0].toString(), seq[1].toString());
-                this.prefixSet.add(seq[0].charAt(0));
-                final int sz = seq[0].length();
-                if (sz < tmpShortest) {
-                    tmpShortest = sz;
-                }
-                if (sz > tmpLongest) {
-                    tmpLongest = sz;
+                final String key = seq[0].toString();
+                int node = ROOT;
+                for (int i = 0; i < key.length(); i++) {
+                    final Integer child = children.get(node).get(key.charAt(i));
+                    if (child != null) {
+                        node = child;
+                    } else {
+                        final int added = children.size();
+                        children.get(node).put(key.charAt(i), added);
+                        children.add(new TreeMap<>());
+                        tmpValues.add(null);
+                        node = added;
+                    }
                 }
+                // Like a map, a later entry replaces an earlier one with the same key
+                tmpValues.set(node, seq[1].toString());
             }
         }
-        this.shortest = tmpShortest;
-        this.longest = tmpLongest;
+        final int size = children.size();
+        childChars = new char[size][];
+        childNodes = new int[size][];
+        for (int node = 0; node < size; node++) {
+            final TreeMap<Character, Integer> map = children.get(node);
+            childChars[node] = new char[map.size()];
+            childNodes[node] = new int[map.size()];
+            int i = 0;
+            for (final Map.Entry<Character, Integer> entry : map.entrySet()) {
+                childChars[node][i] = entry.getKey();
+                childNodes[node][i++] = entry.getValue();
+            }
+        }
+        values = tmpValues.toArray(new String[size]);
     }
 
     /**
@@ -73,23 +105,26 @@ public LookupTranslator(final CharSequence[]... lookup) {
      */
     @Override
     public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
-        // check if translation exists for the input at position index
-        if (prefixSet.contains(input.charAt(index))) {
-            int max = longest;
-            if (index + longest > input.length()) {
-                max = input.length() - index;
+        // implement greedy algorithm by walking the trie as far as the input matches and keeping the longest key found
+        final int length = input.length();
+        String result = null;
+        int consumed = 0;
+        int node = ROOT;
+        for (int i = index; i < length; i++) {
+            final char[] chars = childChars[node];
+            final int k = Arrays.binarySearch(chars, input.charAt(i));
+            if (k < 0) {
+                break;
             }
-            // implement greedy algorithm by trying maximum match first
-            for (int i = max; i >= shortest; i--) {
-                final CharSequence subSeq = input.subSequence(index, index + i);
-                final String result = lookupMap.get(subSeq.toString());
-
-                if (result != null) {
-                    out.write(result);
-                    return i;
-                }
+            node = childNodes[node][k];
+            if (values[node] != null) {
+                result = values[node];
+                consumed = i - index + 1;
             }
         }
-        return 0;
+        if (result != null) {
+            out.write(result);
+        }
+        return consumed;
     }
 }
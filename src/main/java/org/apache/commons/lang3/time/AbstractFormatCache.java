@@ -23,8 +23,6 @@
 import java.util.Locale;
 import java.util.Objects;
 import java.util.TimeZone;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.LocaleUtils;
 
@@ -89,7 +87,8 @@ public int hashCode() {
      */
     static final int NONE = -1;
 
-    private static final ConcurrentMap<ArrayKey, String> dateTimeInstanceCache = new ConcurrentHashMap<>(7);
+    private static final BoundedCache<ArrayKey, String> dateTimeInstanceCache = new BoundedCache<>("AbstractFormatCache.dateTimeInstanceCache",
+            BoundedCache.DEFAULT_MAXIMUM_SIZE);
 
     /**
      * Clears the cache.
@@ -98,6 +97,24 @@ static void clear() {
         dateTimeInstanceCache.clear();
     }
 
+    /**
+     * Gets the statistics of the cache of patterns for styles.
+     *
+     * @return the statistics of the cache of patterns for styles.
+     */
+    static CacheStatistics getStatistics() {
+        return dateTimeInstanceCache.getStatistics();
+    }
+
+    /**
+     * Sets the maximum size of the cache of patterns for styles.
+     *
+     * @param maximumSize the maximum number of entries.
+     */
+    static void setMaximumSize(final int maximumSize) {
+        dateTimeInstanceCache.setMaximumSize(maximumSize);
+    }
+
     /**
      * Gets a date/time format for the specified styles and locale.
      *
@@ -128,7 +145,7 @@ static String getPatternForStyle(final Integer dateStyle, final Integer timeStyl
         });
     }
 
-    private final ConcurrentMap<ArrayKey, F> instanceCache = new ConcurrentHashMap<>(7);
+    private final BoundedCache<ArrayKey, F> instanceCache = new BoundedCache<>("AbstractFormatCache.instanceCache", BoundedCache.DEFAULT_MAXIMUM_SIZE);
 
     /**
      * Clears the cache.
@@ -235,6 +252,15 @@ public F getInstance(final String pattern, final TimeZone timeZone, final Locale
         return instanceCache.computeIfAbsent(key, k -> createInstance(pattern, actualTimeZone, actualLocale));
     }
 
+    /**
+     * Gets the statistics of the cache of instances.
+     *
+     * @return the statistics of the cache of instances.
+     */
+    CacheStatistics getInstanceStatistics() {
+        return instanceCache.getStatistics();
+    }
+
     /**
      * Gets a time formatter instance using the specified style,
      * time zone and locale.
@@ -252,4 +278,13 @@ F getTimeInstance(final int timeStyle, final TimeZone timeZone, final Locale loc
         return getDateTimeInstance(null, Integer.valueOf(timeStyle), timeZone, locale);
     }
 
+    /**
+     * Sets the maximum size of the cache of instances.
+     *
+     * @param maximumSize the maximum number of entries.
+     */
+    void setInstanceMaximumSize(final int maximumSize) {
+        instanceCache.setMaximumSize(maximumSize);
+    }
+
 }
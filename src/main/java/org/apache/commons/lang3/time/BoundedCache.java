@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache that holds at most a maximum number of entries.
+ *
+ * <p>
+ * Lookups do not lock. When an insertion takes the cache over its maximum size, entries are evicted with the clock algorithm: a hand sweeps the entries,
+ * giving each entry read since the last sweep a second chance, and evicting the first entry that was not. This approximates evicting the least recently
+ * used entry without keeping an access order.
+ * </p>
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @since 3.18.0
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * The maximum number of entries of a cache until {@link FastDateFormat#setCacheMaximumSize(int)} is called.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * A cached value and whether it was read since the clock hand last passed it.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile boolean referenced = true;
+
+        Entry(final V value) {
+            this.value = value;
+        }
+    }
+
+    private final String name;
+    private final ConcurrentMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maximumSize;
+
+    /** The clock hand, guarded by {@code this}. */
+    private Iterator<Entry<V>> hand;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param name        the name reported in statistics.
+     * @param maximumSize the maximum number of entries.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     */
+    BoundedCache(final String name, final int maximumSize) {
+        this.name = name;
+        this.maximumSize = checkMaximumSize(maximumSize);
+    }
+
+    private static int checkMaximumSize(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative: " + maximumSize);
+        }
+        return maximumSize;
+    }
+
+    /**
+     * Removes all entries and resets the counters.
+     */
+    synchronized void clear() {
+        map.clear();
+        hand = null;
+        requests.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Gets the value for a key, computing and caching it if absent.
+     *
+     * @param key             the key.
+     * @param mappingFunction computes the value of an absent key.
+     * @return the cached or computed value.
+     */
+    V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        requests.increment();
+        Entry<V> entry = map.get(key);
+        if (entry != null) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+        entry = map.computeIfAbsent(key, k -> {
+            misses.increment();
+            return new Entry<>(mappingFunction.apply(k));
+        });
+        if (map.size() > maximumSize) {
+            evict();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Evicts entries until the cache is no larger than its maximum size.
+     */
+    private synchronized void evict() {
+        // Readers can keep marking entries, so after two full sweeps the hand evicts unconditionally.
+        int sweeps = 2 * map.size();
+        while (map.size() > maximumSize) {
+            if (hand == null || !hand.hasNext()) {
+                hand = map.values().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            final Entry<V> entry = hand.next();
+            if (entry.referenced && --sweeps > 0) {
+                entry.referenced = false;
+            } else {
+                hand.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return the maximum number of entries.
+     */
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets a snapshot of this cache's counters.
+     *
+     * @return a snapshot of this cache's counters.
+     */
+    CacheStatistics getStatistics() {
+        final long missCount = misses.sum();
+        return new CacheStatistics(name, Math.max(0, requests.sum() - missCount), missCount, evictions.sum(), map.size(), maximumSize);
+    }
+
+    /**
+     * Sets the maximum number of entries, evicting entries if the cache is now too large.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     */
+    void setMaximumSize(final int maximumSize) {
+        this.maximumSize = checkMaximumSize(maximumSize);
+        evict();
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries.
+     */
+    int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+/**
+ * An immutable snapshot of the counters of one of the caches behind {@link FastDateFormat}, {@link FastDatePrinter} and {@link FastDateParser}.
+ *
+ * <p>
+ * A steadily growing miss or eviction count means the cache is too small for the set of patterns, time zones and locales in use, or that the set is not
+ * bounded at all.
+ * </p>
+ *
+ * @see FastDateFormat#getCacheStatistics()
+ * @see FastDateFormat#setCacheMaximumSize(int)
+ * @since 3.18.0
+ */
+public final class CacheStatistics {
+
+    private final String name;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maximumSize;
+
+    CacheStatistics(final String name, final long hitCount, final long missCount, final long evictionCount, final int size, final int maximumSize) {
+        this.name = name;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the number of entries evicted to keep the cache within its maximum size.
+     *
+     * @return the number of entries evicted.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of lookups that found a cached value.
+     *
+     * @return the number of lookups that found a cached value.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return the maximum number of entries.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of lookups that had to compute a value.
+     *
+     * @return the number of lookups that had to compute a value.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the name of the cache.
+     *
+     * @return the name of the cache.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of entries when the snapshot was taken.
+     *
+     * @return the number of entries.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + ", size=" + size + ", maximumSize=" + maximumSize + "]";
+    }
+}
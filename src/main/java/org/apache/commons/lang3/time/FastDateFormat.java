@@ -22,9 +22,11 @@
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -116,6 +118,23 @@ static void clear() {
         CACHE.clearInstance();
     }
 
+    /**
+     * Gets snapshots of the counters of the caches behind this class, {@link FastDatePrinter} and {@link FastDateParser}.
+     *
+     * <p>
+     * The caches are, in order: the instances of this class, the patterns for date and time styles, the time zone display names of
+     * {@link FastDatePrinter}, and the text field strategies of {@link FastDateParser}, whose per-field caches are combined in one snapshot that reports the maximum size of each.
+     * </p>
+     *
+     * @return snapshots of the cache counters.
+     * @see #setCacheMaximumSize(int)
+     * @since 3.18.0
+     */
+    public static List<CacheStatistics> getCacheStatistics() {
+        return Arrays.asList(CACHE.getInstanceStatistics(), AbstractFormatCache.getStatistics(), FastDatePrinter.getCacheStatistics(),
+                FastDateParser.getCacheStatistics());
+    }
+
     /**
      * Gets a date formatter instance using the specified style in the
      * default time zone and locale.
@@ -373,6 +392,31 @@ public static FastDateFormat getTimeInstance(final int style, final TimeZone tim
         return CACHE.getTimeInstance(style, timeZone, locale);
     }
 
+    /**
+     * Sets the maximum number of entries of each cache behind this class, {@link FastDatePrinter} and {@link FastDateParser}.
+     *
+     * <p>
+     * The caches start with a maximum size of 1024. Services that accept patterns, time zones or locales from their users should bound the caches
+     * to what they expect to see, and watch {@link #getCacheStatistics()}. When a cache is full, adding an entry evicts one that has not been used
+     * recently. Entries in use elsewhere remain valid after eviction.
+     * </p>
+     * <p>
+     * The eviction policy is fixed and one bound applies to every cache. Applications that need another policy can keep the instances they use in
+     * a cache of their own, created with {@link #getInstance(String, TimeZone, Locale)}.
+     * </p>
+     *
+     * @param maximumSize the maximum number of entries of each cache, 0 disables caching.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     * @see #getCacheStatistics()
+     * @since 3.18.0
+     */
+    public static void setCacheMaximumSize(final int maximumSize) {
+        AbstractFormatCache.setMaximumSize(maximumSize);
+        CACHE.setInstanceMaximumSize(maximumSize);
+        FastDatePrinter.setCacheMaximumSize(maximumSize);
+        FastDateParser.setCacheMaximumSize(maximumSize);
+    }
+
     /** Our fast printer. */
     private final FastDatePrinter printer;
     /** Our fast parser. */
@@ -543,6 +587,21 @@ public <B extends Appendable> B format(final long millis, final B buf) {
         return printer.format(millis, buf);
     }
 
+    /**
+     * Formats a millisecond {@code long} value into the
+     * supplied character array.
+     *
+     * @param millis  the millisecond value to format
+     * @param buffer  the array to format into
+     * @param offset  the index in {@code buffer} of the first character to write
+     * @return the number of characters written
+     * @see FastDatePrinter#format(long, char[], int)
+     * @since 3.18.0
+     */
+    public int format(final long millis, final char[] buffer, final int offset) {
+        return printer.format(millis, buffer, offset);
+    }
+
     // Parsing
 
     /**
@@ -23,11 +23,14 @@
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -38,8 +41,6 @@
 import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -630,8 +631,15 @@ public String toString() {
 
     // helper classes to parse the format string
 
+    /**
+     * The caches of text field strategies by field, all created up front so that looking one up never locks.
+     */
     @SuppressWarnings("unchecked") // OK because we are creating an array with no entries
-    private static final ConcurrentMap<Locale, Strategy>[] CACHES = new ConcurrentMap[Calendar.FIELD_COUNT];
+    private static final BoundedCache<Locale, Strategy>[] CACHES = new BoundedCache[Calendar.FIELD_COUNT];
+
+    static {
+        Arrays.setAll(CACHES, field -> new BoundedCache<>("FastDateParser.CACHES", BoundedCache.DEFAULT_MAXIMUM_SIZE));
+    }
 
     private static final Strategy ABBREVIATED_YEAR_STRATEGY = new NumberStrategy(Calendar.YEAR) {
         /**
@@ -693,6 +701,25 @@ int modify(final FastDateParser parser, final int iValue) {
 
     private static final Strategy MILLISECOND_STRATEGY = new NumberStrategy(Calendar.MILLISECOND);
 
+    // Epoch field codes of strategies that do not set a single Calendar field as is, see epochField(Strategy)
+    private static final int EPOCH_UNSUPPORTED = -1;
+    private static final int EPOCH_LITERAL = -2;
+    private static final int EPOCH_ABBREVIATED_YEAR = -3;
+    private static final int EPOCH_HOUR24_OF_DAY = -4;
+    private static final int EPOCH_ISO_8601_1 = -5;
+    private static final int EPOCH_ISO_8601_2 = -6;
+    private static final int EPOCH_ISO_8601_3 = -7;
+    private static final int EPOCH_RFC_822 = -8;
+
+    /** Marks that no time zone was parsed. */
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    /**
+     * How far the offset of a zone must stay the same around a parsed instant for its local time to be unambiguous:
+     * more than the largest difference between two offsets.
+     */
+    private static final long UNAMBIGUOUS_OFFSET_MARGIN = 27 * DateUtils.MILLIS_PER_HOUR;
+
     /**
      * Gets the short and long values displayed for a field
      *
@@ -722,7 +749,77 @@ private static Map<String, Integer> appendDisplayNames(final Calendar calendar,
      * Clears the cache.
      */
     static void clear() {
-        Stream.of(CACHES).filter(Objects::nonNull).forEach(ConcurrentMap::clear);
+        Stream.of(CACHES).forEach(BoundedCache::clear);
+    }
+
+    /**
+     * Computes the epoch day of the first day of a month in the proleptic Gregorian calendar.
+     *
+     * @param year  the year
+     * @param month the month, from 1 to 12
+     * @return the number of days from 1970-01-01
+     */
+    private static long daysFromCivil(final int year, final int month) {
+        // count years from March so that leap days come last
+        final int marchYear = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(marchYear, 400);
+        final int yearOfEra = marchYear - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    /**
+     * Gets the field a strategy sets when parsing straight to epoch milliseconds.
+     *
+     * @param strategy the strategy
+     * @return a {@link Calendar} field constant, one of the {@code EPOCH_} codes, or {@code EPOCH_UNSUPPORTED}
+     */
+    private static int epochField(final Strategy strategy) {
+        if (strategy instanceof CopyQuotedStrategy) {
+            return EPOCH_LITERAL;
+        }
+        if (strategy == LITERAL_YEAR_STRATEGY) {
+            return Calendar.YEAR;
+        }
+        if (strategy == ABBREVIATED_YEAR_STRATEGY) {
+            return EPOCH_ABBREVIATED_YEAR;
+        }
+        if (strategy == NUMBER_MONTH_STRATEGY) {
+            return Calendar.MONTH;
+        }
+        if (strategy == DAY_OF_MONTH_STRATEGY) {
+            return Calendar.DAY_OF_MONTH;
+        }
+        if (strategy == HOUR_OF_DAY_STRATEGY) {
+            return Calendar.HOUR_OF_DAY;
+        }
+        if (strategy == HOUR24_OF_DAY_STRATEGY) {
+            return EPOCH_HOUR24_OF_DAY;
+        }
+        if (strategy == MINUTE_STRATEGY) {
+            return Calendar.MINUTE;
+        }
+        if (strategy == SECOND_STRATEGY) {
+            return Calendar.SECOND;
+        }
+        if (strategy == MILLISECOND_STRATEGY) {
+            return Calendar.MILLISECOND;
+        }
+        if (strategy == ISO8601TimeZoneStrategy.ISO_8601_1_STRATEGY) {
+            return EPOCH_ISO_8601_1;
+        }
+        if (strategy == ISO8601TimeZoneStrategy.ISO_8601_2_STRATEGY) {
+            return EPOCH_ISO_8601_2;
+        }
+        if (strategy == ISO8601TimeZoneStrategy.ISO_8601_3_STRATEGY) {
+            return EPOCH_ISO_8601_3;
+        }
+        if (strategy instanceof TimeZoneStrategy) {
+            // only the numeric form, zone names go through the regular expression
+            return EPOCH_RFC_822;
+        }
+        return EPOCH_UNSUPPORTED;
     }
 
     /**
@@ -731,19 +828,64 @@ static void clear() {
      * @param field The Calendar field
      * @return a cache of Locale to Strategy
      */
-    private static ConcurrentMap<Locale, Strategy> getCache(final int field) {
-        synchronized (CACHES) {
-            if (CACHES[field] == null) {
-                CACHES[field] = new ConcurrentHashMap<>(3);
-            }
-            return CACHES[field];
+    private static BoundedCache<Locale, Strategy> getCache(final int field) {
+        return CACHES[field];
+    }
+
+    /**
+     * Gets the combined statistics of the per-field strategy caches.
+     *
+     * @return the combined statistics of the per-field strategy caches, with the maximum size of each.
+     */
+    static CacheStatistics getCacheStatistics() {
+        long hitCount = 0;
+        long missCount = 0;
+        long evictionCount = 0;
+        int size = 0;
+        for (final BoundedCache<Locale, Strategy> cache : CACHES) {
+            final CacheStatistics statistics = cache.getStatistics();
+            hitCount += statistics.getHitCount();
+            missCount += statistics.getMissCount();
+            evictionCount += statistics.getEvictionCount();
+            size += statistics.getSize();
         }
+        return new CacheStatistics("FastDateParser.CACHES", hitCount, missCount, evictionCount, size, CACHES[0].getMaximumSize());
     }
 
     private static boolean isFormatLetter(final char c) {
         return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
     }
 
+    /**
+     * Parses two ASCII digits.
+     *
+     * @param source the text to parse
+     * @param index  the index of the first digit
+     * @return the value, or -1 if {@code source} has no two ASCII digits at {@code index}
+     */
+    private static int parseTwoDigits(final String source, final int index) {
+        if (index + 2 > source.length()) {
+            return -1;
+        }
+        final int tens = source.charAt(index) - '0';
+        final int ones = source.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    /**
+     * Sets the maximum size of each per-field strategy cache.
+     *
+     * @param maximumSize the maximum number of entries.
+     */
+    static void setCacheMaximumSize(final int maximumSize) {
+        for (final BoundedCache<Locale, Strategy> cache : CACHES) {
+            cache.setMaximumSize(maximumSize);
+        }
+    }
+
     private static StringBuilder simpleQuote(final StringBuilder sb, final String value) {
         for (int i = 0; i < value.length(); ++i) {
             final char c = value.charAt(i);
@@ -794,6 +936,27 @@ private static StringBuilder simpleQuote(final StringBuilder sb, final String va
 
     /** Initialized from Calendar. */
     private transient List<StrategyAndWidth> patterns;
+
+    /**
+     * The epoch field code of each strategy, or {@code null} if parsing needs a Calendar.
+     */
+    private transient int[] epochFields;
+
+    /**
+     * The maximum width of each number strategy, 0 for unlimited.
+     */
+    private transient int[] epochWidths;
+
+    /**
+     * The rules of the time zone, used to find offset transitions.
+     */
+    private transient ZoneRules zoneRules;
+
+    /**
+     * The offset window of the last parsed instant. Threads may race to replace it, which is safe because windows are immutable.
+     */
+    private transient ZoneOffsetWindow zoneOffsetWindow;
+
     /**
      * Constructs a new FastDateParser.
      *
@@ -882,7 +1045,7 @@ public Locale getLocale() {
      * @return a TextStrategy for the field and Locale
      */
     private Strategy getLocaleSpecificStrategy(final int field, final Calendar definingCalendar) {
-        final ConcurrentMap<Locale, Strategy> cache = getCache(field);
+        final BoundedCache<Locale, Strategy> cache = getCache(field);
         return cache.computeIfAbsent(locale,
                 k -> field == Calendar.ZONE_OFFSET ? new TimeZoneStrategy(locale) : new CaseInsensitiveTextStrategy(field, definingCalendar, locale));
     }
@@ -991,6 +1154,39 @@ private void init(final Calendar definingCalendar) {
             }
             patterns.add(field);
         }
+        initEpochFields(definingCalendar);
+    }
+
+    /**
+     * Initializes the epoch millisecond path if every strategy supports it and the parser uses a plain Gregorian calendar.
+     *
+     * @param definingCalendar the {@link java.util.Calendar} instance used to initialize this FastDateParser
+     */
+    private void initEpochFields(final Calendar definingCalendar) {
+        epochFields = null;
+        if (definingCalendar.getClass() != GregorianCalendar.class) {
+            return;
+        }
+        final int[] fields = new int[patterns.size()];
+        final int[] widths = new int[fields.length];
+        final ListIterator<StrategyAndWidth> lt = patterns.listIterator();
+        while (lt.hasNext()) {
+            final int i = lt.nextIndex();
+            final StrategyAndWidth strategyAndWidth = lt.next();
+            fields[i] = epochField(strategyAndWidth.strategy);
+            if (fields[i] == EPOCH_UNSUPPORTED) {
+                return;
+            }
+            widths[i] = strategyAndWidth.getMaxWidth(lt);
+        }
+        try {
+            zoneRules = timeZone.toZoneId().getRules();
+        } catch (final DateTimeException e) {
+            // a custom zone unknown to java.time, use the Calendar
+            return;
+        }
+        epochWidths = widths;
+        epochFields = fields;
     }
 
     /*
@@ -1023,6 +1219,12 @@ public Date parse(final String source) throws ParseException {
      */
     @Override
     public Date parse(final String source, final ParsePosition pos) {
+        if (epochFields != null) {
+            final Date date = parseEpoch(source, pos);
+            if (date != null) {
+                return date;
+            }
+        }
         // timing tests indicate getting new instance is 19% faster than cloning
         final Calendar cal = Calendar.getInstance(timeZone, locale);
         cal.clear();
@@ -1052,6 +1254,163 @@ public boolean parse(final String source, final ParsePosition pos, final Calenda
         return true;
     }
 
+    /**
+     * Parses a date by reading the digits of each field straight from the source and computing epoch milliseconds,
+     * without a Calendar or regular expressions. This gives the same result as the strategies applied to a lenient
+     * Calendar, but only handles ASCII digits, years from 1583 to 9999, numeric zone offsets, and, without an offset,
+     * local times from 1900 that are not close to an offset transition of the time zone. Any other input, including input that fails to parse, returns
+     * {@code null} without updating {@code pos}, so the caller can fall back to the strategies.
+     *
+     * @param source the text to parse
+     * @param pos    on input, the position in the source to start parsing, on success, the position after the parsed text
+     * @return the parsed date, or {@code null} if the input must be parsed with a Calendar
+     */
+    private Date parseEpoch(final String source, final ParsePosition pos) {
+        int year = 1970;
+        int month = 0;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millisecond = 0;
+        int offset = NO_OFFSET;
+        int idx = pos.getIndex();
+        final int length = source.length();
+        for (int i = 0; i < epochFields.length; i++) {
+            final int field = epochFields[i];
+            if (field == EPOCH_LITERAL) {
+                final String formatField = ((CopyQuotedStrategy) patterns.get(i).strategy).formatField;
+                if (!source.startsWith(formatField, idx)) {
+                    return null;
+                }
+                idx += formatField.length();
+                continue;
+            }
+            if (field <= EPOCH_ISO_8601_1) {
+                // Z, +hh, -hh, +hhmm, -hhmm, +hh:mm or -hh:mm
+                if (field != EPOCH_RFC_822 && idx < length && source.charAt(idx) == 'Z') {
+                    offset = 0;
+                    idx++;
+                    continue;
+                }
+                if (idx >= length || source.charAt(idx) != '+' && source.charAt(idx) != '-') {
+                    return null;
+                }
+                final boolean negative = source.charAt(idx) == '-';
+                final int hours = parseTwoDigits(source, idx + 1);
+                idx += 3;
+                int minutes = 0;
+                if (field != EPOCH_ISO_8601_1) {
+                    if (field == EPOCH_ISO_8601_3) {
+                        if (idx >= length || source.charAt(idx) != ':') {
+                            return null;
+                        }
+                        idx++;
+                    }
+                    minutes = parseTwoDigits(source, idx);
+                    idx += 2;
+                }
+                if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+                    return null;
+                }
+                offset = (hours * 60 + minutes) * (int) DateUtils.MILLIS_PER_MINUTE;
+                if (negative) {
+                    offset = -offset;
+                }
+                continue;
+            }
+            // a number, see NumberStrategy
+            int last = length;
+            if (epochWidths[i] == 0) {
+                while (idx < length && Character.isWhitespace(source.charAt(idx))) {
+                    idx++;
+                }
+            } else if (last > idx + epochWidths[i]) {
+                last = idx + epochWidths[i];
+            }
+            final int start = idx;
+            int value = 0;
+            for (; idx < last; idx++) {
+                final char c = source.charAt(idx);
+                if (c < '0' || c > '9') {
+                    if (Character.isDigit(c)) {
+                        return null;
+                    }
+                    break;
+                }
+                value = value * 10 + c - '0';
+            }
+            if (idx == start || idx - start > 9) {
+                return null;
+            }
+            switch (field) {
+            case Calendar.YEAR:
+                year = value;
+                break;
+            case EPOCH_ABBREVIATED_YEAR:
+                year = value < 100 ? adjustYear(value) : value;
+                break;
+            case Calendar.MONTH:
+                month = value - 1;
+                break;
+            case Calendar.DAY_OF_MONTH:
+                day = value;
+                break;
+            case Calendar.HOUR_OF_DAY:
+                hour = value;
+                break;
+            case EPOCH_HOUR24_OF_DAY:
+                hour = value == 24 ? 0 : value;
+                break;
+            case Calendar.MINUTE:
+                minute = value;
+                break;
+            case Calendar.SECOND:
+                second = value;
+                break;
+            default: // Calendar.MILLISECOND
+                millisecond = value;
+                break;
+            }
+        }
+        // the Calendar picks the Julian or Gregorian calendar by the year as parsed, before months roll over
+        if (year < 1583 || year > 9999) {
+            return null;
+        }
+        // out of range values roll over like in a lenient Calendar
+        year += Math.floorDiv(month, 12);
+        final long local = (daysFromCivil(year, Math.floorMod(month, 12) + 1) + day - 1) * DateUtils.MILLIS_PER_DAY + hour * DateUtils.MILLIS_PER_HOUR
+                + minute * DateUtils.MILLIS_PER_MINUTE + second * DateUtils.MILLIS_PER_SECOND + millisecond;
+        if (local < FastDatePrinter.MIN_EPOCH_MILLIS || local >= FastDatePrinter.MAX_EPOCH_MILLIS) {
+            return null;
+        }
+        final long millis;
+        if (offset != NO_OFFSET) {
+            millis = local - offset;
+        } else {
+            // before 1900 zones use local mean time, leave that to the Calendar
+            if (local < ZoneOffsetWindow.MIN_ZONED_EPOCH_MILLIS) {
+                return null;
+            }
+            final long guess = local - timeZone.getRawOffset();
+            ZoneOffsetWindow window = zoneOffsetWindow;
+            if (window == null || !window.contains(guess)) {
+                window = ZoneOffsetWindow.of(zoneRules, timeZone, guess);
+                if (window == null) {
+                    return null;
+                }
+                zoneOffsetWindow = window;
+            }
+            millis = local - window.offset;
+            // near a transition a local time can be skipped or repeated, leave that to the Calendar
+            if (!window.contains(millis - UNAMBIGUOUS_OFFSET_MARGIN) || !window.contains(millis + UNAMBIGUOUS_OFFSET_MARGIN)) {
+                return null;
+            }
+        }
+        pos.setIndex(idx);
+        return new Date(millis);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -19,18 +19,20 @@
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.nio.CharBuffer;
 import java.text.DateFormat;
 import java.text.DateFormatSymbols;
 import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.LocaleUtils;
@@ -77,6 +79,16 @@
  * 'YYY' will be formatted as '2003', while it was '03' in former Java
  * versions. FastDatePrinter implements the behavior of Java 7.</p>
  *
+ * <p>Formatting a {@code long} or a {@link Date} does not create a {@link Calendar} when the
+ * pattern only uses the letters {@code y}, {@code M} and {@code L} (as numbers, one or two letters),
+ * {@code d}, {@code D}, {@code H}, {@code k}, {@code K}, {@code h}, {@code m}, {@code s},
+ * {@code S}, {@code Z}, {@code X} and literal text, the locale uses the Gregorian calendar, and the
+ * time zone is known to {@link java.time.ZoneId}. The fields are then computed from the epoch
+ * milliseconds, and the zone offset is cached from one offset transition to the next. Years before
+ * 1583, the first full year of the Gregorian calendar, or after 9999 always go through a {@link Calendar}.
+ * Formatting into a {@link StringBuilder} or {@link CharBuffer} with {@link #format(long, Appendable)}
+ * then allocates nothing once the offset of the current period is cached.</p>
+ *
  * @since 3.2
  * @see FastDateParser
  */
@@ -157,7 +169,7 @@ public int estimateLength() {
      * Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.
      */
-    private static class Iso8601_Rule implements Rule {
+    private static class Iso8601_Rule implements ZoneOffsetRule {
 
         // Sign TwoDigitHours or Z
         static final Iso8601_Rule ISO8601_HOURS = new Iso8601_Rule(3);
@@ -202,7 +214,14 @@ static Iso8601_Rule getRule(final int tokenLen) {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+            appendTo(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, int offset) throws IOException {
             if (offset == 0) {
                 buffer.append("Z");
                 return;
@@ -496,7 +515,7 @@ public int estimateLength() {
      * Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.
      */
-    private static class TimeZoneNumberRule implements Rule {
+    private static class TimeZoneNumberRule implements ZoneOffsetRule {
         static final TimeZoneNumberRule INSTANCE_COLON = new TimeZoneNumberRule(true);
         static final TimeZoneNumberRule INSTANCE_NO_COLON = new TimeZoneNumberRule(false);
 
@@ -516,9 +535,14 @@ private static class TimeZoneNumberRule implements Rule {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
+            appendTo(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
 
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
-
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, int offset) throws IOException {
             if (offset < 0) {
                 buffer.append('-');
                 offset = -offset;
@@ -867,6 +891,20 @@ public int estimateLength() {
         }
     }
 
+    /**
+     * Inner class defining a time zone offset rule.
+     */
+    private interface ZoneOffsetRule extends Rule {
+        /**
+         * Appends the specified time zone offset to the output buffer based on the rule implementation.
+         *
+         * @param buffer the output buffer
+         * @param offset the total time zone offset in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        void appendTo(Appendable buffer, int offset) throws IOException;
+    }
+
     /** Empty array. */
     private static final Rule[] EMPTY_RULE_ARRAY = {};
 
@@ -899,7 +937,24 @@ public int estimateLength() {
 
     private static final int MAX_DIGITS = 10; // log10(Integer.MAX_VALUE) ~= 9.3
 
-    private static final ConcurrentMap<TimeZoneDisplayKey, String> timeZoneDisplayCache = new ConcurrentHashMap<>(7);
+    // Epoch field codes of rules that are not a plain Calendar field, see epochField(Rule)
+    private static final int EPOCH_UNSUPPORTED = -1;
+    private static final int EPOCH_LITERAL = -2;
+    private static final int EPOCH_ZONE_OFFSET = -3;
+    private static final int EPOCH_TWELVE_HOUR = -4;
+    private static final int EPOCH_TWENTY_FOUR_HOUR = -5;
+
+    /** 1583-01-01T00:00:00Z, the first full year after the default Gregorian cutover. Earlier dates are left to the Calendar. */
+    static final long MIN_EPOCH_MILLIS = -12_212_553_600_000L;
+
+    /** 10000-01-01T00:00:00Z. */
+    static final long MAX_EPOCH_MILLIS = 253_402_300_800_000L;
+
+    /** Days in a non-leap year before the first of each month. */
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    private static final BoundedCache<TimeZoneDisplayKey, String> timeZoneDisplayCache = new BoundedCache<>("FastDatePrinter.timeZoneDisplayCache",
+            BoundedCache.DEFAULT_MAXIMUM_SIZE);
 
     /**
      * Appends two digits to the given buffer.
@@ -994,6 +1049,74 @@ static void clear() {
         timeZoneDisplayCache.clear();
     }
 
+    /**
+     * Gets the statistics of the time zone display name cache.
+     *
+     * @return the statistics of the time zone display name cache.
+     */
+    static CacheStatistics getCacheStatistics() {
+        return timeZoneDisplayCache.getStatistics();
+    }
+
+    /**
+     * Sets the maximum size of the time zone display name cache.
+     *
+     * @param maximumSize the maximum number of entries.
+     */
+    static void setCacheMaximumSize(final int maximumSize) {
+        timeZoneDisplayCache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Gets the value a rule formats when printing from epoch milliseconds.
+     *
+     * @param rule the rule
+     * @return a {@link Calendar} field constant, one of the {@code EPOCH_} codes, or {@code EPOCH_UNSUPPORTED}
+     */
+    private static int epochField(final Rule rule) {
+        if (rule instanceof CharacterLiteral || rule instanceof StringLiteral) {
+            return EPOCH_LITERAL;
+        }
+        if (rule instanceof Iso8601_Rule || rule instanceof TimeZoneNumberRule) {
+            return EPOCH_ZONE_OFFSET;
+        }
+        if (rule instanceof TwoDigitYearField) {
+            return Calendar.YEAR;
+        }
+        if (rule instanceof TwoDigitMonthField || rule instanceof UnpaddedMonthField) {
+            return Calendar.MONTH;
+        }
+        if (rule instanceof TwelveHourField) {
+            return epochField(((TwelveHourField) rule).rule) == Calendar.HOUR ? EPOCH_TWELVE_HOUR : EPOCH_UNSUPPORTED;
+        }
+        if (rule instanceof TwentyFourHourField) {
+            return epochField(((TwentyFourHourField) rule).rule) == Calendar.HOUR_OF_DAY ? EPOCH_TWENTY_FOUR_HOUR : EPOCH_UNSUPPORTED;
+        }
+        final int field;
+        if (rule instanceof UnpaddedNumberField) {
+            field = ((UnpaddedNumberField) rule).field;
+        } else if (rule instanceof TwoDigitNumberField) {
+            field = ((TwoDigitNumberField) rule).field;
+        } else if (rule instanceof PaddedNumberField) {
+            field = ((PaddedNumberField) rule).field;
+        } else {
+            return EPOCH_UNSUPPORTED;
+        }
+        switch (field) {
+        case Calendar.YEAR:
+        case Calendar.DAY_OF_MONTH:
+        case Calendar.DAY_OF_YEAR:
+        case Calendar.HOUR_OF_DAY:
+        case Calendar.HOUR:
+        case Calendar.MINUTE:
+        case Calendar.SECOND:
+        case Calendar.MILLISECOND:
+            return field;
+        default:
+            return EPOCH_UNSUPPORTED;
+        }
+    }
+
     /**
      * Gets the time zone display name, using a cache for performance.
      *
@@ -1034,6 +1157,21 @@ static String getTimeZoneDisplay(final TimeZone tz, final boolean daylight, fina
      */
     private transient int maxLengthEstimate;
 
+    /**
+     * The epoch field code of each rule, or {@code null} if the rules cannot be applied to epoch milliseconds directly.
+     */
+    private transient int[] epochFields;
+
+    /**
+     * The rules of the time zone, used to find offset transitions.
+     */
+    private transient ZoneRules zoneRules;
+
+    /**
+     * The offset window of the last formatted instant. Threads may race to replace it, which is safe because windows are immutable.
+     */
+    private transient ZoneOffsetWindow zoneOffsetWindow;
+
     // Constructor
     /**
      * Constructs a new FastDatePrinter.
@@ -1072,6 +1210,100 @@ private <B extends Appendable> B applyRules(final Calendar calendar, final B buf
         return buf;
     }
 
+    /**
+     * Performs the formatting by applying the rules to fields computed arithmetically from
+     * epoch milliseconds and the cached offset window of the time zone, without a Calendar.
+     *
+     * <p>Nothing is written when this method returns {@code false}.</p>
+     *
+     * @param millis the instant to format
+     * @param buf the buffer to format into
+     * @return {@code true} if the instant was formatted, {@code false} if it must be formatted with a Calendar
+     */
+    private boolean applyEpochRules(final long millis, final Appendable buf) {
+        if (epochFields == null || millis < MIN_EPOCH_MILLIS - DateUtils.MILLIS_PER_DAY || millis >= MAX_EPOCH_MILLIS + DateUtils.MILLIS_PER_DAY) {
+            return false;
+        }
+        ZoneOffsetWindow window = zoneOffsetWindow;
+        if (window == null || !window.contains(millis)) {
+            window = ZoneOffsetWindow.of(zoneRules, timeZone, millis);
+            if (window == null) {
+                return false;
+            }
+            zoneOffsetWindow = window;
+        }
+        final long local = millis + window.offset;
+        if (local < MIN_EPOCH_MILLIS || local >= MAX_EPOCH_MILLIS) {
+            return false;
+        }
+        // Proleptic Gregorian date from the day number, counting years from March so that leap days come last
+        final long epochDay = Math.floorDiv(local, DateUtils.MILLIS_PER_DAY);
+        final int millisOfDay = (int) (local - epochDay * DateUtils.MILLIS_PER_DAY);
+        final long marchDay = epochDay + 719_468; // days since 0000-03-01
+        final long era = Math.floorDiv(marchDay, 146_097); // 400 year cycles
+        final int dayOfEra = (int) (marchDay - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfMarchYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int marchMonth = (5 * dayOfMarchYear + 2) / 153;
+        final int day = dayOfMarchYear - (153 * marchMonth + 2) / 5 + 1;
+        final int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        final int year = (int) (era * 400) + yearOfEra + (month <= 2 ? 1 : 0);
+        final boolean leapYear = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+        final int dayOfYear = DAYS_BEFORE_MONTH[month - 1] + day + (leapYear && month > 2 ? 1 : 0);
+        final int hourOfDay = millisOfDay / (int) DateUtils.MILLIS_PER_HOUR;
+        try {
+            for (int i = 0; i < rules.length; i++) {
+                final Rule rule = rules[i];
+                final int value;
+                switch (epochFields[i]) {
+                case EPOCH_LITERAL:
+                    rule.appendTo(buf, (Calendar) null);
+                    continue;
+                case EPOCH_ZONE_OFFSET:
+                    ((ZoneOffsetRule) rule).appendTo(buf, window.offset);
+                    continue;
+                case Calendar.YEAR:
+                    value = year;
+                    break;
+                case Calendar.MONTH:
+                    value = month;
+                    break;
+                case Calendar.DAY_OF_MONTH:
+                    value = day;
+                    break;
+                case Calendar.DAY_OF_YEAR:
+                    value = dayOfYear;
+                    break;
+                case Calendar.HOUR_OF_DAY:
+                    value = hourOfDay;
+                    break;
+                case Calendar.HOUR:
+                    value = hourOfDay % 12;
+                    break;
+                case EPOCH_TWELVE_HOUR:
+                    value = hourOfDay % 12 == 0 ? 12 : hourOfDay % 12;
+                    break;
+                case EPOCH_TWENTY_FOUR_HOUR:
+                    value = hourOfDay == 0 ? 24 : hourOfDay;
+                    break;
+                case Calendar.MINUTE:
+                    value = millisOfDay / (int) DateUtils.MILLIS_PER_MINUTE % 60;
+                    break;
+                case Calendar.SECOND:
+                    value = millisOfDay / (int) DateUtils.MILLIS_PER_SECOND % 60;
+                    break;
+                default: // Calendar.MILLISECOND
+                    value = millisOfDay % (int) DateUtils.MILLIS_PER_SECOND;
+                    break;
+                }
+                ((NumberRule) rule).appendTo(buf, value);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.asRuntimeException(ioe);
+        }
+        return true;
+    }
+
     /**
      * Performs the formatting by applying the rules to the
      * specified calendar.
@@ -1086,15 +1318,6 @@ protected StringBuffer applyRules(final Calendar calendar, final StringBuffer bu
         return (StringBuffer) applyRules(calendar, (Appendable) buf);
     }
 
-    /**
-     * Creates a String representation of the given Calendar by applying the rules of this printer to it.
-     * @param c the Calendar to apply the rules to.
-     * @return a String representation of the given Calendar.
-     */
-    private String applyRulesToString(final Calendar c) {
-        return applyRules(c, new StringBuilder(maxLengthEstimate)).toString();
-    }
-
     // Basics
     /**
      * Compares two objects for equality.
@@ -1148,9 +1371,7 @@ public StringBuffer format(final Calendar calendar, final StringBuffer buf) {
      */
     @Override
     public String format(final Date date) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRulesToString(c);
+        return format(date.getTime());
     }
 
     /* (non-Javadoc)
@@ -1158,9 +1379,7 @@ public String format(final Date date) {
      */
     @Override
     public <B extends Appendable> B format(final Date date, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRules(c, buf);
+        return format(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -1168,9 +1387,7 @@ public <B extends Appendable> B format(final Date date, final B buf) {
      */
     @Override
     public StringBuffer format(final Date date, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return format(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -1178,9 +1395,13 @@ public StringBuffer format(final Date date, final StringBuffer buf) {
      */
     @Override
     public String format(final long millis) {
+        final StringBuilder buf = new StringBuilder(maxLengthEstimate);
+        if (applyEpochRules(millis, buf)) {
+            return buf.toString();
+        }
         final Calendar c = newCalendar();
         c.setTimeInMillis(millis);
-        return applyRulesToString(c);
+        return applyRules(c, buf).toString();
     }
 
     /* (non-Javadoc)
@@ -1188,16 +1409,44 @@ public String format(final long millis) {
      */
     @Override
     public <B extends Appendable> B format(final long millis, final B buf) {
+        if (applyEpochRules(millis, buf)) {
+            return buf;
+        }
         final Calendar c = newCalendar();
         c.setTimeInMillis(millis);
         return applyRules(c, buf);
     }
 
+    /**
+     * Formats a millisecond {@code long} value into the supplied character array.
+     *
+     * <p>This is a shortcut for formatting into a {@link CharBuffer} wrapping {@code buffer}. To avoid
+     * even that wrapper, pass a reusable {@link CharBuffer} or {@link StringBuilder} to
+     * {@link #format(long, Appendable)} instead.</p>
+     *
+     * @param millis the millisecond value to format
+     * @param buffer the array to format into
+     * @param offset the index in {@code buffer} of the first character to write
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if {@code offset} is negative or greater than the length of {@code buffer}
+     * @throws java.nio.BufferOverflowException if the formatted value does not fit in {@code buffer}
+     * @see #getMaxLengthEstimate()
+     * @since 3.18.0
+     */
+    public int format(final long millis, final char[] buffer, final int offset) {
+        final CharBuffer target = CharBuffer.wrap(buffer, offset, buffer.length - offset);
+        format(millis, target);
+        return target.position() - offset;
+    }
+
     /* (non-Javadoc)
      * @see org.apache.commons.lang3.time.DatePrinter#format(long, StringBuffer)
      */
     @Override
     public StringBuffer format(final long millis, final StringBuffer buf) {
+        if (applyEpochRules(millis, buf)) {
+            return buf;
+        }
         final Calendar c = newCalendar();
         c.setTimeInMillis(millis);
         return (StringBuffer) applyRules(c, (Appendable) buf);
@@ -1309,6 +1558,30 @@ private void init() {
         }
 
         maxLengthEstimate = len;
+        initEpochFields();
+    }
+
+    /**
+     * Initializes the epoch millisecond path if every rule supports it and the printer uses a plain Gregorian calendar.
+     */
+    private void initEpochFields() {
+        if (newCalendar().getClass() != GregorianCalendar.class) {
+            return;
+        }
+        final int[] fields = new int[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            fields[i] = epochField(rules[i]);
+            if (fields[i] == EPOCH_UNSUPPORTED) {
+                return;
+            }
+        }
+        try {
+            zoneRules = timeZone.toZoneId().getRules();
+        } catch (final DateTimeException e) {
+            // a custom zone unknown to java.time, use the Calendar
+            return;
+        }
+        epochFields = fields;
     }
 
     /**
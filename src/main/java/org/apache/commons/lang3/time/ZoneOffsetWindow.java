@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * A time zone offset and the range of instants it applies to, from one offset transition of the zone to the next.
+ *
+ * <p>Instances are immutable. {@link FastDatePrinter} and {@link FastDateParser} cache the window of the last instant they
+ * converted, so that instants of the same period need no zone lookup at all.</p>
+ *
+ * @since 3.18.0
+ */
+final class ZoneOffsetWindow {
+
+    /**
+     * 1900-01-01T00:00:00Z, the earliest start of a window. Before that most zones use local mean time, which {@link TimeZone} resolves
+     * differently from java.time, so agreement at one instant says nothing about the rest of the window.
+     */
+    static final long MIN_ZONED_EPOCH_MILLIS = -2_208_988_800_000L;
+
+    /**
+     * Computes the offset window of the given zone around the given instant.
+     *
+     * @param rules the zone rules
+     * @param timeZone the time zone the rules were derived from
+     * @param millis the instant in epoch milliseconds
+     * @return the window containing {@code millis}, or {@code null} if {@code millis} is before 1900 or the rules disagree with the time zone at
+     *         {@code millis}
+     */
+    static ZoneOffsetWindow of(final ZoneRules rules, final TimeZone timeZone, final long millis) {
+        if (millis < MIN_ZONED_EPOCH_MILLIS) {
+            return null;
+        }
+        final Instant instant = Instant.ofEpochMilli(millis);
+        final int offset = rules.getOffset(instant).getTotalSeconds() * 1000;
+        if (offset != timeZone.getOffset(millis)) {
+            return null;
+        }
+        final ZoneOffsetTransition previous = rules.previousTransition(instant);
+        final ZoneOffsetTransition next = rules.nextTransition(instant);
+        long start = MIN_ZONED_EPOCH_MILLIS;
+        if (previous != null) {
+            // previousTransition() is exclusive, so an instant right on a transition starts its own window
+            start = Math.max(start, previous.getOffsetAfter().getTotalSeconds() * 1000 == offset ? previous.toEpochSecond() * 1000 : millis);
+        }
+        final long end = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000;
+        return new ZoneOffsetWindow(start, end, offset);
+    }
+
+    /** The first instant of the window, inclusive. */
+    final long start;
+
+    /** The last instant of the window, exclusive. */
+    final long end;
+
+    /** The total offset in milliseconds. */
+    final int offset;
+
+    private ZoneOffsetWindow(final long start, final long end, final int offset) {
+        this.start = start;
+        this.end = end;
+        this.offset = offset;
+    }
+
+    /**
+     * Tests whether this window contains the given instant.
+     *
+     * @param millis the instant in epoch milliseconds
+     * @return whether this window contains {@code millis}
+     */
+    boolean contains(final long millis) {
+        return millis >= start && millis < end;
+    }
+}
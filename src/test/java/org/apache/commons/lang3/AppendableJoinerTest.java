@@ -24,6 +24,7 @@
 import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.AppendableJoiner.Builder;
 import org.apache.commons.lang3.text.StrBuilder;
@@ -100,6 +101,18 @@ void testDelimiterAppendable(final Class<? extends Appendable> clazz) throws Exc
         assertEquals("AB.C1D.E", joiner.joinA(sbuilder, Arrays.asList("D", "E")).toString());
     }
 
+    @SuppressWarnings("deprecation") // Test own StrBuilder
+    @ParameterizedTest
+    @ValueSource(classes = { StringBuilder.class, StringBuffer.class, StringWriter.class, StrBuilder.class, TextStringBuilder.class })
+    void testDelimiterAppendablePrimitives(final Class<? extends Appendable> clazz) throws Exception {
+        final AppendableJoiner<Object> joiner = AppendableJoiner.builder().setPrefix("[").setDelimiter(", ").setSuffix("]").get();
+        final Appendable sbuilder = clazz.newInstance();
+        sbuilder.append("A");
+        assertEquals("A[1, -2, 3]", joiner.joinA(sbuilder, new int[] { 1, -2, 3 }).toString());
+        assertEquals("A[1, -2, 3][" + Long.MIN_VALUE + "]", joiner.joinA(sbuilder, new long[] { Long.MIN_VALUE }).toString());
+        assertEquals("A[1, -2, 3][" + Long.MIN_VALUE + "][]", joiner.joinA(sbuilder, (int[]) null).toString());
+    }
+
     @Test
     void testDelimiterStringBuilder() {
         final AppendableJoiner<Object> joiner = AppendableJoiner.builder().setDelimiter(".").get();
@@ -111,6 +124,40 @@ void testDelimiterStringBuilder() {
         assertEquals("AB.C1D.E", joiner.join(sbuilder, Arrays.asList("D", "E")).toString());
     }
 
+    @Test
+    void testPrimitivesStringBuilder() {
+        final AppendableJoiner<Object> joiner = AppendableJoiner.builder().setPrefix("<").setDelimiter(";").setSuffix(">").get();
+        final StringBuilder sbuilder = new StringBuilder("A");
+        assertEquals("A<>", joiner.join(sbuilder, new int[0]).toString());
+        assertEquals("A<><>", joiner.join(sbuilder, (long[]) null).toString());
+        final int[] ints = { 0, 7, -7, 10, -10, 99, 100, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        final long[] longs = { 0, 7, -7, 10, -10, 1_000_000_000_000_000_000L, 999_999_999_999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE };
+        assertEquals(toString(ints), joiner.join(new StringBuilder(), ints).toString());
+        assertEquals(toString(longs), joiner.join(new StringBuilder(), longs).toString());
+        // grows at most once
+        final StringBuilder exact = new StringBuilder(0);
+        joiner.join(exact, ints);
+        assertEquals(exact.length(), exact.capacity());
+    }
+
+    @Test
+    void testStringLength() {
+        for (int value = -100_000; value <= 100_000; value++) {
+            assertEquals(String.valueOf(value).length(), AppendableJoiner.stringLength(value));
+            assertEquals(String.valueOf((long) value).length(), AppendableJoiner.stringLength((long) value));
+        }
+        for (long power = 1; power > 0 && power <= Long.MAX_VALUE / 10; power *= 10) {
+            for (final long value : new long[] { power - 1, power, -power, 1 - power }) {
+                assertEquals(String.valueOf(value).length(), AppendableJoiner.stringLength(value));
+                assertEquals(String.valueOf((int) value).length(), AppendableJoiner.stringLength((int) value));
+            }
+        }
+        assertEquals(String.valueOf(Integer.MAX_VALUE).length(), AppendableJoiner.stringLength(Integer.MAX_VALUE));
+        assertEquals(String.valueOf(Integer.MIN_VALUE).length(), AppendableJoiner.stringLength(Integer.MIN_VALUE));
+        assertEquals(String.valueOf(Long.MAX_VALUE).length(), AppendableJoiner.stringLength(Long.MAX_VALUE));
+        assertEquals(String.valueOf(Long.MIN_VALUE).length(), AppendableJoiner.stringLength(Long.MIN_VALUE));
+    }
+
     @Test
     void testToCharSequenceStringBuilder1() {
         // @formatter:off
@@ -139,4 +186,12 @@ void testToCharSequenceStringBuilder2() {
         sbuilder.append("]");
         assertEquals("[B!C!]D!E!", joiner.join(sbuilder, Arrays.asList(new Fixture("D"), new Fixture("E"))).toString());
     }
+
+    private static String toString(final int[] values) {
+        return Arrays.stream(values).mapToObj(String::valueOf).collect(Collectors.joining(";", "<", ">"));
+    }
+
+    private static String toString(final long[] values) {
+        return Arrays.stream(values).mapToObj(String::valueOf).collect(Collectors.joining(";", "<", ">"));
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ArrayBuilder}.
+ */
+class ArrayBuilderTest extends AbstractLangTest {
+
+    @Test
+    void testAddAllArrays() {
+        assertArrayEquals(new boolean[] { true, false, true }, ArrayBuilder.ofBoolean().add(true).addAll(false, true).addAll((boolean[]) null).toArray());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, ArrayBuilder.ofByte().add((byte) 1).addAll((byte) 2, (byte) 3).addAll((byte[]) null).toArray());
+        assertArrayEquals(new char[] { 'a', 'b', 'c' }, ArrayBuilder.ofChar().add('a').addAll('b', 'c').addAll((char[]) null).toArray());
+        assertArrayEquals(new double[] { 1, 2, 3 }, ArrayBuilder.ofDouble().add(1).addAll(2, 3).addAll((double[]) null).toArray());
+        assertArrayEquals(new float[] { 1, 2, 3 }, ArrayBuilder.ofFloat().add(1).addAll(2, 3).addAll((float[]) null).toArray());
+        assertArrayEquals(new int[] { 1, 2, 3 }, ArrayBuilder.ofInt().add(1).addAll(2, 3).addAll((int[]) null).toArray());
+        assertArrayEquals(new long[] { 1, 2, 3 }, ArrayBuilder.ofLong().add(1).addAll(2, 3).addAll((long[]) null).toArray());
+        assertArrayEquals(new short[] { 1, 2, 3 }, ArrayBuilder.ofShort().add((short) 1).addAll((short) 2, (short) 3).addAll((short[]) null).toArray());
+        assertArrayEquals(new String[] { "a", null, "c" }, ArrayBuilder.of(String.class).add("a").addAll(new String[] { null, "c" }).addAll((String[]) null).toArray());
+    }
+
+    @Test
+    void testAddAllIterables() {
+        final List<Integer> list = Arrays.asList(1, 2, 3);
+        assertArrayEquals(new int[] { 1, 2, 3 }, ArrayBuilder.ofInt().addAll(list).toArray());
+        assertArrayEquals(new int[] { 1, 2, 3 }, ArrayBuilder.ofInt().addAll(() -> list.iterator()).toArray());
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, ArrayBuilder.of(Integer.class).addAll(new LinkedHashSet<>(list)).toArray());
+        final Object[] objects = ArrayBuilder.of(Number.class).addAll(list).add(4L).toArray();
+        assertArrayEquals(new Number[] { 1, 2, 3, 4L }, objects);
+        assertEquals(Number.class, objects.getClass().getComponentType());
+        assertArrayEquals(new char[] { 'x' }, ArrayBuilder.ofChar().addAll(Arrays.asList('x')).toArray());
+        assertThrows(NullPointerException.class, () -> ArrayBuilder.ofInt().addAll(Arrays.asList(1, null)));
+        assertThrows(NullPointerException.class, () -> ArrayBuilder.ofLong().addAll((Iterable<Long>) null));
+        assertThrows(NullPointerException.class, () -> ArrayBuilder.of(String.class).addAll((Iterable<String>) null));
+    }
+
+    @Test
+    void testAddAllStreams() {
+        assertArrayEquals(IntStream.range(0, 100).toArray(), ArrayBuilder.ofInt().addAll(IntStream.range(0, 100)).toArray());
+        assertArrayEquals(new int[] { 0, 2, 4 }, ArrayBuilder.ofInt().addAll(IntStream.range(0, 6).filter(i -> i % 2 == 0)).toArray());
+        assertArrayEquals(new long[] { 5, 6 }, ArrayBuilder.ofLong().addAll(LongStream.of(5, 6)).toArray());
+        assertArrayEquals(new double[] { 0.5 }, ArrayBuilder.ofDouble().addAll(DoubleStream.of(0.5)).toArray());
+        assertArrayEquals(new String[] { "a", "b" }, ArrayBuilder.of(String.class).addAll(Stream.of("a", "b")).toArray());
+        assertArrayEquals(new int[] { 0, 1, 2 }, ArrayBuilder.ofInt().addAll(IntStream.iterate(0, i -> i + 1).limit(3)).toArray());
+        assertThrows(NullPointerException.class, () -> ArrayBuilder.ofInt().addAll((IntStream) null));
+        assertThrows(NullPointerException.class, () -> ArrayBuilder.of(String.class).addAll((Stream<String>) null));
+    }
+
+    @Test
+    void testClear() {
+        final ArrayBuilder.OfObject<String> builder = ArrayBuilder.of(String.class).addAll(Stream.of("a", "b"));
+        assertFalse(builder.isEmpty());
+        builder.clear();
+        assertTrue(builder.isEmpty());
+        assertEquals(0, builder.size());
+        assertArrayEquals(new String[] { "c" }, builder.add("c").toArray());
+        final ArrayBuilder.OfInt ints = ArrayBuilder.ofInt().addAll(1, 2);
+        ints.clear();
+        assertArrayEquals(new int[] { 3 }, ints.add(3).build());
+    }
+
+    @Test
+    void testEmpty() {
+        assertSame(ArrayUtils.EMPTY_INT_ARRAY, ArrayBuilder.ofInt().toArray());
+        assertSame(ArrayUtils.EMPTY_BOOLEAN_ARRAY, ArrayBuilder.ofBoolean().build());
+        assertEquals(0, ArrayBuilder.of(String.class).toArray().length);
+        assertEquals(String.class, ArrayBuilder.of(String.class).toArray().getClass().getComponentType());
+        assertTrue(ArrayBuilder.ofShort().isEmpty());
+        assertThrows(NullPointerException.class, () -> ArrayBuilder.of(null));
+    }
+
+    @Test
+    void testOfPrimitiveType() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayBuilder.of(int.class));
+        assertThrows(IllegalArgumentException.class, () -> ArrayBuilder.of(boolean.class));
+        assertThrows(IllegalArgumentException.class, () -> ArrayBuilder.of(void.class));
+        assertArrayEquals(new Integer[] { 1 }, ArrayBuilder.of(Integer.class).add(1).toArray());
+    }
+
+    @Test
+    void testGrowth() {
+        final ArrayBuilder.OfInt builder = ArrayBuilder.ofInt();
+        final List<Integer> capacities = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            builder.add(i);
+            if (capacities.isEmpty() || capacities.get(capacities.size() - 1) != builder.capacity()) {
+                capacities.add(builder.capacity());
+            }
+        }
+        assertEquals(10_000, builder.size());
+        assertArrayEquals(IntStream.range(0, 10_000).toArray(), builder.toArray());
+        // geometric: a handful of copies, not one per element
+        assertTrue(capacities.size() < 20, capacities::toString);
+        assertEquals(10, (int) capacities.get(0));
+        // a bulk add sizes the storage once
+        final ArrayBuilder.OfLong longs = ArrayBuilder.ofLong().addAll(new long[1000]);
+        assertEquals(1000, longs.capacity());
+    }
+
+    @Test
+    void testNewCapacity() {
+        assertEquals(10, ArrayBuilder.newCapacity(0, 1));
+        assertEquals(15, ArrayBuilder.newCapacity(10, 11));
+        assertEquals(100, ArrayBuilder.newCapacity(10, 100));
+        assertEquals(Integer.MAX_VALUE - 8, ArrayBuilder.newCapacity(Integer.MAX_VALUE - 100, Integer.MAX_VALUE - 99));
+        assertEquals(Integer.MAX_VALUE, ArrayBuilder.newCapacity(Integer.MAX_VALUE - 8, Integer.MAX_VALUE));
+        assertThrows(OutOfMemoryError.class, () -> ArrayBuilder.newCapacity(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void testToArrayCopies() {
+        final ArrayBuilder.OfInt builder = ArrayBuilder.ofInt().addAll(1, 2, 3);
+        final int[] first = builder.toArray();
+        builder.clear();
+        builder.add(9);
+        assertArrayEquals(new int[] { 1, 2, 3 }, first);
+        assertNotSame(first, builder.toArray());
+        assertEquals("OfInt[size=1, capacity=10]", builder.toString());
+        assertNull(ArrayBuilder.of(String.class).add(null).toArray()[0]);
+    }
+}
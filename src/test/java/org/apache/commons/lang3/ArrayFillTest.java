@@ -22,6 +22,9 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
 import org.apache.commons.lang3.function.FailableIntFunction;
 import org.junit.jupiter.api.Test;
 
@@ -215,4 +218,37 @@ void testFillShortArrayNull() {
         final short[] actual = ArrayFill.fill(array, val);
         assertSame(array, actual);
     }
+
+    @Test
+    void testParallelFill() {
+        for (final int length : new int[] { 0, 10, ArraySorter.PARALLEL_THRESHOLD, 3 * ArraySorter.PARALLEL_THRESHOLD + 1 }) {
+            final Integer[] objects = new Integer[length];
+            assertSame(objects, ArrayFill.parallelFill(objects, Integer::valueOf));
+            final int[] ints = new int[length];
+            assertSame(ints, ArrayFill.parallelFill(ints, i -> i * 3));
+            final long[] longs = new long[length];
+            assertSame(longs, ArrayFill.parallelFill(longs, i -> i * 5L));
+            final double[] doubles = new double[length];
+            assertSame(doubles, ArrayFill.parallelFill(doubles, i -> i / 2.0));
+            for (int i = 0; i < length; i++) {
+                assertEquals(i, objects[i].intValue());
+                assertEquals(i * 3, ints[i]);
+                assertEquals(i * 5L, longs[i]);
+                assertEquals(i / 2.0, doubles[i]);
+            }
+        }
+    }
+
+    @Test
+    void testParallelFillNull() {
+        assertNull(ArrayFill.parallelFill((Object[]) null, i -> i));
+        assertNull(ArrayFill.parallelFill((int[]) null, i -> i));
+        assertNull(ArrayFill.parallelFill((long[]) null, i -> i));
+        assertNull(ArrayFill.parallelFill((double[]) null, i -> i));
+        final int[] ints = { 1, 2 };
+        assertArrayEquals(new int[] { 1, 2 }, ArrayFill.parallelFill(ints, (IntUnaryOperator) null));
+        final String[] strings = { "a" };
+        assertArrayEquals(new String[] { "a" }, ArrayFill.parallelFill(strings, (IntFunction<String>) null));
+    }
+
 }
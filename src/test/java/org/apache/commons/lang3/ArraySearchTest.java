@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ArraySearch}.
+ */
+class ArraySearchTest extends AbstractLangTest {
+
+    private static int indexOfLoop(final byte[] array, final byte value, final int startIndex) {
+        for (int i = startIndex; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    private static int lastIndexOfLoop(final byte[] array, final byte value, final int startIndex) {
+        for (int i = startIndex; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    private static void assertSearches(final byte[] array, final byte value) {
+        for (int start = 0; start < array.length; start++) {
+            final int expected = indexOfLoop(array, value, start);
+            assertEquals(expected, ArraySearch.indexOfWords(array, value, start));
+            assertEquals(expected, ArraySearch.indexOf(array, value, start));
+            assertEquals(expected, ArrayUtils.indexOf(array, value, start));
+            final int expectedLast = lastIndexOfLoop(array, value, start);
+            assertEquals(expectedLast, ArraySearch.lastIndexOfWords(array, value, start));
+            assertEquals(expectedLast, ArraySearch.lastIndexOf(array, value, start));
+            assertEquals(expectedLast, ArrayUtils.lastIndexOf(array, value, start));
+        }
+    }
+
+    @Test
+    void testAllValuesAllPositions() {
+        // every byte value at every position of a word, with neighbors that differ by one bit or carry
+        for (int length = 0; length <= 40; length++) {
+            for (int v = Byte.MIN_VALUE; v <= Byte.MAX_VALUE; v++) {
+                final byte value = (byte) v;
+                final byte[] array = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = (byte) (value ^ 1 << i % 8);
+                }
+                assertSearches(array, value);
+                if (length > 0) {
+                    array[length / 2] = value;
+                    array[length - 1] = value;
+                    assertSearches(array, value);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRandom() {
+        final Random random = new Random(15);
+        for (int n = 0; n < 300; n++) {
+            final byte[] array = new byte[random.nextInt(100)];
+            random.nextBytes(array);
+            for (int i = 0; i < array.length; i++) {
+                // small alphabets give many matches
+                array[i] = (byte) (array[i] & 0x83);
+            }
+            assertSearches(array, (byte) (random.nextInt() & 0x83));
+        }
+    }
+
+    @Test
+    void testZeroBytes() {
+        assertEquals(0x8080808080808080L, ArraySearch.zeroBytes(0));
+        assertEquals(0, ArraySearch.zeroBytes(-1));
+        assertEquals(0x0000000000000080L, ArraySearch.zeroBytes(0x0101010101010100L));
+        // a borrow from the low zero byte must not mark the 0x01 byte above it
+        assertEquals(0x0000000000000080L, ArraySearch.zeroBytes(0x0202020202020100L));
+        assertEquals(0x8000000000000000L, ArraySearch.zeroBytes(0x0080808080808080L));
+    }
+}
@@ -19,8 +19,11 @@
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +32,51 @@
  */
 class ArraySorterTest extends AbstractLangTest {
 
+    @Test
+    void testParallelSortLargeArrays() {
+        final Random random = new Random(17);
+        for (final int length : new int[] { 0, 2, ArraySorter.PARALLEL_THRESHOLD - 1, ArraySorter.PARALLEL_THRESHOLD, 3 * ArraySorter.PARALLEL_THRESHOLD }) {
+            final int[] ints = random.ints(length).toArray();
+            final int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            assertSame(ints, ArraySorter.parallelSort(ints));
+            assertArrayEquals(expectedInts, ints);
+            final double[] doubles = random.doubles(length).map(d -> d < 0.1 ? Double.NaN : d < 0.2 ? -0.0 : d).toArray();
+            final double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles);
+            assertArrayEquals(expectedDoubles, ArraySorter.parallelSort(doubles));
+            final String[] strings = random.ints(length, 0, 1000).mapToObj(String::valueOf).toArray(String[]::new);
+            final String[] expectedStrings = strings.clone();
+            Arrays.sort(expectedStrings);
+            assertArrayEquals(expectedStrings, ArraySorter.parallelSort(strings));
+            final String[] reversed = strings.clone();
+            Arrays.sort(expectedStrings, Comparator.reverseOrder());
+            assertArrayEquals(expectedStrings, ArraySorter.parallelSort(reversed, Comparator.reverseOrder()));
+        }
+    }
+
+    @Test
+    void testParallelSortSmallArrays() {
+        assertArrayEquals(new byte[] { 1, 2 }, ArraySorter.parallelSort(new byte[] { 2, 1 }));
+        assertArrayEquals(new char[] { 1, 2 }, ArraySorter.parallelSort(new char[] { 2, 1 }));
+        assertArrayEquals(new double[] { 1, 2 }, ArraySorter.parallelSort(new double[] { 2, 1 }));
+        assertArrayEquals(new float[] { 1, 2 }, ArraySorter.parallelSort(new float[] { 2, 1 }));
+        assertArrayEquals(new int[] { 1, 2 }, ArraySorter.parallelSort(new int[] { 2, 1 }));
+        assertArrayEquals(new long[] { 1, 2 }, ArraySorter.parallelSort(new long[] { 2, 1 }));
+        assertArrayEquals(new short[] { 1, 2 }, ArraySorter.parallelSort(new short[] { 2, 1 }));
+        assertArrayEquals(new String[] { "bar", "foo" }, ArraySorter.parallelSort(ArrayUtils.toArray("foo", "bar")));
+        assertArrayEquals(new String[] { "bar", "foo" }, ArraySorter.parallelSort(ArrayUtils.toArray("foo", "bar"), null));
+        assertNull(ArraySorter.parallelSort((byte[]) null));
+        assertNull(ArraySorter.parallelSort((char[]) null));
+        assertNull(ArraySorter.parallelSort((double[]) null));
+        assertNull(ArraySorter.parallelSort((float[]) null));
+        assertNull(ArraySorter.parallelSort((int[]) null));
+        assertNull(ArraySorter.parallelSort((long[]) null));
+        assertNull(ArraySorter.parallelSort((short[]) null));
+        assertNull(ArraySorter.parallelSort((String[]) null));
+        assertNull(ArraySorter.parallelSort((String[]) null, String::compareTo));
+    }
+
     @Test
     void testSortByteArray() {
         final byte[] array1 = {2, 1};
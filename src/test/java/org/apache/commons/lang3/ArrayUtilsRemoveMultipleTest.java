@@ -23,6 +23,9 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -1269,6 +1272,38 @@ void testRemoveElementShortArray() {
         assertEquals(Short.TYPE, array.getClass().getComponentType());
     }
 
+    @Test
+    void testRemoveElementsDoubleBits() {
+        // equality is that of Double.equals: NaN matches NaN, -0.0 does not match 0.0
+        assertArrayEquals(new double[] {0.0, 1.0}, ArrayUtils.removeElements(new double[] {Double.NaN, 0.0, 1.0}, -0.0, Double.NaN));
+        assertArrayEquals(new float[] {-0.0f, 1.0f}, ArrayUtils.removeElements(new float[] {Float.NaN, -0.0f, 1.0f}, 0.0f, Float.NaN));
+    }
+
+    @Test
+    void testRemoveElementsMatchesBoxed() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final int[] array = random.ints(random.nextInt(100), -8, 8).toArray();
+            final int[] values = random.ints(random.nextInt(50), -10, 10).toArray();
+            final Integer[] expected = ArrayUtils.removeElements(ArrayUtils.toObject(array), ArrayUtils.toObject(values));
+            assertArrayEquals(ArrayUtils.toPrimitive(expected), ArrayUtils.removeElements(array, values));
+            final long[] longs = Arrays.stream(array).mapToLong(i -> (long) i << 33).toArray();
+            final long[] longValues = Arrays.stream(values).mapToLong(i -> (long) i << 33).toArray();
+            assertArrayEquals(ArrayUtils.toPrimitive(ArrayUtils.removeElements(ArrayUtils.toObject(longs), ArrayUtils.toObject(longValues))),
+                    ArrayUtils.removeElements(longs, longValues));
+            final boolean[] booleans = new boolean[array.length];
+            final boolean[] booleanValues = new boolean[values.length];
+            for (int i = 0; i < array.length; i++) {
+                booleans[i] = array[i] > 0;
+            }
+            for (int i = 0; i < values.length; i++) {
+                booleanValues[i] = values[i] > 0;
+            }
+            assertArrayEquals(ArrayUtils.toPrimitive(ArrayUtils.removeElements(ArrayUtils.toObject(booleans), ArrayUtils.toObject(booleanValues))),
+                    ArrayUtils.removeElements(booleans, booleanValues));
+        }
+    }
+
     @Test
     void testRemoveElementsObjectArray() {
         Object[] array;
@@ -22,6 +22,8 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -365,6 +367,71 @@ void testRemoveAllObjectOccurrences() {
         assertArrayEquals(new String[]{"1", "2", "2", "3", "2"}, ArrayUtils.removeAllOccurrences(a, "4"));
     }
 
+    @Test
+    void testRemoveAllOccurrencesInPlace() {
+        assertEquals(0, ArrayUtils.removeAllOccurrencesInPlace((int[]) null, 2));
+        assertEquals(0, ArrayUtils.removeAllOccurrencesInPlace(ArrayUtils.EMPTY_INT_ARRAY, 2));
+        final int[] ints = { 1, 2, 2, 3, 2 };
+        assertEquals(2, ArrayUtils.removeAllOccurrencesInPlace(ints, 2));
+        assertArrayEquals(new int[] { 1, 3 }, ArrayUtils.subarray(ints, 0, 2));
+        final boolean[] booleans = { true, false, true, false };
+        assertEquals(2, ArrayUtils.removeAllOccurrencesInPlace(booleans, true));
+        assertArrayEquals(new boolean[] { false, false }, ArrayUtils.subarray(booleans, 0, 2));
+        final char[] chars = { 'a', 'b', 'c' };
+        assertEquals(3, ArrayUtils.removeAllOccurrencesInPlace(chars, 'd'));
+        assertArrayEquals(new char[] { 'a', 'b', 'c' }, chars);
+        final double[] doubles = { Double.NaN, 1, -0.0, Double.NaN, 0.0 };
+        assertEquals(3, ArrayUtils.removeAllOccurrencesInPlace(doubles, 0.0));
+        assertArrayEquals(new double[] { Double.NaN, 1, Double.NaN }, ArrayUtils.subarray(doubles, 0, 3));
+        final double[] nans = ArrayUtils.subarray(doubles, 0, 3);
+        assertEquals(1, ArrayUtils.removeAllOccurrencesInPlace(nans, Double.NaN));
+        assertEquals(1, nans[0]);
+        final float[] floats = { Float.NaN, 1, Float.NaN };
+        assertEquals(1, ArrayUtils.removeAllOccurrencesInPlace(floats, Float.NaN));
+        assertEquals(1, floats[0]);
+        final String[] strings = { null, "a", null, "b" };
+        assertEquals(2, ArrayUtils.removeAllOccurrencesInPlace(strings, null));
+        assertArrayEquals(new String[] { "a", "b", null, null }, strings);
+        final String[] rest = ArrayUtils.subarray(strings, 0, 2);
+        assertEquals(1, ArrayUtils.removeAllOccurrencesInPlace(rest, "a"));
+        assertArrayEquals(new String[] { "b", null }, rest);
+        final String[] letters = { "a", "b", "a", "c", "a" };
+        assertEquals(2, ArrayUtils.removeAllOccurrencesInPlace(letters, "a"));
+        assertArrayEquals(new String[] { "b", "c", null, null, null }, letters);
+    }
+
+    @Test
+    void testRemoveAllOccurrencesMatchesIndexesOf() {
+        final Random random = new Random(7);
+        for (int n = 0; n < 200; n++) {
+            final int[] ints = random.ints(random.nextInt(40), 0, 4).toArray();
+            final int element = random.nextInt(5);
+            assertArrayEquals((int[]) ArrayUtils.removeAll((Object) ints, ArrayUtils.indexesOf(ints, element)), ArrayUtils.removeAllOccurrences(ints, element));
+            final double[] doubles = random.doubles(ints.length).map(d -> d < 0.25 ? Double.NaN : d < 0.5 ? -0.0 : d < 0.75 ? 0.0 : 1).toArray();
+            for (final double d : new double[] { Double.NaN, 0.0, -0.0, 1, 2 }) {
+                assertArrayEquals((double[]) ArrayUtils.removeAll((Object) doubles, ArrayUtils.indexesOf(doubles, d)),
+                        ArrayUtils.removeAllOccurrences(doubles, d));
+            }
+            final Integer[] objects = new Integer[ints.length];
+            for (int i = 0; i < ints.length; i++) {
+                objects[i] = ints[i] == 0 ? null : Integer.valueOf(ints[i]);
+            }
+            for (final Integer i : new Integer[] { null, element }) {
+                assertArrayEquals((Integer[]) ArrayUtils.removeAll((Object) objects, ArrayUtils.indexesOf(objects, i)),
+                        ArrayUtils.removeAllOccurrences(objects, i));
+            }
+        }
+    }
+
+    @Test
+    void testRemoveAllOccurrencesNaN() {
+        assertArrayEquals(new double[] { 1 }, ArrayUtils.removeAllOccurrences(new double[] { Double.NaN, 1, Double.NaN }, Double.NaN));
+        assertArrayEquals(new double[] { 1 }, ArrayUtils.removeAllOccurrences(new double[] { -0.0, 1, 0.0 }, 0.0));
+        assertArrayEquals(new float[] { 1 }, ArrayUtils.removeAllOccurrences(new float[] { Float.NaN, 1, Float.NaN }, Float.NaN));
+        final Object[] objects = ArrayUtils.removeAllOccurrences(new Number[] { 1, 2L }, 1);
+        assertEquals(Number.class, objects.getClass().getComponentType());
+    }
+
     @Test
     void testRemoveAllShortOccurences() {
         short[] a = null;
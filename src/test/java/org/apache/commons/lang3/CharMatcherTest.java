@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CharMatcher}.
+ */
+class CharMatcherTest extends AbstractLangTest {
+
+    private static void assertMatches(final IntPredicate expected, final CharMatcher matcher) {
+        for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            final int ch = i;
+            assertEquals(expected.test(ch), matcher.matches((char) ch), () -> Integer.toHexString(ch));
+        }
+    }
+
+    @Test
+    void testAnyOf() {
+        assertSame(CharMatcher.NONE, CharMatcher.anyOf((char[]) null));
+        assertSame(CharMatcher.NONE, CharMatcher.anyOf(new char[0]));
+        assertSame(CharMatcher.NONE, CharMatcher.anyOf((CharSequence) null));
+        assertMatches(ch -> ch == '?' || ch == '@' || ch == 0 || ch == 127, CharMatcher.anyOf('?', '@', '\0', '\u007f'));
+        assertMatches(ch -> ch == 'a' || ch == '\u00e9', CharMatcher.anyOf("a\u00e9"));
+        assertMatches(ch -> "a\u00e9\u4e2d\uffff".indexOf(ch) >= 0, CharMatcher.anyOf("\uffff\u4e2da\u00e9"));
+        assertMatches(ch -> ch == 'x', CharMatcher.is('x'));
+    }
+
+    @Test
+    void testAnyOfAscii() {
+        assertNull(CharMatcher.anyOfAscii(new char[] { 'a', '\u0080' }));
+        assertMatches(ch -> ch == 'a' || ch == '-', CharMatcher.anyOfAscii(new char[] { 'a', '-' }));
+    }
+
+    @Test
+    void testComposition() {
+        final IntPredicate identifier = ch -> Character.isLetterOrDigit(ch) || ch == '_' || ch == '-';
+        assertMatches(identifier, CharMatcher.LETTER_OR_DIGIT.or(CharMatcher.anyOf("_-")));
+        assertMatches(identifier.negate(), CharMatcher.LETTER_OR_DIGIT.or(CharMatcher.anyOf("_-")).negate());
+        assertMatches(ch -> Character.isLetter(ch) && ch < 128, CharMatcher.LETTER.and(CharMatcher.ASCII));
+        assertMatches(ch -> Character.isLetter(ch) && !Character.isDigit(ch), CharMatcher.LETTER.and(CharMatcher.DIGIT.negate()));
+        assertMatches(ch -> Character.isDigit(ch) || Character.isWhitespace(ch), CharMatcher.DIGIT.or(CharMatcher.WHITESPACE));
+        assertMatches(ch -> ch >= 'a' && ch <= 'f' || ch >= '\u0100' && ch <= '\u0200',
+                CharMatcher.inRange('a', 'f').or(CharMatcher.inRange('\u0100', '\u0200')));
+        assertMatches(ch -> true, CharMatcher.NONE.negate());
+        assertMatches(ch -> false, CharMatcher.ANY.negate());
+        assertMatches(ch -> ch >= 128, CharMatcher.ASCII.negate());
+        assertMatches(ch -> Character.isDigit(ch), CharMatcher.DIGIT.and(CharMatcher.ANY));
+        assertMatches(ch -> true, CharMatcher.DIGIT.or(CharMatcher.ANY));
+        assertMatches(ch -> false, CharMatcher.DIGIT.and(CharMatcher.NONE));
+    }
+
+    @Test
+    void testConstants() {
+        assertMatches(ch -> false, CharMatcher.NONE);
+        assertMatches(ch -> true, CharMatcher.ANY);
+        assertMatches(ch -> ch < 128, CharMatcher.ASCII);
+        assertMatches(ch -> CharUtils.isAsciiPrintable((char) ch), CharMatcher.ASCII_PRINTABLE);
+        assertMatches(Character::isDigit, CharMatcher.DIGIT);
+        assertMatches(Character::isLetter, CharMatcher.LETTER);
+        assertMatches(Character::isLetterOrDigit, CharMatcher.LETTER_OR_DIGIT);
+        assertMatches(Character::isWhitespace, CharMatcher.WHITESPACE);
+    }
+
+    @Test
+    void testEmptyRange() {
+        assertMatches(ch -> false, CharMatcher.inRange('z', 'a'));
+    }
+
+    @Test
+    void testSequences() {
+        final CharMatcher digits = CharMatcher.DIGIT;
+        assertTrue(digits.matchesAll("0123\u0967"));
+        assertTrue(digits.matchesAll(""));
+        assertFalse(digits.matchesAll(null));
+        assertFalse(digits.matchesAll("12a"));
+        assertTrue(digits.matchesAny("ab1"));
+        assertFalse(digits.matchesAny("abc"));
+        assertFalse(digits.matchesAny(""));
+        assertFalse(digits.matchesAny(null));
+        assertEquals(2, digits.indexIn("ab1c2", 0));
+        assertEquals(4, digits.indexIn("ab1c2", 3));
+        assertEquals(2, digits.indexIn("ab1c2", -5));
+        assertEquals(StringUtils.INDEX_NOT_FOUND, digits.indexIn("ab1c2", 5));
+        assertEquals(StringUtils.INDEX_NOT_FOUND, digits.indexIn(null, 0));
+        assertTrue(CharMatcher.LETTER.matchesAll(new StringBuilder("abc\u00e9")));
+        assertThrows(NullPointerException.class, () -> CharMatcher.of(null));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SortedArrays}.
+ */
+class SortedArraysTest extends AbstractLangTest {
+
+    private static int[] randomSorted(final Random random, final int length, final int bound) {
+        return ArraySorter.sort(random.ints(length, 0, bound).toArray());
+    }
+
+    private static TreeSet<Integer> toSet(final int[] array) {
+        return new TreeSet<>(Arrays.asList(ArrayUtils.toObject(array)));
+    }
+
+    private static int[] toArray(final TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    void testByteCharShortFloat() {
+        assertArrayEquals(new byte[] { 1, 2, 3 }, SortedArrays.union(new byte[] { 1, 3 }, new byte[] { 2, 3 }));
+        assertArrayEquals(new byte[] { 3 }, SortedArrays.intersection(new byte[] { 1, 3 }, new byte[] { 2, 3 }));
+        assertArrayEquals(new char[] { 'a' }, SortedArrays.difference(new char[] { 'a', 'c' }, new char[] { 'b', 'c' }));
+        assertArrayEquals(new char[] { 'a', 'b' }, SortedArrays.distinct(new char[] { 'a', 'a', 'b' }));
+        assertTrue(SortedArrays.contains(new short[] { -5, 0, 7 }, (short) -5));
+        assertFalse(SortedArrays.contains(new short[] { -5, 0, 7 }, (short) 6));
+        assertArrayEquals(new short[] { -5, 7 }, SortedArrays.distinct(new short[] { -5, -5, 7, 7 }));
+        assertArrayEquals(new float[] { -0f, 0f, Float.NaN }, SortedArrays.union(new float[] { -0f, Float.NaN }, new float[] { 0f, Float.NaN }));
+        assertArrayEquals(new long[] { 2 }, SortedArrays.intersection(new long[] { 1, 2 }, new long[] { 2, 3 }));
+    }
+
+    @Test
+    void testComparator() {
+        final String[] a = { "a", "B", "c" };
+        final String[] b = { "A", "b", "D" };
+        assertArrayEquals(new String[] { "a", "B", "c", "D" }, SortedArrays.union(a, b, String.CASE_INSENSITIVE_ORDER));
+        assertArrayEquals(new String[] { "a", "B" }, SortedArrays.intersection(a, b, String.CASE_INSENSITIVE_ORDER));
+        assertArrayEquals(new String[] { "c" }, SortedArrays.difference(a, b, String.CASE_INSENSITIVE_ORDER));
+        assertArrayEquals(new String[] { "a", "B" }, SortedArrays.distinct(new String[] { "a", "A", "B", "b" }, String.CASE_INSENSITIVE_ORDER));
+        assertTrue(SortedArrays.contains(a, "C", String.CASE_INSENSITIVE_ORDER));
+        assertFalse(SortedArrays.contains(a, "C"));
+    }
+
+    @Test
+    void testDoubleOrdering() {
+        final double[] a = { -0.0, 1, Double.NaN, Double.NaN };
+        final double[] b = { 0.0, 1, Double.NaN };
+        assertArrayEquals(new double[] { -0.0, 0.0, 1, Double.NaN }, SortedArrays.union(a, b));
+        assertArrayEquals(new double[] { 1, Double.NaN }, SortedArrays.intersection(a, b));
+        assertArrayEquals(new double[] { -0.0 }, SortedArrays.difference(a, b));
+        assertArrayEquals(new double[] { -0.0, 1, Double.NaN }, SortedArrays.distinct(a));
+        assertTrue(SortedArrays.contains(a, Double.NaN));
+        assertTrue(SortedArrays.contains(a, -0.0));
+        assertFalse(SortedArrays.contains(a, 0.0));
+    }
+
+    @Test
+    void testIsSkewed() {
+        assertFalse(SortedArrays.isSkewed(0, 0));
+        assertTrue(SortedArrays.isSkewed(0, 1));
+        assertTrue(SortedArrays.isSkewed(10, 1000));
+        assertFalse(SortedArrays.isSkewed(100, 1000));
+        assertFalse(SortedArrays.isSkewed(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testMatchesTreeSet() {
+        final Random random = new Random(16);
+        for (int n = 0; n < 500; n++) {
+            // include very unequal lengths to reach the binary search paths
+            final int bound = 1 + random.nextInt(200);
+            final int[] a = randomSorted(random, random.nextInt(n % 3 == 0 ? 1000 : 30), bound);
+            final int[] b = randomSorted(random, random.nextInt(30), bound);
+            final TreeSet<Integer> union = toSet(a);
+            union.addAll(toSet(b));
+            final TreeSet<Integer> intersection = toSet(a);
+            intersection.retainAll(toSet(b));
+            final TreeSet<Integer> difference = toSet(a);
+            difference.removeAll(toSet(b));
+            final TreeSet<Integer> reverseDifference = toSet(b);
+            reverseDifference.removeAll(toSet(a));
+            assertArrayEquals(toArray(union), SortedArrays.union(a, b));
+            assertArrayEquals(toArray(union), SortedArrays.union(b, a));
+            assertArrayEquals(toArray(intersection), SortedArrays.intersection(a, b));
+            assertArrayEquals(toArray(intersection), SortedArrays.intersection(b, a));
+            assertArrayEquals(toArray(difference), SortedArrays.difference(a, b));
+            assertArrayEquals(toArray(reverseDifference), SortedArrays.difference(b, a));
+            assertArrayEquals(toArray(toSet(a)), SortedArrays.distinct(a));
+            final Integer[] boxedA = ArrayUtils.toObject(a);
+            final Integer[] boxedB = ArrayUtils.toObject(b);
+            assertArrayEquals(union.toArray(), SortedArrays.union(boxedA, boxedB));
+            assertArrayEquals(intersection.toArray(), SortedArrays.intersection(boxedA, boxedB));
+            assertArrayEquals(intersection.toArray(), SortedArrays.intersection(boxedB, boxedA));
+            assertArrayEquals(difference.toArray(), SortedArrays.difference(boxedA, boxedB));
+            assertArrayEquals(reverseDifference.toArray(), SortedArrays.difference(boxedB, boxedA));
+            assertArrayEquals(toSet(a).toArray(), SortedArrays.distinct(boxedA));
+            for (int v = -1; v <= bound; v++) {
+                assertEquals(union.contains(v), SortedArrays.contains(a, v) || SortedArrays.contains(b, v));
+                assertEquals(toSet(a).contains(v), SortedArrays.contains(boxedA, v));
+            }
+        }
+    }
+
+    @Test
+    void testNulls() {
+        assertFalse(SortedArrays.contains((int[]) null, 1));
+        assertFalse(SortedArrays.contains((String[]) null, "a"));
+        assertNull(SortedArrays.distinct((int[]) null));
+        assertNull(SortedArrays.distinct((String[]) null));
+        assertArrayEquals(new int[] { 1 }, SortedArrays.union(null, new int[] { 1 }));
+        assertArrayEquals(ArrayUtils.EMPTY_INT_ARRAY, SortedArrays.intersection(new int[] { 1 }, null));
+        assertArrayEquals(new int[] { 1 }, SortedArrays.difference(new int[] { 1 }, null));
+        assertArrayEquals(ArrayUtils.EMPTY_INT_ARRAY, SortedArrays.union((int[]) null, null));
+        assertNull(SortedArrays.union((String[]) null, null));
+        assertNull(SortedArrays.intersection((String[]) null, null));
+        assertNull(SortedArrays.difference((String[]) null, null));
+        final String[] union = SortedArrays.union(null, new String[] { "a" });
+        assertArrayEquals(new String[] { "a" }, union);
+        assertSame(String.class, union.getClass().getComponentType());
+        assertSame(String.class, SortedArrays.difference(null, new String[] { "a" }).getClass().getComponentType());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SplitIterator}.
+ */
+class SplitIteratorTest extends AbstractLangTest {
+
+    private static final String[] SEPARATORS = {null, "", ",", " ,", "-!-", "!!"};
+
+    private static void assertSameTokens(final String[] expected, final SplitIterator actual, final String message) {
+        final List<String> tokens = new ArrayList<>();
+        actual.forEachRemaining(token -> tokens.add(token.toString()));
+        assertArrayEquals(expected, tokens.toArray(), message);
+    }
+
+    /**
+     * Generates every String of up to {@code length} characters from {@code alphabet}.
+     */
+    private static List<String> strings(final String alphabet, final int length) {
+        final List<String> strings = new ArrayList<>();
+        strings.add("");
+        for (int i = 0; i < strings.size(); i++) {
+            final String prefix = strings.get(i);
+            if (prefix.length() < length) {
+                for (final char c : alphabet.toCharArray()) {
+                    strings.add(prefix + c);
+                }
+            }
+        }
+        return strings;
+    }
+
+    @Test
+    void testAdvance() {
+        final String str = "ab,,cde";
+        final SplitIterator it = SplitIterator.splitPreserveAllTokens(str, ",", -1);
+        assertEquals(-1, it.start());
+        assertEquals(-1, it.end());
+        assertTrue(it.advance());
+        assertEquals(0, it.start());
+        assertEquals(2, it.end());
+        assertTrue(it.advance());
+        assertEquals(3, it.start());
+        assertEquals(3, it.end());
+        assertTrue(it.advance());
+        assertEquals("cde", str.substring(it.start(), it.end()));
+        assertFalse(it.advance());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void testMatchesStringUtils() {
+        for (final String str : strings("a ,-!", 6)) {
+            for (final String separator : SEPARATORS) {
+                for (int max = -1; max <= 3; max++) {
+                    final String message = "\"" + str + "\" separated by " + separator + " max " + max;
+                    assertSameTokens(StringUtils.split(str, separator, max), SplitIterator.split(str, separator, max), message);
+                    assertSameTokens(StringUtils.splitPreserveAllTokens(str, separator, max), SplitIterator.splitPreserveAllTokens(str, separator, max),
+                            message);
+                    assertSameTokens(StringUtils.splitByWholeSeparator(str, separator, max), SplitIterator.splitByWholeSeparator(str, separator, max),
+                            message);
+                    assertSameTokens(StringUtils.splitByWholeSeparatorPreserveAllTokens(str, separator, max),
+                            SplitIterator.splitByWholeSeparatorPreserveAllTokens(str, separator, max), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNull() {
+        assertFalse(SplitIterator.split(null, ",", -1).hasNext());
+        assertFalse(SplitIterator.splitPreserveAllTokens(null, null, -1).hasNext());
+        assertFalse(SplitIterator.splitByWholeSeparator(null, "-", -1).hasNext());
+        assertFalse(SplitIterator.splitByWholeSeparatorPreserveAllTokens(null, null, -1).hasNext());
+    }
+
+    @Test
+    void testStream() {
+        assertArrayEquals(new String[] {"a", "b", "c"}, SplitIterator.split("a b  c", null, -1).stream().map(CharSequence::toString).toArray());
+        assertEquals(2, SplitIterator.split("a b  c", null, 2).stream().count());
+    }
+}
@@ -20,6 +20,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,6 +33,7 @@
 import java.nio.file.Paths;
 
 import org.apache.commons.lang3.text.translate.CharSequenceTranslator;
+import org.apache.commons.lang3.text.translate.LookupTranslator;
 import org.apache.commons.lang3.text.translate.NumericEntityEscaper;
 import org.junit.jupiter.api.Test;
 
@@ -128,6 +130,8 @@ void testEscapeCsvString() {
         assertEquals("foo\uD84C\uDFB4bar", StringEscapeUtils.escapeCsv("foo\uD84C\uDFB4bar"));
         assertEquals("", StringEscapeUtils.escapeCsv(""));
         assertNull(StringEscapeUtils.escapeCsv(null));
+        final String clean = "foo.bar";
+        assertSame(clean, StringEscapeUtils.escapeCsv(clean));
     }
 
     @Test
@@ -267,6 +271,14 @@ void testEscapeJson() {
         assertEquals(expected, StringEscapeUtils.escapeJson(input));
     }
 
+    @Test
+    void testEscapeJsonCleanInputIsNotCopied() {
+        final String input = "He didn't say stop";
+        assertSame(input, StringEscapeUtils.escapeJson(input));
+        assertEquals("caf\\u00E9 \\/ \\uD83D\\uDE00 x", StringEscapeUtils.escapeJson("caf\u00e9 / \ud83d\ude00 x"));
+        assertEquals("caf\\u00E9 \\/ x", StringEscapeUtils.ESCAPE_JSON.translate(new StringBuilder("caf\u00e9 / x")));
+    }
+
     @Test
     void testEscapeXml() throws Exception {
         assertEquals("&lt;abc&gt;", StringEscapeUtils.escapeXml("<abc>"));
@@ -305,6 +317,23 @@ void testEscapeXml10() {
                 "XML 1.0 should escape #x7f-#x84 | #x86 - #x9f, for XML 1.1 compatibility");
     }
 
+    @Test
+    void testEscapeXml10CleanInputIsNotCopied() {
+        final String clean = "a\tb\u00e9c";
+        assertSame(clean, StringEscapeUtils.escapeXml10(clean));
+        assertEquals("a\tb\u00e9c\ud83d\ude00", StringEscapeUtils.escapeXml10("a\tb\u00e9c\ud83d\ude00"));
+        assertEquals("a&lt;b\u00e9\ud83d\ude00&amp;", StringEscapeUtils.ESCAPE_XML10.translate(new StringBuilder("a<b\u00e9\ud83d\ude00&")));
+    }
+
+    @Test
+    void testEscapeWithComposedTranslator() {
+        final CharSequenceTranslator replaceA = new LookupTranslator(new String[][] { { "a", "Z" } });
+        assertEquals("Zbc\\\"Z", StringEscapeUtils.ESCAPE_JSON.with(replaceA).translate("abc\"a"));
+        assertEquals("Zb\\u00E9\\/Z", StringEscapeUtils.ESCAPE_JSON.with(replaceA).translate(new StringBuilder("ab\u00e9/a")));
+        assertEquals("Z&lt;bZ&amp;", StringEscapeUtils.ESCAPE_XML10.with(replaceA).translate("a<ba&"));
+        assertEquals("xx&lt;b", new LookupTranslator(new String[][] { { "ab", "xx" } }).with(StringEscapeUtils.ESCAPE_XML10).translate("ab<b"));
+    }
+
     @Test
     void testEscapeXml11() {
         assertEquals("a&lt;b&gt;c&quot;d&apos;e&amp;f", StringEscapeUtils.escapeXml11("a<b>c\"d'e&f"));
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StringReplacer}.
+ */
+class StringReplacerTest extends AbstractLangTest {
+
+    private static String random(final Random random, final int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testAppendToStringBuilder() {
+        final StringReplacer replacer = StringReplacer.of(new String[] { "ab", "d" }, new String[] { "w", "t" });
+        final StringBuilder builder = new StringBuilder("1");
+        assertSame(builder, replacer.replace(builder, "abcde"));
+        replacer.replace(builder, "xyz");
+        replacer.replace(builder, null);
+        assertEquals("1wctexyz", builder.toString());
+    }
+
+    @Test
+    void testLengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> StringReplacer.of(new String[] { "a", "b" }, new String[] { "c" }));
+    }
+
+    @Test
+    void testMatchesReplaceEach() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            final int count = 1 + random.nextInt(6);
+            final String[] searchList = new String[count];
+            final String[] replacementList = new String[count];
+            for (int j = 0; j < count; j++) {
+                searchList[j] = random.nextInt(10) == 0 ? null : random(random, random.nextInt(4));
+                replacementList[j] = random.nextInt(10) == 0 ? null : random(random, random.nextInt(3));
+            }
+            final String text = random(random, random.nextInt(15));
+            assertEquals(StringUtils.replaceEach(text, searchList, replacementList), StringReplacer.of(searchList, replacementList).replace(text));
+        }
+    }
+
+    @Test
+    void testReplace() {
+        assertNull(StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replace(null));
+        assertEquals("", StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replace(""));
+        assertEquals("aba", StringReplacer.of(null, null).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[0], null).replace("aba"));
+        assertEquals("aba", StringReplacer.of(null, new String[0]).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] { "a" }, null).replace("aba"));
+        assertEquals("b", StringReplacer.of(new String[] { "a" }, new String[] { "" }).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] { null }, new String[] { "a" }).replace("aba"));
+        assertEquals("wcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "w", "t" }).replace("abcde"));
+        assertEquals("dcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "d", "t" }).replace("abcde"));
+        // leftmost match wins over a shorter match found first
+        assertEquals("Xd", StringReplacer.of(new String[] { "bc", "abc" }, new String[] { "Y", "X" }).replace("abcd"));
+        // lowest index wins at the same position
+        assertEquals("Xb", StringReplacer.of(new String[] { "a", "ab" }, new String[] { "X", "Y" }).replace("ab"));
+        assertEquals("Y", StringReplacer.of(new String[] { "ab", "a" }, new String[] { "Y", "X" }).replace("ab"));
+        final String noMatch = "xyz";
+        assertSame(noMatch, StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replace(noMatch));
+    }
+
+    @Test
+    void testReplaceRepeatedly() {
+        assertNull(StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replaceRepeatedly(null));
+        assertEquals("", StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replaceRepeatedly(""));
+        assertEquals("wcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "w", "t" }).replaceRepeatedly("abcde"));
+        assertEquals("tcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "d", "t" }).replaceRepeatedly("abcde"));
+        assertEquals("blaan", StringReplacer.of(new String[] { "one", "two" }, new String[] { "two", "three" }).replaceRepeatedly("blaan"));
+        assertThrows(IllegalStateException.class,
+                () -> StringReplacer.of(new String[] { "ab", "d" }, new String[] { "d", "ab" }).replaceRepeatedly("abcde"));
+    }
+}
@@ -1060,6 +1060,17 @@ void testJoin_ArrayOfShorts() {
         assertEquals(StringUtils.EMPTY, StringUtils.join(SHORT_PRIM_LIST, SEPARATOR_CHAR, 1, 0));
     }
 
+    @Test
+    void testJoin_ArrayOfPrimitivesExtremes() {
+        assertEquals(Integer.MIN_VALUE + ";-1;0;" + Integer.MAX_VALUE, StringUtils.join(new int[] { Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE }, ';'));
+        assertEquals(Long.MIN_VALUE + ";-10;10;" + Long.MAX_VALUE, StringUtils.join(new long[] { Long.MIN_VALUE, -10, 10, Long.MAX_VALUE }, ';'));
+        assertEquals("-32768;32767", StringUtils.join(new short[] { Short.MIN_VALUE, Short.MAX_VALUE }, ';'));
+        assertEquals("-128;127", StringUtils.join(new byte[] { Byte.MIN_VALUE, Byte.MAX_VALUE }, ';'));
+        assertEquals("true;false", StringUtils.join(new boolean[] { false, true, false, true }, ';', 1, 3));
+        assertEquals("b;c", StringUtils.join(new char[] { 'a', 'b', 'c' }, ';', 1, 3));
+        assertEquals("-99;100", StringUtils.join(new int[] { 9, -99, 100, 1000 }, ';', 1, 3));
+    }
+
     @Test
     void testJoin_ArrayString_EmptyDelimiter() {
         assertNull(StringUtils.join((Object[]) null, null));
@@ -19,6 +19,9 @@
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -55,6 +58,12 @@ void testStripAccents() {
                 "Failed to handle non-accented text");
     }
 
+    @Test
+    void testStripAccentsAsciiSame() {
+        final String ascii = "Plain ASCII, 100% of it!";
+        assertSame(ascii, StringUtils.stripAccents(ascii));
+    }
+
     @Test
     void testStripAccentsIWithBar() {
         assertEquals("I i I i I", StringUtils.stripAccents("\u0197 \u0268 \u1D7B \u1DA4 \u1DA7"));
@@ -68,6 +77,32 @@ void testStripAccentsKorean() {
         assertEquals(input, StringUtils.stripAccents(input), "Failed to handle Korean text");
     }
 
+    @Test
+    void testStripAccentsMatchesNormalization() {
+        // a combining Cyrillic mark after a space makes the whole string go through normalization
+        final String normalized = " \u0483";
+        final StringBuilder alphabet = new StringBuilder();
+        for (char ch = 0; ch < 0x370; ch++) {
+            alphabet.append(ch);
+        }
+        for (char ch = 0x1E00; ch < 0x1F00; ch++) {
+            alphabet.append(ch);
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            final String single = String.valueOf(alphabet.charAt(i));
+            assertEquals(StringUtils.stripAccents(single + normalized), StringUtils.stripAccents(single) + normalized, single);
+        }
+        final Random random = new Random(20);
+        for (int i = 0; i < 10_000; i++) {
+            final char[] chars = new char[1 + random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            final String text = new String(chars);
+            assertEquals(StringUtils.stripAccents(text + normalized), StringUtils.stripAccents(text) + normalized, text);
+        }
+    }
+
     @Test
     void testStripAccentsTWithStroke() {
         assertEquals("T t", StringUtils.stripAccents("\u0166 \u0167"));
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ValueCounts}.
+ */
+class ValueCountsTest extends AbstractLangTest {
+
+    @Test
+    void testCollidingKeys() {
+        final ValueCounts counts = new ValueCounts(64);
+        for (long key = 0; key < 64; key++) {
+            counts.increment(key << 32);
+        }
+        for (long key = 63; key >= 0; key--) {
+            assertTrue(counts.decrement(key << 32));
+            assertFalse(counts.decrement(key << 32));
+        }
+        assertTrue(counts.isEmpty());
+    }
+
+    @Test
+    void testCounts() {
+        final ValueCounts counts = new ValueCounts(2);
+        assertTrue(counts.isEmpty());
+        counts.increment(Long.MIN_VALUE);
+        counts.increment(Long.MIN_VALUE);
+        counts.increment(0);
+        assertFalse(counts.isEmpty());
+        assertFalse(counts.decrement(1));
+        assertTrue(counts.decrement(Long.MIN_VALUE));
+        assertTrue(counts.decrement(0));
+        assertFalse(counts.decrement(0));
+        assertFalse(counts.isEmpty());
+        assertTrue(counts.decrement(Long.MIN_VALUE));
+        assertFalse(counts.decrement(Long.MIN_VALUE));
+        assertTrue(counts.isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.arrays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArrayBuilder;
+import org.apache.commons.lang3.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building an {@code int[]} one element at a time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayBuilderBenchmark {
+
+    /**
+     * The number of elements appended.
+     */
+    @Param({ "16", "1024" })
+    private int size;
+
+    /**
+     * Baseline: repeated {@link ArrayUtils#add(int[], int)}, which copies the array on every call.
+     */
+    @Benchmark
+    public int[] addLoop() {
+        int[] array = ArrayUtils.EMPTY_INT_ARRAY;
+        for (int i = 0; i < size; i++) {
+            array = ArrayUtils.add(array, i);
+        }
+        return array;
+    }
+
+    /**
+     * Baseline: a boxed {@link ArrayList} converted at the end.
+     */
+    @Benchmark
+    public int[] arrayList() {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return ArrayUtils.toPrimitive(list.toArray(ArrayUtils.EMPTY_INTEGER_OBJECT_ARRAY));
+    }
+
+    @Benchmark
+    public int[] builder() {
+        final ArrayBuilder.OfInt builder = ArrayBuilder.ofInt();
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        return builder.toArray();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.commons.lang3.benchmark.arrays;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hottest {@link ArrayUtils} methods: add, remove and indexOf.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayUtilsBenchmark {
+
+    /**
+     * The length of the arrays.
+     */
+    @Param({ "16", "1024" })
+    private int size;
+
+    private int[] ints;
+    private Integer[] objects;
+    private int[] valuesToRemove;
+    private Integer[] objectsToRemove;
+    private int last;
+    private int[] scratch;
+
+    @Benchmark
+    public int[] addInt() {
+        return ArrayUtils.add(ints, 42);
+    }
+
+    @Benchmark
+    public Integer[] addObject() {
+        return ArrayUtils.add(objects, 42);
+    }
+
+    @Benchmark
+    public boolean containsInt() {
+        return ArrayUtils.contains(ints, last);
+    }
+
+    @Benchmark
+    public int indexOfInt() {
+        return ArrayUtils.indexOf(ints, last);
+    }
+
+    @Benchmark
+    public int indexOfObject() {
+        return ArrayUtils.indexOf(objects, last);
+    }
+
+    @Benchmark
+    public int[] removeAllOccurrencesInt() {
+        return ArrayUtils.removeAllOccurrences(ints, ints[0]);
+    }
+
+    /**
+     * Baseline: the index set that removeAllOccurrences used to build before copying.
+     */
+    @Benchmark
+    public int[] removeAllOccurrencesIntIndexes() {
+        return ArrayUtils.removeAll(ints, ArrayUtils.indexesOf(ints, ints[0]).stream().toArray());
+    }
+
+    @Benchmark
+    public int removeAllOccurrencesIntInPlace() {
+        System.arraycopy(ints, 0, scratch, 0, size);
+        return ArrayUtils.removeAllOccurrencesInPlace(scratch, ints[0]);
+    }
+
+    /**
+     * Baseline: the boxed counting that the primitive removeElements methods used to do.
+     */
+    @Benchmark
+    public Integer[] removeElementsBoxed() {
+        return ArrayUtils.removeElements(objects, objectsToRemove);
+    }
+
+    @Benchmark
+    public int[] removeElementsInt() {
+        return ArrayUtils.removeElements(ints, valuesToRemove);
+    }
+
+    @Benchmark
+    public int[] removeInt() {
+        return ArrayUtils.remove(ints, size / 2);
+    }
+
+    @Benchmark
+    public Integer[] removeObject() {
+        return ArrayUtils.remove(objects, size / 2);
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextInt(size / 4 + 1);
+        }
+        objects = ArrayUtils.toObject(ints);
+        valuesToRemove = ArrayUtils.subarray(ints, 0, size / 8 + 1);
+        objectsToRemove = ArrayUtils.toObject(valuesToRemove);
+        last = ints[size - 1];
+        scratch = new int[size];
+    }
+}
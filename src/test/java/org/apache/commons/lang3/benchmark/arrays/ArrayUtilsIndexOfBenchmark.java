@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.arrays;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ArrayUtils} indexOf and lastIndexOf for each primitive type, across array sizes and positions of the value found.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayUtilsIndexOfBenchmark {
+
+    /**
+     * The length of the arrays.
+     */
+    @Param({ "16", "256", "4096" })
+    private int size;
+
+    /**
+     * Where the value is: at the start, in the middle, at the end, or absent.
+     */
+    @Param({ "first", "middle", "last", "none" })
+    private String hit;
+
+    private boolean[] booleans;
+    private byte[] bytes;
+    private char[] chars;
+    private double[] doubles;
+    private float[] floats;
+    private int[] ints;
+    private long[] longs;
+    private short[] shorts;
+
+    /**
+     * Baseline: the byte by byte loop that indexOf(byte[], byte) used to run.
+     */
+    @Benchmark
+    public int indexOfByteLoop() {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == 2) {
+                return i;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    @Benchmark
+    public int indexOfBoolean() {
+        return ArrayUtils.indexOf(booleans, true);
+    }
+
+    @Benchmark
+    public int indexOfByte() {
+        return ArrayUtils.indexOf(bytes, (byte) 2);
+    }
+
+    @Benchmark
+    public int indexOfChar() {
+        return ArrayUtils.indexOf(chars, (char) 2);
+    }
+
+    @Benchmark
+    public int indexOfDouble() {
+        return ArrayUtils.indexOf(doubles, 2);
+    }
+
+    @Benchmark
+    public int indexOfFloat() {
+        return ArrayUtils.indexOf(floats, 2);
+    }
+
+    @Benchmark
+    public int indexOfInt() {
+        return ArrayUtils.indexOf(ints, 2);
+    }
+
+    @Benchmark
+    public int indexOfLong() {
+        return ArrayUtils.indexOf(longs, 2);
+    }
+
+    @Benchmark
+    public int indexOfShort() {
+        return ArrayUtils.indexOf(shorts, (short) 2);
+    }
+
+    @Benchmark
+    public int lastIndexOfByte() {
+        return ArrayUtils.lastIndexOf(bytes, (byte) 2);
+    }
+
+    @Benchmark
+    public int lastIndexOfInt() {
+        return ArrayUtils.lastIndexOf(ints, 2);
+    }
+
+    @Setup
+    public void setUp() {
+        booleans = new boolean[size];
+        bytes = new byte[size];
+        chars = new char[size];
+        doubles = new double[size];
+        floats = new float[size];
+        ints = new int[size];
+        longs = new long[size];
+        shorts = new short[size];
+        Arrays.fill(bytes, (byte) 1);
+        Arrays.fill(chars, (char) 1);
+        Arrays.fill(doubles, 1);
+        Arrays.fill(floats, 1);
+        Arrays.fill(ints, 1);
+        Arrays.fill(longs, 1);
+        Arrays.fill(shorts, (short) 1);
+        final int index;
+        switch (hit) {
+        case "first":
+            index = 0;
+            break;
+        case "middle":
+            index = size / 2;
+            break;
+        case "last":
+            index = size - 1;
+            break;
+        default:
+            return;
+        }
+        booleans[index] = true;
+        bytes[index] = 2;
+        chars[index] = 2;
+        doubles[index] = 2;
+        floats[index] = 2;
+        ints[index] = 2;
+        longs[index] = 2;
+        shorts[index] = 2;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.arrays;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArrayFill;
+import org.apache.commons.lang3.ArraySorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the sequential and parallel {@link ArraySorter} and {@link ArrayFill} methods across array sizes, to find where parallel work starts to pay
+ * off. Run on a multi-core machine; on a single core, the parallel variants can only lose.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelArraysBenchmark {
+
+    /**
+     * The length of the arrays.
+     */
+    @Param({ "1000", "8192", "32768", "131072", "1048576" })
+    private int size;
+
+    private int[] ints;
+    private int[] scratch;
+    private String[] strings;
+
+    @Benchmark
+    public String[] fill() {
+        return ArrayFill.fill(strings, String::valueOf);
+    }
+
+    @Benchmark
+    public String[] parallelFill() {
+        return ArrayFill.parallelFill(strings, String::valueOf);
+    }
+
+    @Benchmark
+    public int[] parallelSort() {
+        System.arraycopy(ints, 0, scratch, 0, size);
+        return ArraySorter.parallelSort(scratch);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(ints, 0, scratch, 0, size);
+        return ArraySorter.sort(scratch);
+    }
+
+    @Setup
+    public void setUp() {
+        ints = new Random(42).ints(size).toArray();
+        scratch = new int[size];
+        strings = new String[size];
+    }
+}
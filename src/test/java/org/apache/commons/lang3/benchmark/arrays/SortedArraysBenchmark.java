@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.arrays;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArraySorter;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.SortedArrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SortedArrays} against linear scans and boxed {@link TreeSet}s over sorted id arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortedArraysBenchmark {
+
+    /**
+     * The length of the larger arrays.
+     */
+    @Param({ "1024", "65536" })
+    private int size;
+
+    private int[] ids1;
+    private int[] ids2;
+    private int[] fewIds;
+    private int key;
+
+    @Benchmark
+    public boolean contains() {
+        return SortedArrays.contains(ids1, key);
+    }
+
+    /**
+     * Baseline: a linear scan.
+     */
+    @Benchmark
+    public boolean containsLinear() {
+        return ArrayUtils.contains(ids1, key);
+    }
+
+    @Benchmark
+    public int[] difference() {
+        return SortedArrays.difference(ids1, ids2);
+    }
+
+    @Benchmark
+    public int[] intersection() {
+        return SortedArrays.intersection(ids1, ids2);
+    }
+
+    /**
+     * Intersects a 64 element array with a large one, searching instead of merging.
+     */
+    @Benchmark
+    public int[] intersectionSkewed() {
+        return SortedArrays.intersection(fewIds, ids1);
+    }
+
+    /**
+     * Baseline: boxed sets.
+     */
+    @Benchmark
+    public Integer[] intersectionTreeSet() {
+        final TreeSet<Integer> set = new TreeSet<>(Arrays.asList(ArrayUtils.toObject(ids1)));
+        set.retainAll(new TreeSet<>(Arrays.asList(ArrayUtils.toObject(ids2))));
+        return set.toArray(ArrayUtils.EMPTY_INTEGER_OBJECT_ARRAY);
+    }
+
+    @Benchmark
+    public int[] union() {
+        return SortedArrays.union(ids1, ids2);
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        ids1 = ArraySorter.sort(random.ints(size, 0, size * 4).toArray());
+        ids2 = ArraySorter.sort(random.ints(size, 0, size * 4).toArray());
+        fewIds = ArraySorter.sort(random.ints(64, 0, size * 4).toArray());
+        key = ids1[size / 3] + 1;
+    }
+}
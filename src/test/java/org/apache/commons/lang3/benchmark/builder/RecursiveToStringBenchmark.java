@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.RecursiveToStringStyle;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ReflectionToStringBuilder} with a {@link RecursiveToStringStyle} on a tree of 121 objects, as logged into a reused
+ * {@link StringBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecursiveToStringBenchmark {
+
+    /**
+     * A recursive style that stops rendering at 1024 characters.
+     */
+    private static final class LimitedRecursiveToStringStyle extends RecursiveToStringStyle {
+
+        private static final long serialVersionUID = 1L;
+
+        LimitedRecursiveToStringStyle() {
+            setMaxLength(1024);
+        }
+    }
+
+    /**
+     * A tree node.
+     */
+    public static class Node {
+
+        private final String name;
+        private final int id;
+        private final int[] data = new int[20];
+        private final List<Node> children = new ArrayList<>();
+
+        Node(final int id) {
+            this.id = id;
+            this.name = "node-" + id;
+        }
+    }
+
+    private static final ToStringStyle STYLE = new RecursiveToStringStyle();
+
+    private static final ToStringStyle LIMITED_STYLE = new LimitedRecursiveToStringStyle();
+
+    private static Node tree(final int depth, final int[] ids) {
+        final Node node = new Node(ids[0]++);
+        if (depth > 0) {
+            for (int i = 0; i < 3; i++) {
+                node.children.add(tree(depth - 1, ids));
+            }
+        }
+        return node;
+    }
+
+    private final StringBuilder log = new StringBuilder();
+
+    private Node root;
+
+    @Benchmark
+    public StringBuilder appendTo() {
+        log.setLength(0);
+        return new ReflectionToStringBuilder(root, STYLE).appendTo(log);
+    }
+
+    @Benchmark
+    public StringBuilder appendToMaxLength() {
+        log.setLength(0);
+        return new ReflectionToStringBuilder(root, LIMITED_STYLE).appendTo(log);
+    }
+
+    /**
+     * Baseline: creates the {@code toString} and copies it into the log.
+     */
+    @Benchmark
+    public StringBuilder toStringThenAppend() {
+        log.setLength(0);
+        return log.append(ReflectionToStringBuilder.toString(root, STYLE));
+    }
+
+    @Setup
+    public void setUp() {
+        root = tree(4, new int[1]);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.commons.lang3.benchmark.builder;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArraySorter;
+import org.apache.commons.lang3.builder.CompareToBuilder;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ReflectionStrategy;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the reflective {@link EqualsBuilder}, {@link HashCodeBuilder}, {@link CompareToBuilder} and {@link ReflectionToStringBuilder} methods
+ * and {@link ReflectionStrategy} against hand-written code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReflectionBuilderBenchmark {
+
+    /**
+     * A flat data transfer object.
+     */
+    public static class Dto {
+
+        private final int id;
+        private final long version;
+        private final double amount;
+        private final boolean active;
+        private final String name;
+        private final String email;
+        private final int[] scores;
+
+        Dto(final int id, final String name) {
+            this.id = id;
+            this.version = 3L;
+            this.amount = 12.5;
+            this.active = true;
+            this.name = name;
+            this.email = name + "@example.com";
+            this.scores = new int[] { 1, 2, 3 };
+        }
+
+        boolean handWrittenEquals(final Dto other) {
+            return new EqualsBuilder().append(id, other.id).append(version, other.version).append(amount, other.amount).append(active, other.active)
+                    .append(name, other.name).append(email, other.email).append(scores, other.scores).isEquals();
+        }
+
+        int handWrittenCompareTo(final Dto other) {
+            return new CompareToBuilder().append(id, other.id).append(version, other.version).append(amount, other.amount).append(active, other.active)
+                    .append(name, other.name).append(email, other.email).append(scores, other.scores).toComparison();
+        }
+
+        int handWrittenHashCode() {
+            return new HashCodeBuilder().append(id).append(version).append(amount).append(active).append(name).append(email).append(scores).toHashCode();
+        }
+
+        String handWrittenToString() {
+            return new ToStringBuilder(this).append("active", active).append("amount", amount).append("email", email).append("id", id).append("name", name)
+                    .append("scores", scores).append("version", version).toString();
+        }
+    }
+
+    /**
+     * An identity key like the one the cycle registries used to allocate for each object registered.
+     */
+    private static final class IdentityKey {
+
+        private final Object value;
+        private final int id;
+
+        IdentityKey(final Object value) {
+            this.id = System.identityHashCode(value);
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
+    private static final ThreadLocal<Set<Pair<IdentityKey, IdentityKey>>> HASH_SET_REGISTRY = ThreadLocal.withInitial(HashSet::new);
+
+    private static final ReflectionStrategy<Dto> STRATEGY = ReflectionStrategy.of(Dto.class);
+
+    private final Dto left = new Dto(1, "alice");
+    private final Dto right = new Dto(1, "alice");
+
+    @Benchmark
+    public int compareToHandWritten() {
+        return left.handWrittenCompareTo(right);
+    }
+
+    @Benchmark
+    public int compareToReflection() {
+        return CompareToBuilder.reflectionCompare(left, right);
+    }
+
+    @Benchmark
+    public int compareToStrategy() {
+        return STRATEGY.compare(left, right);
+    }
+
+    /**
+     * Baseline: the field lookup each reflective call made before field metadata was cached per class.
+     */
+    @Benchmark
+    public Field[] declaredFieldsUncached() {
+        final Field[] fields = ArraySorter.sort(Dto.class.getDeclaredFields(), Comparator.comparing(Field::getName));
+        AccessibleObject.setAccessible(fields, true);
+        return fields;
+    }
+
+    @Benchmark
+    public boolean equalsHandWritten() {
+        return left.handWrittenEquals(right);
+    }
+
+    @Benchmark
+    public boolean equalsReflection() {
+        return EqualsBuilder.reflectionEquals(left, right);
+    }
+
+    @Benchmark
+    public boolean equalsStrategy() {
+        return STRATEGY.isEqual(left, right);
+    }
+
+    @Benchmark
+    public int hashCodeHandWritten() {
+        return left.handWrittenHashCode();
+    }
+
+    @Benchmark
+    public int hashCodeReflection() {
+        return HashCodeBuilder.reflectionHashCode(left);
+    }
+
+    @Benchmark
+    public int hashCodeStrategy() {
+        return STRATEGY.hash(left);
+    }
+
+    /**
+     * Baseline: the cycle registration each {@link EqualsBuilder#reflectionEquals(Object, Object, String...)} call made for a flat object before the
+     * registry became an allocation-free identity stack.
+     */
+    @Benchmark
+    public boolean registerHashSet() {
+        final Set<Pair<IdentityKey, IdentityKey>> registry = HASH_SET_REGISTRY.get();
+        final Pair<IdentityKey, IdentityKey> pair = Pair.of(new IdentityKey(left), new IdentityKey(right));
+        final boolean registered = registry.contains(pair) || registry.contains(Pair.of(pair.getRight(), pair.getLeft()));
+        registry.add(Pair.of(new IdentityKey(left), new IdentityKey(right)));
+        registry.remove(Pair.of(new IdentityKey(left), new IdentityKey(right)));
+        if (registry.isEmpty()) {
+            HASH_SET_REGISTRY.remove();
+        }
+        return registered;
+    }
+
+    @Benchmark
+    public String toStringHandWritten() {
+        return left.handWrittenToString();
+    }
+
+    @Benchmark
+    public String toStringReflection() {
+        return ReflectionToStringBuilder.toString(left);
+    }
+}
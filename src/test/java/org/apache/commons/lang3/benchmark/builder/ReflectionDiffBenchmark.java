@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.builder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.DiffBuilder;
+import org.apache.commons.lang3.builder.ReflectionDiffBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ReflectionDiffBuilder} on two snapshots of a 32 field configuration object that differ in 2 fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReflectionDiffBenchmark {
+
+    /**
+     * A configuration snapshot.
+     */
+    public static class Config implements Cloneable {
+
+        private int i0 = 1000;
+        private int i1 = 2000;
+        private int i2 = 3000;
+        private int i3 = 4000;
+        private int i4 = 5000;
+        private int i5 = 6000;
+        private int i6 = 7000;
+        private int i7 = 8000;
+        private long l0 = 1000000L;
+        private long l1 = 2000000L;
+        private long l2 = 3000000L;
+        private long l3 = 4000000L;
+        private long l4 = 5000000L;
+        private long l5 = 6000000L;
+        private long l6 = 7000000L;
+        private long l7 = 8000000L;
+        private double d0 = 1.5;
+        private double d1 = 2.5;
+        private double d2 = 3.5;
+        private double d3 = 4.5;
+        private double d4 = 5.5;
+        private double d5 = 6.5;
+        private double d6 = 7.5;
+        private double d7 = 8.5;
+        private String s0 = "value-0";
+        private String s1 = "value-1";
+        private String s2 = "value-2";
+        private String s3 = "value-3";
+        private String s4 = "value-4";
+        private String s5 = "value-5";
+        private String s6 = "value-6";
+        private String s7 = "value-7";
+
+        @Override
+        protected Config clone() throws CloneNotSupportedException {
+            return (Config) super.clone();
+        }
+    }
+
+    private Config left;
+
+    private Config right;
+
+    /**
+     * Baseline: collects all diffs, then tests whether there are any.
+     */
+    @Benchmark
+    public boolean anyDiffFromResult() {
+        return diff() > 0;
+    }
+
+    @Benchmark
+    public boolean anyDiffMaxDiffs() {
+        return ReflectionDiffBuilder.<Config>builder()
+                .setDiffBuilder(DiffBuilder.<Config>builder().setLeft(left).setRight(right).setMaxDiffs(1).build())
+                .build()
+                .build()
+                .getNumberOfDiffs() > 0;
+    }
+
+    @Benchmark
+    public int diff() {
+        return ReflectionDiffBuilder.<Config>builder()
+                .setDiffBuilder(DiffBuilder.<Config>builder().setLeft(left).setRight(right).build())
+                .build()
+                .build()
+                .getNumberOfDiffs();
+    }
+
+    @Benchmark
+    public int diffConsumer() {
+        final int[] count = new int[1];
+        ReflectionDiffBuilder.<Config>builder()
+                .setDiffBuilder(DiffBuilder.<Config>builder().setLeft(left).setRight(right).setDiffConsumer(diff -> count[0]++).build())
+                .build()
+                .build();
+        return count[0];
+    }
+
+    @Setup
+    public void setUp() throws CloneNotSupportedException {
+        left = new Config();
+        right = left.clone();
+        right.d0 = 0.5;
+        right.s7 = "changed";
+    }
+}
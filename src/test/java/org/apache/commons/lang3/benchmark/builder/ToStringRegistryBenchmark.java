@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ReflectionToStringBuilder#toString(Object)}, which registers each object it visits in the {@link ToStringStyle} registry, from
+ * concurrent tasks that each run on a new virtual thread.
+ * <p>
+ * Each task starts with an empty per-thread registry, as with one virtual thread per request. Virtual threads need Java 21; on older runtimes the
+ * tasks share a pool of platform threads, one per processor.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ToStringRegistryBenchmark {
+
+    /**
+     * A flat data transfer object.
+     */
+    public static class Dto {
+
+        private final int id = 1;
+        private final String name = "alice";
+        private final double amount = 12.5;
+        private final int[] scores = { 1, 2, 3 };
+    }
+
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /**
+     * The number of concurrent tasks.
+     */
+    @Param({ "1", "1000" })
+    public int tasks;
+
+    private final Dto dto = new Dto();
+
+    private ExecutorService executor;
+
+    private List<Callable<Integer>> work;
+
+    /**
+     * Runs {@link #tasks} tasks at once, each creating ten {@code toString}s.
+     *
+     * @return the total length.
+     * @throws InterruptedException if interrupted.
+     * @throws ExecutionException if a task fails.
+     */
+    @Benchmark
+    public int reflectionToString() throws InterruptedException, ExecutionException {
+        int length = 0;
+        for (final Future<Integer> future : executor.invokeAll(work)) {
+            length += future.get();
+        }
+        return length;
+    }
+
+    @Setup
+    public void setUp() {
+        executor = newExecutor();
+        work = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            work.add(() -> {
+                int length = 0;
+                for (int j = 0; j < 10; j++) {
+                    length += ReflectionToStringBuilder.toString(dto).length();
+                }
+                return length;
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.strings;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+import org.apache.commons.lang3.CharMatcher;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks validating a batch of short ASCII identifiers with {@link StringUtils} predicates and {@link CharMatcher}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CharMatcherBenchmark {
+
+    private static final CharMatcher IDENTIFIER = CharMatcher.LETTER_OR_DIGIT.or(CharMatcher.anyOf("_-"));
+
+    private static final IntPredicate IDENTIFIER_PREDICATE = ch -> Character.isLetterOrDigit(ch) || ch == '_' || ch == '-';
+
+    private static final char[] SEPARATORS = "!@#$%^&*".toCharArray();
+
+    private String[] identifiers;
+
+    /**
+     * Baseline: a search over all separators for each character.
+     */
+    @Benchmark
+    public int containsAny() {
+        int count = 0;
+        for (final String identifier : identifiers) {
+            if (StringUtils.containsAny(identifier, SEPARATORS)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int identifierMatcher() {
+        int count = 0;
+        for (final String identifier : identifiers) {
+            if (IDENTIFIER.matchesAll(identifier)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Baseline: the same class as a composed predicate.
+     */
+    @Benchmark
+    public int identifierPredicate() {
+        int count = 0;
+        for (final String identifier : identifiers) {
+            if (identifier.chars().allMatch(IDENTIFIER_PREDICATE)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isAlphanumeric() {
+        int count = 0;
+        for (final String identifier : identifiers) {
+            if (StringUtils.isAlphanumeric(identifier)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int letterOrDigitMatcher() {
+        int count = 0;
+        for (final String identifier : identifiers) {
+            if (CharMatcher.LETTER_OR_DIGIT.matchesAll(identifier)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_-";
+        identifiers = new String[1000];
+        for (int i = 0; i < identifiers.length; i++) {
+            final char[] chars = new char[8 + random.nextInt(16)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            identifiers[i] = new String(chars);
+        }
+    }
+}
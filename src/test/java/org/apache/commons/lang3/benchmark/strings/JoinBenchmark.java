@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.strings;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.AppendableJoiner;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks joining numbers and Strings with {@link StringUtils#join(int[], char)}, {@link StringUtils#join(Object[], String)} and
+ * {@link AppendableJoiner}, the way a CSV or log line is assembled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JoinBenchmark {
+
+    private static final AppendableJoiner<Object> JOINER = AppendableJoiner.builder().setDelimiter(",").get();
+
+    /**
+     * The number of fields in the joined record.
+     */
+    @Param({ "10", "100", "1000" })
+    private int fields;
+
+    private int[] ints;
+    private String[] strings;
+    private StringBuilder line;
+
+    /**
+     * Baseline: boxes the numbers through a stream.
+     */
+    @Benchmark
+    public String intsStream() {
+        return Arrays.stream(ints).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @Benchmark
+    public StringBuilder joinerInts() {
+        line.setLength(0);
+        return JOINER.join(line, ints);
+    }
+
+    @Benchmark
+    public String joinInts() {
+        return StringUtils.join(ints, ',');
+    }
+
+    @Benchmark
+    public String joinStrings() {
+        return StringUtils.join(strings, ",");
+    }
+
+    /**
+     * Baseline: {@link String#join(CharSequence, CharSequence...)}.
+     */
+    @Benchmark
+    public String stringJoin() {
+        return String.join(",", strings);
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(1);
+        ints = random.ints(fields).toArray();
+        strings = Arrays.stream(ints).mapToObj(Integer::toHexString).toArray(String[]::new);
+        line = new StringBuilder();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.strings;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.StringReplacer;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link StringReplacer#replace(String)} with {@link StringUtils#replaceEach(String, String[], String[])} for growing search lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringReplacerBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int patterns;
+
+    private String[] searchList;
+    private String[] replacementList;
+    private StringReplacer replacer;
+    private String text;
+
+    @Benchmark
+    public String replaceEach() {
+        return StringUtils.replaceEach(text, searchList, replacementList);
+    }
+
+    @Benchmark
+    public String stringReplacer() {
+        return replacer.replace(text);
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        searchList = new String[patterns];
+        replacementList = new String[patterns];
+        for (int i = 0; i < patterns; i++) {
+            searchList[i] = "secret" + i + "=";
+            replacementList[i] = "secret" + i + "=***";
+        }
+        replacer = StringReplacer.of(searchList, replacementList);
+        // A log-like line of about 4 KiB with a few sensitive keys
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < 4096) {
+            builder.append(RandomStringUtils.insecure().nextAlphabetic(20)).append(' ');
+            if (random.nextInt(10) == 0) {
+                builder.append(searchList[random.nextInt(patterns)]).append("value ");
+            }
+        }
+        text = builder.toString();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.commons.lang3.benchmark.strings;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.SplitIterator;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hottest {@link StringUtils} methods: split, join, replace and isBlank, and the lazy {@link SplitIterator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringUtilsBenchmark {
+
+    /**
+     * The number of fields in the delimited record.
+     */
+    @Param({ "10", "100" })
+    private int fields;
+
+    private String record;
+    private String[] tokens;
+    private String blank;
+    private String notBlank;
+
+    @Benchmark
+    public boolean isBlankFalse() {
+        return StringUtils.isBlank(notBlank);
+    }
+
+    @Benchmark
+    public boolean isBlankTrue() {
+        return StringUtils.isBlank(blank);
+    }
+
+    @Benchmark
+    public String joinArray() {
+        return StringUtils.join(tokens, ',');
+    }
+
+    @Benchmark
+    public String joinArrayString() {
+        return StringUtils.join(tokens, ", ");
+    }
+
+    @Benchmark
+    public String replace() {
+        return StringUtils.replace(record, ",", ";");
+    }
+
+    @Benchmark
+    public String replaceNoMatch() {
+        return StringUtils.replace(record, "#", ";");
+    }
+
+    @Setup
+    public void setUp() {
+        tokens = new String[fields];
+        for (int i = 0; i < fields; i++) {
+            tokens[i] = "field" + i;
+        }
+        record = String.join(",", tokens);
+        blank = StringUtils.repeat(' ', 32);
+        notBlank = StringUtils.repeat(' ', 31) + 'x';
+    }
+
+    @Benchmark
+    public String[] split() {
+        return StringUtils.split(record, ',');
+    }
+
+    /**
+     * Sums the token lengths from offsets, without creating a token.
+     */
+    @Benchmark
+    public int splitAdvance() {
+        final SplitIterator it = SplitIterator.split(record, ",", -1);
+        int sum = 0;
+        while (it.advance()) {
+            sum += it.end() - it.start();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String[] splitByWholeSeparator() {
+        return StringUtils.splitByWholeSeparator(record, "d1");
+    }
+
+    /**
+     * Gets the first token lazily, where {@link #split()} splits the whole record.
+     */
+    @Benchmark
+    public CharSequence splitFirst() {
+        return SplitIterator.split(record, ",", -1).next();
+    }
+
+    @Benchmark
+    public String[] splitPreserveAllTokens() {
+        return StringUtils.splitPreserveAllTokens(record, ',');
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.commons.lang3.benchmark.text;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link StringEscapeUtils} escape and unescape methods on a mixed-content input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Deprecated
+public class EscapersBenchmark {
+
+    private String input;
+    private String html;
+    private String java;
+
+    @Benchmark
+    public String escapeEcmaScript() {
+        return StringEscapeUtils.escapeEcmaScript(input);
+    }
+
+    @Benchmark
+    public String escapeHtml4() {
+        return StringEscapeUtils.escapeHtml4(input);
+    }
+
+    @Benchmark
+    public String escapeJava() {
+        return StringEscapeUtils.escapeJava(input);
+    }
+
+    @Benchmark
+    public String escapeJson() {
+        return StringEscapeUtils.escapeJson(input);
+    }
+
+    @Benchmark
+    public String escapeXml10() {
+        return StringEscapeUtils.escapeXml10(input);
+    }
+
+    @Setup
+    public void setUp() {
+        input = StringUtils.repeat("Tom & Jerry say \"<hello>\" to caf\u00e9 owners\t/ 100% of the time\n", 16);
+        html = StringEscapeUtils.escapeHtml4(input);
+        java = StringEscapeUtils.escapeJava(input);
+    }
+
+    @Benchmark
+    public String unescapeHtml4() {
+        return StringEscapeUtils.unescapeHtml4(html);
+    }
+
+    @Benchmark
+    public String unescapeJava() {
+        return StringEscapeUtils.unescapeJava(java);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.text;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.text.translate.AggregateTranslator;
+import org.apache.commons.lang3.text.translate.CharSequenceTranslator;
+import org.apache.commons.lang3.text.translate.EntityArrays;
+import org.apache.commons.lang3.text.translate.LookupTranslator;
+import org.apache.commons.lang3.text.translate.NumericEntityUnescaper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the trie-based {@link LookupTranslator} with the previous HashMap-based implementation when escaping and unescaping a large HTML document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Deprecated
+public class LookupTranslatorBenchmark {
+
+    /**
+     * The HashMap-based implementation before the trie.
+     */
+    static final class HashMapLookupTranslator extends CharSequenceTranslator {
+
+        private final HashMap<String, String> lookupMap = new HashMap<>();
+        private final HashSet<Character> prefixSet = new HashSet<>();
+        private final int shortest;
+        private final int longest;
+
+        HashMapLookupTranslator(final CharSequence[]... lookup) {
+            int tmpShortest = Integer.MAX_VALUE;
+            int tmpLongest = 0;
+            for (final CharSequence[] seq : lookup) {
+                lookupMap.put(seq[0].toString(), seq[1].toString());
+                prefixSet.add(seq[0].charAt(0));
+                tmpShortest = Math.min(tmpShortest, seq[0].length());
+                tmpLongest = Math.max(tmpLongest, seq[0].length());
+            }
+            shortest = tmpShortest;
+            longest = tmpLongest;
+        }
+
+        @Override
+        public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+            if (prefixSet.contains(input.charAt(index))) {
+                final int max = Math.min(longest, input.length() - index);
+                for (int i = max; i >= shortest; i--) {
+                    final String result = lookupMap.get(input.subSequence(index, index + i).toString());
+                    if (result != null) {
+                        out.write(result);
+                        return i;
+                    }
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static final CharSequenceTranslator OLD_ESCAPE_HTML4 = new AggregateTranslator(
+            new HashMapLookupTranslator(EntityArrays.BASIC_ESCAPE()),
+            new HashMapLookupTranslator(EntityArrays.ISO8859_1_ESCAPE()),
+            new HashMapLookupTranslator(EntityArrays.HTML40_EXTENDED_ESCAPE()));
+
+    private static final CharSequenceTranslator OLD_UNESCAPE_HTML4 = new AggregateTranslator(
+            new HashMapLookupTranslator(EntityArrays.BASIC_UNESCAPE()),
+            new HashMapLookupTranslator(EntityArrays.ISO8859_1_UNESCAPE()),
+            new HashMapLookupTranslator(EntityArrays.HTML40_EXTENDED_UNESCAPE()),
+            new NumericEntityUnescaper());
+
+    private String html;
+    private String escapedHtml;
+
+    @Benchmark
+    public String escapeHtml4HashMap() {
+        return OLD_ESCAPE_HTML4.translate(html);
+    }
+
+    @Benchmark
+    public String escapeHtml4Trie() {
+        return StringEscapeUtils.escapeHtml4(html);
+    }
+
+    @Setup
+    public void setUp() {
+        // About 1 MiB of markup and text with the occasional accented character
+        final StringBuilder builder = new StringBuilder();
+        int i = 0;
+        while (builder.length() < 1 << 20) {
+            builder.append("<div class=\"row\"><p>Caf\u00e9 &amp; cr\u00e8me br\u00fbl\u00e9e for row ").append(i++)
+                    .append(" costs \u20ac5 \u2014 \"special\" offer</p></div>\n");
+        }
+        html = builder.toString();
+        escapedHtml = StringEscapeUtils.escapeHtml4(html);
+    }
+
+    @Benchmark
+    public String unescapeHtml4HashMap() {
+        return OLD_UNESCAPE_HTML4.translate(escapedHtml);
+    }
+
+    @Benchmark
+    public String unescapeHtml4Trie() {
+        return StringEscapeUtils.unescapeHtml4(escapedHtml);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.benchmark.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.text.translate.AggregateTranslator;
+import org.apache.commons.lang3.text.translate.CharSequenceTranslator;
+import org.apache.commons.lang3.text.translate.EntityArrays;
+import org.apache.commons.lang3.text.translate.JavaUnicodeEscaper;
+import org.apache.commons.lang3.text.translate.LookupTranslator;
+import org.apache.commons.lang3.text.translate.NumericEntityEscaper;
+import org.apache.commons.lang3.text.translate.UnicodeUnpairedSurrogateRemover;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scan-first escapers of {@link StringEscapeUtils} with plain {@link AggregateTranslator}s on clean and dirty input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Deprecated
+public class StringEscapeUtilsBenchmark {
+
+    private static final CharSequenceTranslator AGGREGATE_ESCAPE_JSON = new AggregateTranslator(
+            new LookupTranslator(new String[][] { { "\"", "\\\"" }, { "\\", "\\\\" }, { "/", "\\/" } }),
+            new LookupTranslator(EntityArrays.JAVA_CTRL_CHARS_ESCAPE()),
+            JavaUnicodeEscaper.outsideOf(32, 0x7f));
+
+    private static final CharSequenceTranslator AGGREGATE_ESCAPE_XML10 = new AggregateTranslator(
+            new LookupTranslator(EntityArrays.BASIC_ESCAPE()),
+            new LookupTranslator(EntityArrays.APOS_ESCAPE()),
+            new LookupTranslator(xml10Removals()),
+            NumericEntityEscaper.between(0x7f, 0x84),
+            NumericEntityEscaper.between(0x86, 0x9f),
+            new UnicodeUnpairedSurrogateRemover());
+
+    private static String[][] xml10Removals() {
+        final List<String[]> removals = new ArrayList<>();
+        for (char ch = 0; ch < 0x20; ch++) {
+            if (ch != '\t' && ch != '\n' && ch != '\r') {
+                removals.add(new String[] { String.valueOf(ch), StringUtils.EMPTY });
+            }
+        }
+        removals.add(new String[] { "\ufffe", StringUtils.EMPTY });
+        removals.add(new String[] { "\uffff", StringUtils.EMPTY });
+        return removals.toArray(new String[0][]);
+    }
+
+    /**
+     * Whether the input contains characters to escape.
+     */
+    @Param({ "clean", "dirty" })
+    private String kind;
+
+    private String input;
+
+    @Benchmark
+    public String escapeCsvAggregate() {
+        return StringEscapeUtils.ESCAPE_CSV.translate(input);
+    }
+
+    @Benchmark
+    public String escapeCsvScanFirst() {
+        return StringEscapeUtils.escapeCsv(input);
+    }
+
+    @Benchmark
+    public String escapeJsonAggregate() {
+        return AGGREGATE_ESCAPE_JSON.translate(input);
+    }
+
+    @Benchmark
+    public String escapeJsonScanFirst() {
+        return StringEscapeUtils.escapeJson(input);
+    }
+
+    @Benchmark
+    public String escapeXml10Aggregate() {
+        return AGGREGATE_ESCAPE_XML10.translate(input);
+    }
+
+    @Benchmark
+    public String escapeXml10ScanFirst() {
+        return StringEscapeUtils.escapeXml10(input);
+    }
+
+    @Setup
+    public void setUp() {
+        final String clean = StringUtils.repeat("The quick brown fox jumps over the lazy dog 0123456789 ", 20);
+        input = "clean".equals(kind) ? clean : clean + "\"quoted\", <tag> & a/b\n";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.commons.lang3.benchmark.time;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FastDateFormat} formatting and parsing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FastDateFormatBenchmark {
+
+    @Param({ "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "EEE, dd MMM yyyy HH:mm:ss z" })
+    private String pattern;
+
+    private FastDateFormat format;
+    private long millis;
+    private String text;
+    private final StringBuilder builder = new StringBuilder(64);
+    private final char[] chars = new char[64];
+
+    /**
+     * Baseline: what {@code format(long)} did before the epoch millisecond path, a new Calendar per call.
+     */
+    @Benchmark
+    public String formatCalendar() {
+        final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+        calendar.setTimeInMillis(millis);
+        return format.format(calendar);
+    }
+
+    @Benchmark
+    public int formatCharArray() {
+        return format.format(millis, chars, 0);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return format.format(new Date(millis));
+    }
+
+    @Benchmark
+    public String formatMillis() {
+        return format.format(millis);
+    }
+
+    @Benchmark
+    public StringBuilder formatStringBuilder() {
+        builder.setLength(0);
+        return format.format(millis, builder);
+    }
+
+    /**
+     * A cache hit in the bounded instance cache.
+     */
+    @Benchmark
+    public FastDateFormat getInstance() {
+        return FastDateFormat.getInstance(pattern, format.getTimeZone(), format.getLocale());
+    }
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return format.parse(text);
+    }
+
+    /**
+     * Baseline: what {@code parse(String)} does for patterns the epoch millisecond path does not cover, a regular expression
+     * per field and a new Calendar per call.
+     */
+    @Benchmark
+    public Date parseCalendar() {
+        final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+        calendar.clear();
+        return format.parse(text, new ParsePosition(0), calendar) ? calendar.getTime() : null;
+    }
+
+    @Setup
+    public void setUp() {
+        format = FastDateFormat.getInstance(pattern, TimeZone.getTimeZone("America/New_York"), Locale.US);
+        millis = 1_700_000_000_123L;
+        text = format.format(millis);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.benchmark.time;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.apache.commons.lang3.time.FastDateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FastDateParser} from 1 to 64 threads: parsing a text pattern with a shared parser, and creating parsers, which looks up the shared
+ * per-field strategy caches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FastDateParserConcurrencyBenchmark {
+
+    private static final String PATTERN = "EEE, dd MMM yyyy HH:mm:ss z";
+
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("America/New_York");
+
+    private FastDateFormat format;
+    private String text;
+
+    private FastDateParser newParser() {
+        return new FastDateParser(PATTERN, TIME_ZONE, Locale.US) {
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public FastDateParser newParser01() {
+        return newParser();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public FastDateParser newParser04() {
+        return newParser();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public FastDateParser newParser16() {
+        return newParser();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public FastDateParser newParser64() {
+        return newParser();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Date parse01() throws ParseException {
+        return format.parse(text);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Date parse04() throws ParseException {
+        return format.parse(text);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Date parse16() throws ParseException {
+        return format.parse(text);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Date parse64() throws ParseException {
+        return format.parse(text);
+    }
+
+    @Setup
+    public void setUp() {
+        format = FastDateFormat.getInstance(PATTERN, TIME_ZONE, Locale.US);
+        text = format.format(1_700_000_000_000L);
+    }
+}
@@ -24,6 +24,7 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.AbstractLangTest;
@@ -250,6 +251,34 @@ void testDiffResult() {
         assertEquals("prop1.int", list.getDiffs().get(0).getFieldName());
     }
 
+    @Test
+    void testDiffConsumer() {
+        final TypeTestClass class1 = new TypeTestClass();
+        final TypeTestClass class2 = new TypeTestClass();
+        class2.intField = 2;
+        class2.longField = 3L;
+        final List<Diff<?>> found = new ArrayList<>();
+        final DiffBuilder<TypeTestClass> builder = DiffBuilder.<TypeTestClass>builder().setLeft(class1).setRight(class2).setDiffConsumer(found::add).build();
+        builder.append("int", class1.intField, class2.intField);
+        assertEquals(1, found.size());
+        assertEquals("int", found.get(0).getFieldName());
+        assertEquals(Integer.valueOf(1), found.get(0).getLeft());
+        assertEquals(Integer.valueOf(2), found.get(0).getRight());
+        builder.append("long", class1.longField, class2.longField).append("short", class1.shortField, class2.shortField);
+        assertEquals(2, found.size());
+        assertEquals("long", found.get(1).getFieldName());
+        // consumed diffs are not kept
+        assertEquals(0, builder.build().getNumberOfDiffs());
+        // equal objects
+        found.clear();
+        DiffBuilder.<TypeTestClass>builder().setLeft(class1).setRight(class1).setDiffConsumer(found::add).build().append("int", 1, 2).build();
+        assertTrue(found.isEmpty());
+        // null collects
+        final DiffResult<TypeTestClass> list = DiffBuilder.<TypeTestClass>builder().setLeft(class1).setRight(class2).setDiffConsumer(null).build()
+                .append("int", class1.intField, class2.intField).build();
+        assertEquals(1, list.getNumberOfDiffs());
+    }
+
     @Test
     void testDiffResultEquals() {
         final TypeTestClass class1 = new TypeTestClass();
@@ -356,6 +385,42 @@ void testLongArray() {
         assertArrayEquals(ArrayUtils.toObject(class2.longArrayField), (Object[]) diff.getRight());
     }
 
+    @Test
+    void testMaxDiffs() {
+        final TypeTestClass class1 = new TypeTestClass();
+        final TypeTestClass class2 = new TypeTestClass();
+        class2.booleanField = false;
+        class2.intField = 2;
+        class2.objectField = "x";
+        assertEquals(3, class1.diff(class2).getNumberOfDiffs());
+        for (int maxDiffs = 0; maxDiffs <= 4; maxDiffs++) {
+            final DiffResult<TypeTestClass> list = DiffBuilder.<TypeTestClass>builder().setLeft(class1).setRight(class2).setMaxDiffs(maxDiffs).build()
+                    .append("boolean", class1.booleanField, class2.booleanField)
+                    .append("int", class1.intField, class2.intField)
+                    .append("objectField", class1.objectField, class2.objectField)
+                    .build();
+            assertEquals(Math.min(maxDiffs, 3), list.getNumberOfDiffs());
+            if (maxDiffs > 0) {
+                assertEquals("boolean", list.getDiffs().get(0).getFieldName());
+            }
+        }
+        // nested results count diff by diff
+        final DiffResult<TypeTestClass> nested = DiffBuilder.<TypeTestClass>builder().setLeft(class1).setRight(class2).setMaxDiffs(2).build()
+                .append("prop1", class1.diff(class2))
+                .append("int", class1.intField, class2.intField)
+                .build();
+        assertEquals(2, nested.getNumberOfDiffs());
+        assertEquals("prop1.boolean", nested.getDiffs().get(0).getFieldName());
+        assertEquals("prop1.int", nested.getDiffs().get(1).getFieldName());
+        // with a consumer
+        final List<Diff<?>> found = new ArrayList<>();
+        DiffBuilder.<TypeTestClass>builder().setLeft(class1).setRight(class2).setDiffConsumer(found::add).setMaxDiffs(1).build()
+                .append("int", class1.intField, class2.intField)
+                .append("objectField", class1.objectField, class2.objectField);
+        assertEquals(1, found.size());
+        assertThrows(IllegalArgumentException.class, () -> DiffBuilder.builder().setMaxDiffs(-1));
+    }
+
     @Test
     void testNestedDiffableNo() {
         final TypeTestClass class1 = new TypeTestClass();
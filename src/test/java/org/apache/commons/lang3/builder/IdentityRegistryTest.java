@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link IdentityRegistry}.
+ */
+class IdentityRegistryTest extends AbstractLangTest {
+
+    /**
+     * Equal to all other instances, with the same hash code, to check that keys are compared by identity.
+     */
+    private static final class Same {
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Same;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    /**
+     * Runs the garbage collector until the given references are cleared.
+     *
+     * @param references the references to wait for.
+     * @throws InterruptedException if interrupted.
+     */
+    static void awaitCleared(final List<? extends WeakReference<?>> references) throws InterruptedException {
+        for (int i = 0; i < 100 && references.stream().anyMatch(ref -> ref.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        references.forEach(ref -> assertEquals(null, ref.get()));
+    }
+
+    private static List<Object> newKeys(final int count) {
+        final List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            keys.add(new Same());
+        }
+        return keys;
+    }
+
+    @Test
+    void testIdentity() {
+        final IdentityRegistry registry = new IdentityRegistry(1);
+        final Same same = new Same();
+        registry.register(same, null);
+        assertTrue(registry.contains(same, null));
+        assertFalse(registry.contains(new Same(), null));
+        registry.unregister(new Same(), null);
+        assertEquals(1, registry.size());
+        registry.unregister(same, null);
+        assertTrue(registry.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 8, 9, 100, 1_000 })
+    void testNested(final int depth) {
+        final IdentityRegistry registry = new IdentityRegistry(1);
+        final List<Object> keys = newKeys(depth);
+        for (int i = 0; i < depth; i++) {
+            assertFalse(registry.contains(keys.get(i), null));
+            registry.register(keys.get(i), null);
+            assertEquals(i + 1, registry.size());
+        }
+        for (final Object key : keys) {
+            assertTrue(registry.contains(key, null));
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            registry.unregister(keys.get(i), null);
+            assertFalse(registry.contains(keys.get(i), null));
+            for (int j = 0; j < i; j++) {
+                assertTrue(registry.contains(keys.get(j), null));
+            }
+        }
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    void testNullKey() {
+        assertThrows(NullPointerException.class, () -> new IdentityRegistry(1).register(null, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2 })
+    void testOutOfOrder(final int arity) {
+        assertOutOfOrder(new IdentityRegistry(arity));
+    }
+
+    private void assertOutOfOrder(final IdentityRegistry registry) {
+        final Random random = new Random(22);
+        for (final int count : new int[] { 5, 8, 50, 300 }) {
+            final List<Object> keys = newKeys(count);
+            final List<Object> others = newKeys(count);
+            for (int i = 0; i < count; i++) {
+                registry.register(keys.get(i), others.get(i));
+            }
+            final List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                order.add(i);
+            }
+            Collections.shuffle(order, random);
+            for (int n = 0; n < count; n++) {
+                final int i = order.get(n);
+                registry.unregister(keys.get(i), others.get(i));
+                assertEquals(count - n - 1, registry.size());
+                for (int m = 0; m < count; m++) {
+                    assertEquals(order.indexOf(m) > n, registry.contains(keys.get(m), others.get(m)));
+                }
+            }
+            assertTrue(registry.isEmpty());
+        }
+    }
+
+    @Test
+    void testOutOfOrderWeak() {
+        assertOutOfOrder(new IdentityRegistry(1, true));
+    }
+
+    @Test
+    void testPairs() {
+        final IdentityRegistry registry = new IdentityRegistry(2);
+        final Object a = new Same();
+        final Object b = new Same();
+        registry.register(a, b);
+        assertTrue(registry.contains(a, b));
+        assertFalse(registry.contains(b, a));
+        assertFalse(registry.contains(a, a));
+        registry.register(a, a);
+        assertTrue(registry.contains(a, a));
+        registry.unregister(a, a);
+        registry.unregister(a, b);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    void testToMap() {
+        final IdentityRegistry registry = new IdentityRegistry(1);
+        assertTrue(registry.toMap().isEmpty());
+        final List<Object> keys = newKeys(20);
+        keys.forEach(key -> registry.register(key, null));
+        final Map<Object, Object> map = registry.toMap();
+        assertEquals(20, map.size());
+        keys.forEach(key -> assertTrue(map.containsKey(key)));
+        Collections.reverse(keys);
+        keys.forEach(key -> registry.unregister(key, null));
+        assertTrue(registry.toMap().isEmpty());
+    }
+
+    @Test
+    void testThreads() throws InterruptedException {
+        final IdentityRegistry registry = new IdentityRegistry(1);
+        final Object key = new Object();
+        registry.register(key, null);
+        final boolean[] seen = new boolean[1];
+        final Thread thread = new Thread(() -> seen[0] = registry.contains(key, null));
+        thread.start();
+        thread.join();
+        assertFalse(seen[0]);
+        registry.unregister(key, null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 8, 9, 100 })
+    void testWeak(final int count) throws InterruptedException {
+        final IdentityRegistry registry = new IdentityRegistry(1, true);
+        final List<Object> keys = newKeys(count);
+        final List<WeakReference<Object>> abandoned = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // registered and never unregistered, like the object of an abandoned ToStringBuilder
+            final Object key = new Same();
+            registry.register(key, null);
+            abandoned.add(new WeakReference<>(key));
+            registry.register(keys.get(i), null);
+        }
+        awaitCleared(abandoned);
+        assertEquals(count, registry.size());
+        assertEquals(count, registry.toMap().size());
+        // room is made by dropping cleared keys
+        final List<Object> more = newKeys(count);
+        more.forEach(key -> registry.register(key, null));
+        assertEquals(2 * count, registry.size());
+        keys.addAll(more);
+        for (int i = 0; i < keys.size(); i += 2) {
+            registry.unregister(keys.get(i), null);
+        }
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            assertEquals(i % 2 == 1, registry.contains(keys.get(i), null));
+            registry.unregister(keys.get(i), null);
+        }
+        assertTrue(registry.isEmpty());
+        assertTrue(registry.toMap().isEmpty());
+    }
+}
@@ -59,6 +59,18 @@ static class Person {
         Job job;
     }
 
+    /**
+     * A recursive style that stops rendering at a maximum length.
+     */
+    static class LimitedRecursiveToStringStyle extends RecursiveToStringStyle {
+
+        private static final long serialVersionUID = 1L;
+
+        LimitedRecursiveToStringStyle(final int maxLength) {
+            setMaxLength(maxLength);
+        }
+    }
+
     private final Integer base = Integer.valueOf(5);
 
     private final String baseStr = base.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(base));
@@ -160,4 +172,19 @@ void testPerson() {
                      new ReflectionToStringBuilder(p, new RecursiveToStringStyle()).toString());
     }
 
+    @Test
+    void testPersonMaxLength() {
+        final Person p = new Person();
+        p.name = "John Doe";
+        p.age = 33;
+        p.job = new Job();
+        p.job.title = "Manager";
+        final String baseStr = p.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(p));
+        final String jobStr  = p.job.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(p.job));
+        assertEquals(baseStr + "[age=33,job=" + jobStr + "[title=Manager],name=John Doe,smoker=false]",
+                     new ReflectionToStringBuilder(p, new LimitedRecursiveToStringStyle(baseStr.length() + 16)).toString());
+        assertEquals(baseStr + "[age=33,job=<RecursiveToStringStyleTest.Job>,name=John Doe,smoker=false]",
+                     new ReflectionToStringBuilder(p, new LimitedRecursiveToStringStyle(baseStr.length())).toString());
+    }
+
 }
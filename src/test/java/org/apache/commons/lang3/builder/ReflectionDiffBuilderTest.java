@@ -21,6 +21,8 @@
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,21 @@
 // */
 class ReflectionDiffBuilderTest extends AbstractLangTest {
 
+    /**
+     * Test fixture with equals not overridden, so that equal instances are diffed field by field.
+     */
+    private static final class PrimitiveTestClass {
+        boolean booleanField;
+        byte byteField;
+        char charField;
+        double doubleField;
+        float floatField;
+        int intField;
+        long longField;
+        short shortField;
+        String stringField;
+    }
+
     @SuppressWarnings("unused")
     private static final class TypeTestChildClass extends TypeTestClass {
         String field = "a";
@@ -146,6 +163,26 @@ void testDifferenceInInherited_field() {
         assertEquals(1, list.getNumberOfDiffs());
     }
 
+    @Test
+    void testDiffConsumer() {
+        final TypeTestChildClass firstObject = new TypeTestChildClass();
+        firstObject.field = "b";
+        firstObject.intField = 99;
+        ((TypeTestClass) firstObject).bigInteger = BigInteger.valueOf(100);
+        final TypeTestChildClass secondObject = new TypeTestChildClass();
+        final List<String> fieldNames = new ArrayList<>();
+        final DiffResult<TypeTestClass> list = ReflectionDiffBuilder.<TypeTestClass>builder()
+                .setDiffBuilder(DiffBuilder.<TypeTestClass>builder().setLeft(firstObject).setRight(secondObject)
+                        .setDiffConsumer(diff -> fieldNames.add(diff.getFieldName())).build())
+                .build()
+                .build();
+        assertEquals(0, list.getNumberOfDiffs());
+        // subclass fields first
+        assertEquals(3, fieldNames.size());
+        assertEquals("field", fieldNames.get(0));
+        assertEquals(firstObject.diff(secondObject).getNumberOfDiffs(), fieldNames.size());
+    }
+
     @Test
     void testGetExcludeFieldNamesWithNullExcludedFieldNames() {
         // @formatter:off
@@ -209,6 +246,31 @@ void testGetExcludeFieldNamesWithNullValuesInExcludedFieldNamesCtor() {
         assertNotNull(reflectionDiffBuilder.build());
     }
 
+    @Test
+    void testMaxDiffs() {
+        final TypeTestChildClass firstObject = new TypeTestChildClass();
+        firstObject.field = "b";
+        firstObject.intField = 99;
+        ((TypeTestClass) firstObject).bigInteger = BigInteger.valueOf(100);
+        final TypeTestChildClass secondObject = new TypeTestChildClass();
+        assertEquals(3, firstObject.diff(secondObject).getNumberOfDiffs());
+        for (int maxDiffs = 0; maxDiffs <= 4; maxDiffs++) {
+            final DiffResult<TypeTestClass> list = ReflectionDiffBuilder.<TypeTestClass>builder()
+                    .setDiffBuilder(DiffBuilder.<TypeTestClass>builder().setLeft(firstObject).setRight(secondObject).setMaxDiffs(maxDiffs).build())
+                    .setExcludeFieldNames("excludedField")
+                    .build()
+                    .build();
+            assertEquals(Math.min(maxDiffs, 3), list.getNumberOfDiffs());
+        }
+        final DiffResult<TypeTestClass> list = ReflectionDiffBuilder.<TypeTestClass>builder()
+                .setDiffBuilder(DiffBuilder.<TypeTestClass>builder().setLeft(firstObject).setRight(secondObject).setMaxDiffs(1).build())
+                .setExcludeFieldNames("field")
+                .build()
+                .build();
+        assertEquals(1, list.getNumberOfDiffs());
+        assertEquals("intField", list.getDiffs().get(0).getFieldName());
+    }
+
     @Test
     void testNoDifferences() {
         final TypeTestClass firstObject = new TypeTestClass();
@@ -271,6 +333,35 @@ void testNoDifferencesInheritance() {
         assertEquals(0, list.getNumberOfDiffs());
     }
 
+    @Test
+    void testPrimitiveFields() {
+        final PrimitiveTestClass firstObject = new PrimitiveTestClass();
+        final PrimitiveTestClass secondObject = new PrimitiveTestClass();
+        firstObject.doubleField = secondObject.doubleField = Double.NaN;
+        firstObject.floatField = secondObject.floatField = Float.NaN;
+        firstObject.intField = secondObject.intField = 100_000;
+        firstObject.longField = secondObject.longField = Long.MIN_VALUE;
+        firstObject.stringField = "a";
+        secondObject.stringField = new String("a");
+        assertEquals(0, new ReflectionDiffBuilder<>(firstObject, secondObject, SHORT_STYLE).build().getNumberOfDiffs());
+        // like DiffBuilder.append(String, double, double)
+        secondObject.doubleField = -0.0;
+        firstObject.doubleField = 0.0;
+        secondObject.charField = 'b';
+        secondObject.byteField = -1;
+        secondObject.booleanField = true;
+        secondObject.shortField = Short.MAX_VALUE;
+        secondObject.floatField = 1.0f;
+        final DiffResult<PrimitiveTestClass> list = new ReflectionDiffBuilder<>(firstObject, secondObject, SHORT_STYLE).build();
+        assertEquals(6, list.getNumberOfDiffs());
+        assertEquals("booleanField", list.getDiffs().get(0).getFieldName());
+        assertEquals(Boolean.FALSE, list.getDiffs().get(0).getLeft());
+        assertEquals(Boolean.TRUE, list.getDiffs().get(0).getRight());
+        assertEquals("charField", list.getDiffs().get(2).getFieldName());
+        assertEquals(Character.valueOf('b'), list.getDiffs().get(2).getRight());
+        assertEquals(Double.valueOf(-0.0), list.getDiffs().get(3).getRight());
+    }
+
     @Test
     void testPrimitiveDifference() {
         final TypeTestClass firstObject = new TypeTestClass();
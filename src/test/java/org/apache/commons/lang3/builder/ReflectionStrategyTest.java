@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ReflectionStrategy}.
+ */
+class ReflectionStrategyTest extends AbstractLangTest {
+
+    static class AllTypes extends Base {
+        static int counter;
+        boolean z;
+        byte b;
+        char c;
+        short s;
+        int i;
+        long j;
+        float f;
+        double d;
+        String text;
+        int[] ints;
+        Object[] objects;
+        Integer boxed;
+        transient long cache;
+        @EqualsExclude
+        int notEqual;
+        @HashCodeExclude
+        int notHashed;
+    }
+
+    static class Base {
+        int baseId;
+        String baseName;
+        transient int baseCache;
+    }
+
+    static class Sub extends AllTypes {
+        int extra;
+    }
+
+    static class Thrower {
+        @Override
+        public boolean equals(final Object obj) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public int hashCode() {
+            throw new IllegalStateException();
+        }
+    }
+
+    static class Holder {
+        private Object value;
+
+        Holder(final Object value) {
+            this.value = value;
+        }
+    }
+
+    private final Random random = new Random(21);
+
+    private void assertMatches(final ReflectionStrategy<AllTypes> strategy, final AllTypes lhs, final AllTypes rhs, final boolean testTransients,
+            final Class<? super AllTypes> reflectUpToClass, final String... excludeFields) {
+        assertEquals(EqualsBuilder.reflectionEquals(lhs, rhs, testTransients, reflectUpToClass, excludeFields), strategy.isEqual(lhs, rhs));
+        assertEquals(HashCodeBuilder.reflectionHashCode(17, 37, lhs, testTransients, reflectUpToClass, excludeFields), strategy.hash(lhs));
+        if (lhs.getClass().isInstance(rhs)) {
+            assertEquals(CompareToBuilder.reflectionCompare(lhs, rhs, testTransients, reflectUpToClass, excludeFields), strategy.compare(lhs, rhs));
+        } else {
+            assertThrows(ClassCastException.class, () -> CompareToBuilder.reflectionCompare(lhs, rhs, testTransients, reflectUpToClass, excludeFields));
+            assertThrows(ClassCastException.class, () -> strategy.compare(lhs, rhs));
+        }
+    }
+
+    private void assertMatches(final boolean testTransients, final Class<? super AllTypes> reflectUpToClass, final String... excludeFields) {
+        final ReflectionStrategy<AllTypes> strategy = ReflectionStrategy.builder(AllTypes.class).setTestTransients(testTransients)
+                .setReflectUpToClass(reflectUpToClass).setExcludeFields(excludeFields).get();
+        for (int n = 0; n < 2_000; n++) {
+            final AllTypes lhs = random(new AllTypes());
+            final AllTypes rhs = random.nextBoolean() ? copy(lhs, new AllTypes()) : random(new AllTypes());
+            assertMatches(strategy, lhs, rhs, testTransients, reflectUpToClass, excludeFields);
+            assertMatches(strategy, lhs, lhs, testTransients, reflectUpToClass, excludeFields);
+        }
+    }
+
+    private <T extends AllTypes> T copy(final AllTypes from, final T to) {
+        to.baseId = from.baseId;
+        to.baseName = from.baseName;
+        to.baseCache = from.baseCache;
+        to.z = from.z;
+        to.b = from.b;
+        to.c = from.c;
+        to.s = from.s;
+        to.i = from.i;
+        to.j = from.j;
+        to.f = from.f;
+        to.d = from.d;
+        to.text = from.text;
+        to.ints = from.ints == null ? null : from.ints.clone();
+        to.objects = from.objects == null ? null : from.objects.clone();
+        to.boxed = from.boxed;
+        // the excluded fields may differ
+        to.cache = random.nextInt(2);
+        to.notEqual = random.nextInt(2);
+        to.notHashed = random.nextInt(2);
+        return to;
+    }
+
+    private <T extends AllTypes> T random(final T object) {
+        // few values per field, so that equal fields are common
+        object.baseId = random.nextInt(2);
+        object.baseName = pick("a", "b", null);
+        object.baseCache = random.nextInt(2);
+        object.z = random.nextBoolean();
+        object.b = pick(Byte.MIN_VALUE, (byte) 0, Byte.MAX_VALUE);
+        object.c = pick('a', 'z', Character.MAX_VALUE);
+        object.s = pick(Short.MIN_VALUE, (short) 1, Short.MAX_VALUE);
+        object.i = pick(Integer.MIN_VALUE, 0, Integer.MAX_VALUE);
+        object.j = pick(Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+        object.f = pick(Float.NaN, -0f, 0f, 1.5f);
+        object.d = pick(Double.NaN, -0d, 0d, 1.5d);
+        object.text = pick("x", "y", null);
+        object.ints = pick(new int[] { 1, 2 }, new int[] { 1, 3 }, new int[0], null);
+        object.objects = pick(new Object[] { "p", null }, new Object[] { "p", "q" }, null);
+        object.boxed = pick(1, 2, null);
+        object.cache = random.nextInt(2);
+        object.notEqual = random.nextInt(2);
+        object.notHashed = random.nextInt(2);
+        return object;
+    }
+
+    @SafeVarargs
+    private final <V> V pick(final V... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @Test
+    void testBuilder() {
+        assertThrows(NullPointerException.class, () -> ReflectionStrategy.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> ReflectionStrategy.builder(int[].class));
+        assertThrows(IllegalArgumentException.class, () -> ReflectionStrategy.of(int.class));
+    }
+
+    @Test
+    void testExceptionsPropagate() {
+        final ReflectionStrategy<Holder> strategy = ReflectionStrategy.of(Holder.class);
+        assertThrows(IllegalStateException.class, () -> strategy.isEqual(new Holder(new Thrower()), new Holder(new Thrower())));
+        assertThrows(IllegalStateException.class, () -> strategy.hash(new Holder(new Thrower())));
+        assertThrows(ClassCastException.class, () -> strategy.compare(new Holder(new Thrower()), new Holder(new Thrower())));
+    }
+
+    @Test
+    void testMatchesReflectionMethods() {
+        assertMatches(false, null);
+        assertMatches(true, null);
+        assertMatches(false, AllTypes.class);
+        assertMatches(true, Base.class);
+        assertMatches(false, null, "i", "text", "baseName");
+    }
+
+    @Test
+    void testNulls() {
+        final ReflectionStrategy<AllTypes> strategy = ReflectionStrategy.of(AllTypes.class);
+        final AllTypes object = new AllTypes();
+        assertTrue(strategy.isEqual(null, null));
+        assertFalse(strategy.isEqual(object, null));
+        assertFalse(strategy.isEqual(null, object));
+        assertEquals(0, strategy.compare(null, null));
+        assertThrows(NullPointerException.class, () -> strategy.compare(object, null));
+        assertThrows(NullPointerException.class, () -> strategy.compare(null, object));
+        assertThrows(NullPointerException.class, () -> strategy.hash(null));
+    }
+
+    @Test
+    void testSubclasses() {
+        final ReflectionStrategy<AllTypes> strategy = ReflectionStrategy.of(AllTypes.class);
+        for (int n = 0; n < 500; n++) {
+            final Sub sub = random(new Sub());
+            sub.extra = random.nextInt(2);
+            final AllTypes other = random.nextBoolean() ? copy(sub, new AllTypes()) : copy(sub, new Sub());
+            assertMatches(strategy, sub, other, false, null);
+            assertMatches(strategy, other, sub, false, null);
+        }
+    }
+}
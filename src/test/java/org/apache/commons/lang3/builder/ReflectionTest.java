@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Reflection}.
+ */
+class ReflectionTest extends AbstractLangTest {
+
+    static class Fields {
+        private int zulu = 1;
+        private String alpha = "a";
+        private transient long mike = 2;
+    }
+
+    @Test
+    void testGetDeclaredFields() {
+        final Field[] fields = Reflection.getDeclaredFields(Fields.class);
+        assertSame(fields, Reflection.getDeclaredFields(Fields.class));
+        assertEquals(new HashSet<>(Arrays.asList(Fields.class.getDeclaredFields())), new HashSet<>(Arrays.asList(fields)));
+        final Fields object = new Fields();
+        for (final Field field : fields) {
+            if (field.getName().equals("mike")) {
+                assertEquals(Long.valueOf(2), Reflection.getUnchecked(field, object));
+            }
+        }
+    }
+
+    @Test
+    void testGetSortedDeclaredFields() {
+        final Field[] fields = Reflection.getSortedDeclaredFields(Fields.class);
+        assertSame(fields, Reflection.getSortedDeclaredFields(Fields.class));
+        assertArrayEquals(new String[] {"alpha", "mike", "zulu"}, Arrays.stream(fields).map(Field::getName).filter(name -> !name.contains("$")).toArray());
+        assertEquals(Reflection.getDeclaredFields(Fields.class).length, fields.length);
+    }
+
+    @Test
+    void testGetUnchecked() {
+        assertThrows(NullPointerException.class, () -> Reflection.getUnchecked(null, new Fields()));
+    }
+}
@@ -18,10 +18,18 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.apache.commons.lang3.builder.ToStringStyleTest.Person;
@@ -196,6 +204,71 @@ void testMap() {
         assertEquals(baseStr + "[a={k=v}]", new ToStringBuilder(base).append("a", Collections.singletonMap("k", "v"), true).toString());
     }
 
+    @Test
+    void testMaxLength() {
+        final StandardToStringStyle style = new StandardToStringStyle();
+        style.setUseShortClassName(true);
+        style.setUseIdentityHashCode(false);
+        assertEquals(Integer.MAX_VALUE, style.getMaxLength());
+        assertEquals("...", style.getTruncatedText());
+        final int[] ints = IntStream.range(0, 1_000).toArray();
+        final List<Integer> list = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+        final Map<Integer, Integer> map = new LinkedHashMap<>();
+        list.forEach(i -> map.put(i, i));
+        // no limit
+        assertEquals("Integer[a=" + list + "]", new ToStringBuilder(base, style).append("a", list).toString());
+        assertEquals("Integer[a=" + map + "]", new ToStringBuilder(base, style).append("a", map).toString());
+        style.setMaxLength(20);
+        assertEquals(20, style.getMaxLength());
+        assertEquals("Integer[a={0,1,2,3,4,...}]", new ToStringBuilder(base, style).append("a", ints).toString());
+        assertEquals("Integer[a={0,1,2,3,4,...}]", new ToStringBuilder(base, style).append("a", list.toArray()).toString());
+        assertEquals("Integer[a={0,1,2,3,4,...}]", new ToStringBuilder(base, style).append("a", (Object) ints).toString());
+        assertEquals("Integer[a=[0, 1, 2, 3, ...]]", new ToStringBuilder(base, style).append("a", list).toString());
+        assertEquals("Integer[a={0=0, 1=1, 2=2, ...}]", new ToStringBuilder(base, style).append("a", map).toString());
+        assertEquals("Integer[a=[0, 1, 2, 3, ...],b=[0, ...]]", new ToStringBuilder(base, style).append("a", list).append("b", list).toString());
+        // collections in their toString() format below the limit
+        assertEquals("Integer[a=[0, 1],b={0=0}]",
+                new ToStringBuilder(base, style).append("a", list.subList(0, 2)).append("b", Collections.singletonMap(0, 0)).toString());
+        style.setTruncatedText(null);
+        assertEquals("", style.getTruncatedText());
+        assertEquals("Integer[a={0,1,2,3,4,}]", new ToStringBuilder(base, style).append("a", ints).toString());
+        style.setMaxLength(0);
+        style.setTruncatedText("<more>");
+        assertEquals("Integer[a={0,<more>}]", new ToStringBuilder(base, style).append("a", ints).toString());
+        assertEquals("Integer[a={}]", new ToStringBuilder(base, style).append("a", new int[0]).toString());
+        assertThrows(IllegalArgumentException.class, () -> style.setMaxLength(-1));
+    }
+
+    @Test
+    void testMaxLengthCustomToString() {
+        final StandardToStringStyle style = new StandardToStringStyle();
+        style.setUseShortClassName(true);
+        style.setUseIdentityHashCode(false);
+        final List<String> names = new ArrayList<String>(Arrays.asList("a", "b")) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public String toString() {
+                return "Named(" + size() + ")";
+            }
+        };
+        final Map<String, String> map = new HashMap<String, String>(Collections.singletonMap("k", "v")) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public String toString() {
+                return "Mapped(" + size() + ")";
+            }
+        };
+        final String expected = "Integer[a=Named(2),b=Mapped(1)]";
+        assertEquals(expected, new ToStringBuilder(base, style).append("a", names).append("b", map).toString());
+        style.setMaxLength(1_000);
+        assertEquals(expected, new ToStringBuilder(base, style).append("a", names).append("b", map).toString());
+        // the limit still applies to what follows
+        style.setMaxLength(10);
+        assertEquals("Integer[a=Named(2),b=[0, ...]]", new ToStringBuilder(base, style).append("a", names).append("b", Arrays.asList(0, 1)).toString());
+    }
+
     @Test
     void testObject() {
         final Integer i3 = Integer.valueOf(3);
@@ -20,7 +20,12 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +38,40 @@
  */
 class ToStringBuilderTest extends AbstractLangTest {
 
+    /**
+     * Equal to all other instances, to check that the registry uses identity.
+     */
+    static class EqualNode {
+        EqualNode next;
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof EqualNode;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return ToStringBuilder.reflectionToString(this);
+        }
+    }
+
+    /**
+     * Has a field whose {@code toString()} fails.
+     */
+    static class FailingField {
+        final Object value = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException();
+            }
+        };
+    }
+
     /**
      * Test fixture for ReflectionToStringBuilder.toString() for statics.
      */
@@ -246,6 +285,21 @@ void test_setUpToClass_valid() {
         test.toString();
     }
 
+    /**
+     * Tests that a builder abandoned before {@code toString()} does not keep its object registered or reachable.
+     */
+    @Test
+    void testAbandonedBuilder() throws InterruptedException {
+        final List<WeakReference<Object>> references = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final FailingField object = new FailingField();
+            references.add(new WeakReference<>(object));
+            assertThrows(IllegalStateException.class, () -> new ToStringBuilder(object).append("value", object.value.toString()).toString());
+        }
+        IdentityRegistryTest.awaitCleared(references);
+        assertTrue(ToStringStyle.getRegistry().isEmpty());
+    }
+
     @Test
     void testAppendAsObjectToString() {
         final String objectToAppend1 = "";
@@ -450,6 +504,25 @@ void testAppendSuper() {
         assertEquals(baseStr + "[a=hello]", new ToStringBuilder(base).appendSuper(null).append("a", "hello").toString());
     }
 
+    @Test
+    void testAppendTo() throws IOException {
+        final StringBuilder builder = new StringBuilder("log: ");
+        assertSame(builder, new ToStringBuilder(base).append("a", "hello").appendTo(builder));
+        assertEquals("log: " + baseStr + "[a=hello]", builder.toString());
+        // more than one chunk
+        final int[] array = new int[10_000];
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new ToStringBuilder(base).append("a", array).appendTo(writer));
+        assertEquals(new ToStringBuilder(base).append("a", array).toString(), writer.toString());
+        final CharBuffer charBuffer = CharBuffer.allocate(100);
+        new ToStringBuilder(base).append("a", 1).appendTo((Appendable) charBuffer);
+        charBuffer.flip();
+        assertEquals(baseStr + "[a=1]", charBuffer.toString());
+        assertEquals("<null>", new ToStringBuilder(null).appendTo(new StringBuilder()).toString());
+        assertEquals(new ReflectionToStringBuilder(base).toString(), new ReflectionToStringBuilder(base).appendTo(new StringBuilder()).toString());
+        assertEquals(new ReflectionToStringBuilder(base).toString(), new ReflectionToStringBuilder(base).appendTo(new StringWriter()).toString());
+    }
+
     @Test
     void testAppendToString() {
         assertEquals(baseStr + "[]", new ToStringBuilder(base).appendToString("Integer@8888[]").toString());
@@ -923,6 +996,23 @@ void testReflectionDoubleArrayArray() {
         assertReflectionArray("<null>", array);
     }
 
+    @Test
+    void testReflectionEqualObjects() {
+        final EqualNode first = new EqualNode();
+        first.next = new EqualNode();
+        // an equal object is not a cycle, only the same one is
+        assertEquals(toBaseString(first) + "[next=" + toBaseString(first.next) + "[next=<null>]]", first.toString());
+        first.next.next = first;
+        assertEquals(toBaseString(first) + "[next=" + toBaseString(first.next) + "[next=" + toBaseString(first) + "]]", first.toString());
+    }
+
+    @Test
+    void testReflectionFieldException() {
+        final FailingField object = new FailingField();
+        assertThrows(IllegalStateException.class, () -> ToStringBuilder.reflectionToString(object));
+        assertTrue(ToStringStyle.getRegistry().isEmpty());
+    }
+
     @Test
     void testReflectionFloatArray() {
         float[] array = { 1.0f, 2.9876f, -3.00001f, 4.3f };
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.lang3.text.translate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link CharSequenceTranslator}.
+ */
+@Deprecated
+class CharSequenceTranslatorTest extends AbstractLangTest {
+
+    /**
+     * A Reader that returns one character per read, so that every escape sequence spans buffer refills.
+     */
+    private static final class OneCharReader extends Reader {
+
+        private final String text;
+        private int pos;
+
+        OneCharReader(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void close() {
+            // empty
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            if (pos >= text.length()) {
+                return -1;
+            }
+            cbuf[off] = text.charAt(pos++);
+            return 1;
+        }
+    }
+
+    static Stream<CharSequenceTranslator> translators() {
+        return Stream.of(StringEscapeUtils.ESCAPE_HTML4, StringEscapeUtils.UNESCAPE_HTML4, StringEscapeUtils.ESCAPE_JAVA, StringEscapeUtils.UNESCAPE_JAVA,
+                StringEscapeUtils.ESCAPE_XML10, new OctalUnescaper(), new NumericEntityUnescaper(NumericEntityUnescaper.OPTION.semiColonOptional));
+    }
+
+    private static String translate(final CharSequenceTranslator translator, final Reader reader, final int lookahead) throws IOException {
+        final StringWriter writer = new StringWriter();
+        translator.translateStream(reader, writer, lookahead);
+        return writer.toString();
+    }
+
+    @Test
+    void testIllegalLookahead() {
+        assertThrows(IllegalArgumentException.class, () -> new OctalUnescaper().translateStream(new StringReader(""), new StringWriter(), 0));
+    }
+
+    @Test
+    void testLargeReader() throws IOException {
+        final String input = StringUtils.repeat("a&amp;b&#x41;\u00e9\\u00e9\n", 10_000);
+        final StringWriter writer = new StringWriter();
+        StringEscapeUtils.UNESCAPE_HTML4.translateStream(new StringReader(input), writer);
+        assertEquals(StringEscapeUtils.UNESCAPE_HTML4.translate(input), writer.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("translators")
+    void testReaderAcrossBufferBoundaries(final CharSequenceTranslator translator) throws IOException {
+        final String input = "a&#x41;&#65;&#x1F600;&amp;&lt&eacute;\\101\\7\\377x\\u00e9\\t\"q\"\u00e9\ud83d\ude00&#12";
+        final String expected = translator.translate(input);
+        for (final int lookahead : new int[] { 8, 16, 1024 }) {
+            assertEquals(expected, translate(translator, new OneCharReader(input), lookahead));
+            assertEquals(expected, translate(translator, new StringReader(input), lookahead));
+        }
+        final StringWriter writer = new StringWriter();
+        translator.translateStream(new StringReader(input), writer);
+        assertEquals(expected, writer.toString());
+    }
+}
@@ -40,6 +40,23 @@ void testBasicLookup() throws IOException {
         assertEquals("two", out.toString(), "Incorrect value");
     }
 
+    @Test
+    void testGreedyLookup() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] { { "a", "1" }, { "abc", "3" }, { "ab", "2" } });
+        assertEquals("3", lt.translate("abc"));
+        assertEquals("2d", lt.translate("abd"));
+        assertEquals("1x", lt.translate("ax"));
+        final StringWriter out = new StringWriter();
+        assertEquals(0, lt.translate("xabc", 0, out), "Incorrect code point consumption");
+        assertEquals("", out.toString(), "Incorrect value");
+    }
+
+    @Test
+    void testLaterEntryReplacesEarlier() {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] { { "one", "two" }, { "one", "three" } });
+        assertEquals("three", lt.translate("one"));
+    }
+
     // Tests: https://issues.apache.org/jira/browse/LANG-882
     @Test
     void testLang882() throws IOException {
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link BoundedCache}.
+ */
+class BoundedCacheTest extends AbstractLangTest {
+
+    @Test
+    void testClear() {
+        final BoundedCache<String, String> cache = new BoundedCache<>("test", 2);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.clear();
+        final CacheStatistics statistics = cache.getStatistics();
+        assertEquals(0, statistics.getHitCount());
+        assertEquals(0, statistics.getMissCount());
+        assertEquals(0, statistics.getSize());
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        final AtomicInteger computations = new AtomicInteger();
+        final BoundedCache<String, String> cache = new BoundedCache<>("test", 2);
+        assertEquals("1a", cache.computeIfAbsent("a", k -> computations.incrementAndGet() + k));
+        assertEquals("1a", cache.computeIfAbsent("a", k -> computations.incrementAndGet() + k));
+        assertEquals(1, computations.get());
+        final CacheStatistics statistics = cache.getStatistics();
+        assertEquals("test", statistics.getName());
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(0, statistics.getEvictionCount());
+        assertEquals(1, statistics.getSize());
+        assertEquals(2, statistics.getMaximumSize());
+    }
+
+    @Test
+    void testConcurrentAccessStaysBounded() throws InterruptedException {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>("test", 16);
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            final int seed = t;
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    final Integer key = Integer.valueOf((i * 31 + seed) % 64);
+                    assertEquals(key, cache.computeIfAbsent(key, k -> k));
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+        final CacheStatistics statistics = cache.getStatistics();
+        assertEquals(80_000, statistics.getHitCount() + statistics.getMissCount());
+        assertEquals(statistics.getMissCount() - statistics.getEvictionCount(), cache.size());
+        assertEquals(16, cache.size());
+    }
+
+    @Test
+    void testEvictsEntriesNotReadRecently() {
+        final BoundedCache<String, String> cache = new BoundedCache<>("test", 2);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.computeIfAbsent("b", String::toUpperCase);
+        cache.computeIfAbsent("c", String::toUpperCase);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+        // the survivors were given a second chance, reading one protects it from the next eviction
+        final String survivor = cache.computeIfAbsent("c", k -> "recomputed");
+        cache.computeIfAbsent("d", String::toUpperCase);
+        assertEquals(survivor, cache.computeIfAbsent("c", k -> "recomputed"));
+        assertEquals(2, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    void testMaximumSize() {
+        final BoundedCache<String, String> cache = new BoundedCache<>("test", 3);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.computeIfAbsent("b", String::toUpperCase);
+        cache.computeIfAbsent("c", String::toUpperCase);
+        cache.setMaximumSize(1);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getMaximumSize());
+        assertEquals(2, cache.getStatistics().getEvictionCount());
+        cache.setMaximumSize(0);
+        assertEquals("E", cache.computeIfAbsent("e", String::toUpperCase));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>("test", -1));
+    }
+}
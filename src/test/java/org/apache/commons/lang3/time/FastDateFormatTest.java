@@ -21,6 +21,8 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.text.FieldPosition;
@@ -32,6 +34,7 @@
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
@@ -209,6 +212,44 @@ void test_getInstance_String_TimeZone_Locale() {
         assertEquals(Locale.GERMANY, format3.getLocale());
     }
 
+    @Test
+    void testCacheMaximumSize() {
+        FastDateFormat.clear();
+        try {
+            FastDateFormat.setCacheMaximumSize(2);
+            final FastDateFormat first = FastDateFormat.getInstance("yyyy", TimeZones.GMT, Locale.US);
+            assertSame(first, FastDateFormat.getInstance("yyyy", TimeZones.GMT, Locale.US));
+            FastDateFormat.getInstance("MM", TimeZones.GMT, Locale.US);
+            FastDateFormat.getInstance("dd", TimeZones.GMT, Locale.US);
+            final CacheStatistics statistics = FastDateFormat.getCacheStatistics().get(0);
+            assertEquals(1, statistics.getHitCount());
+            assertEquals(3, statistics.getMissCount());
+            assertEquals(1, statistics.getEvictionCount());
+            assertEquals(2, statistics.getSize());
+            assertEquals(2, statistics.getMaximumSize());
+            FastDateFormat.setCacheMaximumSize(0);
+            assertEquals(0, FastDateFormat.getCacheStatistics().get(0).getSize());
+            assertNotSame(FastDateFormat.getInstance("yyyy", TimeZones.GMT, Locale.US), FastDateFormat.getInstance("yyyy", TimeZones.GMT, Locale.US));
+            assertThrows(IllegalArgumentException.class, () -> FastDateFormat.setCacheMaximumSize(-1));
+        } finally {
+            FastDateFormat.setCacheMaximumSize(BoundedCache.DEFAULT_MAXIMUM_SIZE);
+        }
+    }
+
+    @Test
+    void testCacheStatistics() {
+        FastDateFormat.clear();
+        FastDateParser.clear();
+        FastDatePrinter.clear();
+        final FastDateFormat format = FastDateFormat.getDateTimeInstance(FastDateFormat.FULL, FastDateFormat.FULL, TimeZones.GMT, Locale.US);
+        format.format(0L);
+        format.format(0L);
+        final List<CacheStatistics> statistics = FastDateFormat.getCacheStatistics();
+        assertEquals(4, statistics.size());
+        statistics.forEach(s -> assertTrue(s.getMissCount() > 0, s::toString));
+        assertEquals(2, statistics.get(2).getHitCount(), statistics.get(2)::toString);
+    }
+
     @Test
     void testCheckDefaults() {
         final FastDateFormat format = FastDateFormat.getInstance();
@@ -115,6 +115,17 @@ void clear() {
         FastDatePrinter.clear();
     }
 
+    static void assertParseMatchesCalendar(final DateParser dateParser, final String source) {
+        final Calendar calendar = Calendar.getInstance(dateParser.getTimeZone(), dateParser.getLocale());
+        calendar.clear();
+        final ParsePosition expectedPos = new ParsePosition(0);
+        final Date expected = dateParser.parse(source, expectedPos, calendar) ? calendar.getTime() : null;
+        final ParsePosition actualPos = new ParsePosition(0);
+        assertEquals(expected, dateParser.parse(source, actualPos), source);
+        assertEquals(expectedPos.getIndex(), actualPos.getIndex(), source);
+        assertEquals(expectedPos.getErrorIndex(), actualPos.getErrorIndex(), source);
+    }
+
     static void checkParse(final Locale locale, final Calendar cal, final SimpleDateFormat simpleDateFormat,
             final DateParser dateParser) {
         final String formattedDate = simpleDateFormat.format(cal.getTime());
@@ -517,6 +528,34 @@ void testParseNumerics(final TriFunction<String, TimeZone, Locale, DateParser> d
         assertEquals(cal.getTime(), fdf.parse("20030210153320989"));
     }
 
+    /**
+     * Tests that numeric patterns, which parse without a Calendar, give the same result as parsing into one.
+     */
+    @Test
+    void testParseNumericsMatchesCalendar() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yyyyMMddHHmmssSSS", "yy-M-d k:m:s", "dd/MM/yyyy HH:mm:ss.SSSXXX", "yyyy-MM-dd HH:mmX"};
+        final TimeZone[] zones = {TimeZones.GMT, NEW_YORK, INDIA, TimeZone.getTimeZone("Australia/Lord_Howe")};
+        for (final String pattern : patterns) {
+            for (final TimeZone zone : zones) {
+                final SimpleDateFormat sdf = new SimpleDateFormat(pattern, Locale.US);
+                sdf.setTimeZone(zone);
+                final DateParser parser = getInstance(null, pattern, zone, Locale.US);
+                // every DST transition of 2024 and 2025
+                for (long millis = 1_704_067_200_000L; millis < 1_767_225_600_000L; millis += 7 * DateUtils.MILLIS_PER_HOUR + 13 * DateUtils.MILLIS_PER_MINUTE + 1001) {
+                    assertParseMatchesCalendar(parser, sdf.format(new Date(millis)));
+                }
+            }
+        }
+        final DateParser parser = getInstance(null, "yyyy-MM-dd HH:mm:ss", NEW_YORK, Locale.US);
+        // rolled over fields, skipped and repeated local times, Julian dates, surrounding white space and non-ASCII digits
+        final String[] sources = {"2024-13-32 25:61:61", "2024-00-00 00:00:00", "2024-03-10 02:30:00", "2024-11-03 01:30:00", "1582-10-10 12:00:00",
+            "1583-00-01 00:00:00", "1850-06-01 00:00:00", "99999-01-01 00:00:00", " 2024- 1- 2  3: 4: 5", "2024-01-01 00:00:00 trailing",
+            "\u0662\u0660\u0662\u0664-01-01 00:00:00", "2024-01-01 00:00", "2024-01-01 0a:00:00"};
+        for (final String source : sources) {
+            assertParseMatchesCalendar(parser, source);
+        }
+    }
+
     @Test
     void testParseOffset() {
         final DateParser parser = getInstance(YMD_SLASH);
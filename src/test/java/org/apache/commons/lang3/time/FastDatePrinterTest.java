@@ -22,8 +22,12 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
 import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -215,6 +219,73 @@ void testFormat() {
         assertEquals(sdf.format(date2).replace("2003 03 03 03", "2003 2003 03 2003"), fdf.format(date2));
     }
 
+    @Test
+    void testFormatCharArray() {
+        final FastDatePrinter printer = new FastDatePrinter("yyyy-MM-dd HH:mm:ss.SSS", TimeZones.GMT, Locale.US);
+        final char[] buffer = new char[32];
+        assertEquals(23, printer.format(1_700_000_000_123L, buffer, 2));
+        assertEquals("2023-11-14 22:13:20.123", new String(buffer, 2, 23));
+        assertThrows(BufferOverflowException.class, () -> printer.format(0, new char[10], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> printer.format(0, buffer, 33));
+
+        // text fields go through a Calendar
+        final FastDatePrinter text = new FastDatePrinter("EEE, dd MMM yyyy z", TimeZones.GMT, Locale.US);
+        assertEquals("Tue, 14 Nov 2023 GMT", new String(buffer, 0, text.format(1_700_000_000_123L, buffer, 0)));
+    }
+
+    /**
+     * Tests that formatting epoch milliseconds without a Calendar matches formatting with one.
+     */
+    @Test
+    void testFormatMillisMatchesCalendar() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yy M d D h K k H m s S ZZ X XX XXX", "yyyyy/MM/dd HH:mm:ss.SSSS ZZZ 'at' D"};
+        final TimeZone[] zones = {TimeZones.GMT, NEW_YORK, INDIA, TimeZone.getTimeZone("Australia/Lord_Howe"), TimeZone.getTimeZone("Pacific/Apia")};
+        // the epoch, the Gregorian cutover, its year end, year 1 and the end of year 9999
+        final long[] instants = {0, -1, -12_219_292_800_000L, -12_219_292_800_001L, -12_212_553_600_000L, -12_212_553_600_001L, -62_135_769_600_000L,
+            253_402_300_799_999L, 253_402_300_800_000L};
+        for (final String pattern : patterns) {
+            for (final TimeZone zone : zones) {
+                final DatePrinter printer = getInstance(pattern, zone, Locale.US);
+                final Calendar calendar = Calendar.getInstance(zone, Locale.US);
+                for (final long millis : instants) {
+                    calendar.setTimeInMillis(millis);
+                    assertEquals(printer.format(calendar), printer.format(millis), () -> pattern + " " + zone.getID() + " " + millis);
+                }
+                // instants 7h13m1.001s apart through 2024 and 2025
+                for (long millis = 1_704_067_200_000L; millis < 1_767_225_600_000L; millis += 7 * DateUtils.MILLIS_PER_HOUR + 13 * DateUtils.MILLIS_PER_MINUTE + 1001) {
+                    calendar.setTimeInMillis(millis);
+                    assertEquals(printer.format(calendar), printer.format(millis), pattern + " " + zone.getID());
+                }
+                // around every offset transition from 1850 to 2030
+                final ZoneRules rules = zone.toZoneId().getRules();
+                for (ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("1850-01-01T00:00:00Z"));
+                        transition != null && transition.getInstant().getEpochSecond() < 1_893_456_000L;
+                        transition = rules.nextTransition(transition.getInstant())) {
+                    for (long millis = transition.toEpochSecond() * 1000 - 1; millis <= transition.toEpochSecond() * 1000; millis++) {
+                        calendar.setTimeInMillis(millis);
+                        assertEquals(printer.format(calendar), printer.format(millis), pattern + " " + zone.getID() + " " + millis);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that an offset window cached after 1900 is not reused before 1900, where zones use local mean time.
+     */
+    @Test
+    void testFormatMillisBefore1900() {
+        for (final String id : new String[] {"Australia/Lord_Howe", "Asia/Kolkata", "Pacific/Apia"}) {
+            final TimeZone zone = TimeZone.getTimeZone(id);
+            final FastDatePrinter printer = new FastDatePrinter("yyyy-MM-dd HH:mm:ssZ", zone, Locale.US);
+            final Calendar calendar = Calendar.getInstance(zone, Locale.US);
+            for (final long millis : new long[] {0, -2_217_577_823_340L, -2_208_988_800_001L, -2_208_988_800_000L, 0, -2_240_524_800_000L}) {
+                calendar.setTimeInMillis(millis);
+                assertEquals(printer.format(calendar), printer.format(millis), () -> id + " " + millis);
+            }
+        }
+    }
+
     @Test
     void testHourFormats() {
         final Calendar calendar = Calendar.getInstance();